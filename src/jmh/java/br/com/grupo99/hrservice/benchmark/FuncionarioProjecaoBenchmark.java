@@ -0,0 +1,90 @@
+package br.com.grupo99.hrservice.benchmark;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Custo de leitura de funcionários para resposta da API, em H2 em memória.
+ * <p>
+ * {@code entidade} reproduz o caminho antigo (entidade gerenciada, snapshot de
+ * dirty checking, flush no commit e cópia via fromDomain); {@code projecao} é
+ * o SELECT NEW direto no record usado hoje por buscarPorId e listarTodos.
+ * {@code linhas=1} corresponde ao buscarPorId e {@code linhas=50} a uma página
+ * padrão. Execução com alocação:
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.args="FuncionarioProjecao -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuncionarioProjecaoBenchmark {
+
+    private static final int TOTAL = 1_000;
+    private static final String ORDEM = " ORDER BY f.createdAt, f.pessoaId";
+    // Um atributo por componente do record, na ordem do construtor canônico,
+    // como FuncionarioRepositoryAdapter.projetar(): acompanha mudanças no DTO
+    private static final String PROJECAO = "SELECT new " + FuncionarioResponseDTO.class.getName()
+            + Arrays.stream(FuncionarioResponseDTO.class.getRecordComponents())
+                    .map(componente -> "f." + componente.getName())
+                    .collect(Collectors.joining(", ", "(", ")"))
+            + " FROM Funcionario f";
+
+    @Param({ "1", "50" })
+    public int linhas;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Funcionario.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:projecao;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < TOTAL; i++) {
+                session.persist(new Funcionario(UUID.randomUUID(), LocalDate.now().minusDays(i),
+                        "Setor " + (i % 20), "Cargo " + (i % 50), new BigDecimal(1500 + i)));
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<FuncionarioResponseDTO> entidade() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery("FROM Funcionario f" + ORDEM, Funcionario.class)
+                .setMaxResults(linhas)
+                .getResultList()
+                .stream()
+                .map(FuncionarioResponseDTO::fromDomain)
+                .toList());
+    }
+
+    @Benchmark
+    public List<FuncionarioResponseDTO> projecao() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery(PROJECAO + ORDEM, FuncionarioResponseDTO.class)
+                .setMaxResults(linhas)
+                .getResultList());
+    }
+}
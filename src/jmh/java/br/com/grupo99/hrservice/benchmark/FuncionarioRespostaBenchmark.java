@@ -0,0 +1,57 @@
+package br.com.grupo99.hrservice.benchmark;
+
+import br.com.grupo99.hrservice.adapter.config.ApplicationConfig;
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem e serialização da resposta de um funcionário, com o mesmo
+ * ObjectMapper do {@link ApplicationConfig}.
+ * Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="FuncionarioResposta -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuncionarioRespostaBenchmark {
+
+    private Funcionario funcionario;
+    private FuncionarioResponseDTO dto;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        funcionario = new Funcionario(UUID.randomUUID(), LocalDate.now().minusYears(2), "Oficina", "Mecânico",
+                new BigDecimal("4500.00"));
+        dto = new FuncionarioResponseDTO(funcionario.getPessoaId(), funcionario.getDataAdmissao(),
+                funcionario.getSetor(), funcionario.getCargo(), funcionario.getSalario(), true,
+                LocalDateTime.now().minusDays(30), LocalDateTime.now(), 3L);
+        objectMapper = new ApplicationConfig().objectMapper();
+    }
+
+    @Benchmark
+    public FuncionarioResponseDTO fromDomain() {
+        return FuncionarioResponseDTO.fromDomain(funcionario);
+    }
+
+    @Benchmark
+    public byte[] serializar() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] fromDomainESerializar() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(FuncionarioResponseDTO.fromDomain(funcionario));
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.grupo99.hrservice.benchmark;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.application.service.FuncionarioApplicationService;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * As três validações de uma criação: Bean Validation do {@code @Valid} no
+ * controller, validarCamposObrigatorios do serviço (privado, chamado por
+ * MethodHandle) e o construtor de {@link Funcionario}. {@code caminhoCompleto}
+ * soma as três, como em POST /api/v1/funcionarios.
+ * Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="FuncionarioValidacao -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuncionarioValidacaoBenchmark {
+
+    private static final MethodHandle VALIDAR_CAMPOS_OBRIGATORIOS;
+
+    static {
+        try {
+            VALIDAR_CAMPOS_OBRIGATORIOS = MethodHandles
+                    .privateLookupIn(FuncionarioApplicationService.class, MethodHandles.lookup())
+                    .findVirtual(FuncionarioApplicationService.class, "validarCamposObrigatorios",
+                            MethodType.methodType(void.class, FuncionarioRequestDTO.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private FuncionarioApplicationService service;
+    private FuncionarioRequestDTO requisicao;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        // Só a validação é exercitada; as dependências não são usadas
+        service = new FuncionarioApplicationService(null, null, null, null);
+        requisicao = new FuncionarioRequestDTO(UUID.randomUUID(), LocalDate.now().minusYears(1), "Oficina",
+                "Mecânico", new BigDecimal("4500.00"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FuncionarioRequestDTO>> beanValidation() {
+        return validator.validate(requisicao);
+    }
+
+    @Benchmark
+    public void validarCamposObrigatorios() throws Throwable {
+        VALIDAR_CAMPOS_OBRIGATORIOS.invokeExact(service, requisicao);
+    }
+
+    @Benchmark
+    public Funcionario construtorDoDominio() {
+        return new Funcionario(requisicao.pessoaId(), requisicao.dataAdmissao(), requisicao.setor(),
+                requisicao.cargo(), requisicao.salario());
+    }
+
+    @Benchmark
+    public void caminhoCompleto(Blackhole bh) throws Throwable {
+        bh.consume(validator.validate(requisicao));
+        VALIDAR_CAMPOS_OBRIGATORIOS.invokeExact(service, requisicao);
+        bh.consume(new Funcionario(requisicao.pessoaId(), requisicao.dataAdmissao(), requisicao.setor(),
+                requisicao.cargo(), requisicao.salario()));
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.grupo99.hrservice.benchmark;
+
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trabalho feito sobre os claims já verificados a cada requisição autenticada:
+ * montagem do {@link JwtUserDetails} e checagem de validade. O parse com HMAC
+ * fica no {@link JwtVerificationBenchmark}.
+ * Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="JwtClaims -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtClaimsBenchmark {
+
+    private static final String SECRET = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY3ODkwYWJjZGVmZw==";
+
+    private JwtUtil jwtUtil;
+    private Claims claims;
+    private JwtUserDetails userDetails;
+    private String pessoaId;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, 3600000);
+        pessoaId = UUID.randomUUID().toString();
+        Map<String, Object> extras = new HashMap<>();
+        extras.put("pessoaId", pessoaId);
+        extras.put("numeroDocumento", "12345678900");
+        extras.put("tipoPessoa", "FISICA");
+        extras.put("perfil", "ADMIN");
+        String token = jwtUtil.generateToken(extras,
+                JwtUserDetails.from("admin@oficina.com", pessoaId, "12345678900", "FISICA", null, "ADMIN"));
+        claims = jwtUtil.parseClaims(token);
+        userDetails = jwtUtil.extractUserDetails(claims);
+    }
+
+    @Benchmark
+    public JwtUserDetails extractUserDetails() {
+        return jwtUtil.extractUserDetails(claims);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(claims, userDetails);
+    }
+
+    @Benchmark
+    public JwtUserDetails userDetailsFrom() {
+        return JwtUserDetails.from("admin@oficina.com", pessoaId, "12345678900", "FISICA", null, "ADMIN");
+    }
+}
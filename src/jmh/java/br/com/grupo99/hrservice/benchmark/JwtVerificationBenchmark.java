@@ -0,0 +1,68 @@
+package br.com.grupo99.hrservice.benchmark;
+
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição da verificação JWT nos filtros de segurança.
+ * <p>
+ * {@code porClaim} reproduz o pipeline antigo (um parse + HMAC por claim lido:
+ * seis em extractUserDetails, dois em isTokenValid e dois no
+ * JwtAuthorizationFilter); {@code parseUnico} é o pipeline atual.
+ * Execução com alocação: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="JwtVerification -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY3ODkwYWJjZGVmZw==";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, 3600000);
+        String pessoaId = UUID.randomUUID().toString();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", pessoaId);
+        claims.put("numeroDocumento", "12345678900");
+        claims.put("tipoPessoa", "FISICA");
+        claims.put("perfil", "ADMIN");
+        token = jwtUtil.generateToken(claims,
+                JwtUserDetails.from("admin@oficina.com", pessoaId, "12345678900", "FISICA", null, "ADMIN"));
+    }
+
+    @Benchmark
+    public void porClaim(Blackhole bh) {
+        JwtUserDetails userDetails = JwtUserDetails.from(jwtUtil.extractUsername(token),
+                jwtUtil.extractPessoaId(token), jwtUtil.extractNumeroDocumento(token),
+                jwtUtil.extractTipoPessoa(token), jwtUtil.extractCargo(token), jwtUtil.extractPerfil(token));
+        boolean valido = jwtUtil.extractUsername(token).equals(userDetails.getUsername())
+                && jwtUtil.extractClaim(token, Claims::getExpiration).getTime() > System.currentTimeMillis();
+        bh.consume(valido);
+        bh.consume(jwtUtil.extractPerfil(token));
+        bh.consume(jwtUtil.extractPessoaId(token));
+    }
+
+    @Benchmark
+    public void parseUnico(Blackhole bh) {
+        Claims claims = jwtUtil.parseClaims(token);
+        JwtUserDetails userDetails = jwtUtil.extractUserDetails(claims);
+        bh.consume(jwtUtil.isTokenValid(claims, userDetails));
+        bh.consume(userDetails.getPerfil());
+        bh.consume(userDetails.getPessoaId());
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.grupo99.hrservice.benchmark;
+
+import br.com.grupo99.hrservice.infrastructure.security.limite.LimitadorDeRequisicoes;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição do limite de requisições com 8 threads.
+ * <p>
+ * {@code mesmoUsuario} concentra todas as threads no mesmo balde (pior caso
+ * de disputa no CAS); {@code usuariosDistintos} é o caso comum, um balde por
+ * thread; {@code comRegraDeEndpoint} soma o casamento do caminho e o segundo
+ * balde. Os limites são altos para medir só o caminho que deixa passar.
+ * Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="LimiteDeRequisicoes -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LimiteDeRequisicoesBenchmark {
+
+    private static final String SEM_LIMITE = "1000000000000:1000000000";
+
+    private LimitadorDeRequisicoes limitador;
+    private UUID compartilhado;
+
+    @State(Scope.Thread)
+    public static class Usuario {
+        UUID pessoaId = UUID.randomUUID();
+    }
+
+    @Setup
+    public void setup() {
+        limitador = new LimitadorDeRequisicoes(LimitadorDeRequisicoes.Limite.de(SEM_LIMITE),
+                LimitadorDeRequisicoes.perfis("ADMIN=" + SEM_LIMITE),
+                LimitadorDeRequisicoes.regras("GET /api/v1/funcionarios/export=" + SEM_LIMITE),
+                Duration.ofMinutes(10), 100_000, System::nanoTime);
+        compartilhado = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public LimitadorDeRequisicoes.Rejeicao mesmoUsuario() {
+        return limitador.consumir(compartilhado, "ADMIN", "GET", "/api/v1/funcionarios");
+    }
+
+    @Benchmark
+    public LimitadorDeRequisicoes.Rejeicao usuariosDistintos(Usuario usuario) {
+        return limitador.consumir(usuario.pessoaId, "ADMIN", "GET", "/api/v1/funcionarios");
+    }
+
+    @Benchmark
+    public LimitadorDeRequisicoes.Rejeicao comRegraDeEndpoint(Usuario usuario) {
+        return limitador.consumir(usuario.pessoaId, "ADMIN", "GET", "/api/v1/funcionarios/export");
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.grupo99.hrservice.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parâmetros da carga, lidos do Environment (qualquer {@code --carga.*} da
+ * linha de comando).
+ *
+ * @param funcionarios tamanho do roster sintético (10000, 1000000, 10000000...)
+ * @param clientes     clientes concorrentes em laço fechado
+ * @param aquecimento  tempo inicial descartado das medições
+ * @param duracao      tempo medido
+ * @param amostraIds   quantos pessoaId existentes sorteados por buscarPorId,
+ *                     atualizar e desativar
+ * @param tamanhoLote  itens por requisição de criarEmLote
+ * @param mix          peso de cada operação
+ * @param relatorio    arquivo JSON gerado
+ */
+record CargaConfig(long funcionarios, int clientes, Duration aquecimento, Duration duracao, int amostraIds,
+        int tamanhoLote, Map<Operacao, Integer> mix, Path relatorio) {
+
+    static final String MIX_PADRAO = "listar:20,buscarPorId:35,buscar:15,criar:8,criarEmLote:2,"
+            + "atualizar:10,desativar:5,deletar:5,exportar:0";
+
+    static CargaConfig de(Environment environment) {
+        return new CargaConfig(
+                environment.getProperty("carga.funcionarios", Long.class, 10_000L),
+                environment.getProperty("carga.clientes", Integer.class, 64),
+                environment.getProperty("carga.aquecimento", Duration.class, Duration.ofSeconds(15)),
+                environment.getProperty("carga.duracao", Duration.class, Duration.ofSeconds(60)),
+                environment.getProperty("carga.amostra-ids", Integer.class, 10_000),
+                environment.getProperty("carga.tamanho-lote", Integer.class, 20),
+                mix(environment.getProperty("carga.mix", MIX_PADRAO)),
+                Path.of(environment.getProperty("carga.relatorio", "target/carga/relatorio.json")));
+    }
+
+    private static Map<Operacao, Integer> mix(String valor) {
+        Map<Operacao, Integer> pesos = new EnumMap<>(Operacao.class);
+        for (String item : valor.split(",")) {
+            String[] partes = item.trim().split(":");
+            if (partes.length != 2) {
+                throw new IllegalArgumentException("Item inválido em carga.mix: " + item);
+            }
+            int peso = Integer.parseInt(partes[1].trim());
+            if (peso > 0) {
+                pesos.put(Operacao.porNome(partes[0].trim()), peso);
+            }
+        }
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("carga.mix sem operações com peso positivo");
+        }
+        return pesos;
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.grupo99.hrservice.loadtest;
+
+import br.com.grupo99.hrservice.HRServiceApplication;
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService;
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Teste de carga HTTP do FuncionarioController com roster sintético.
+ * <p>
+ * Sobe a aplicação no mesmo processo (porta aleatória, H2 em arquivo por
+ * padrão), popula funcionarios, assina um JWT de ADMIN com
+ * {@link JwtUtil#generateToken} e dispara o mix configurado, gravando um
+ * relatório JSON com throughput e latências por endpoint.
+ * <p>
+ * Execução ({@code mvn -Ploadtest test-compile exec:exec}):
+ * <pre>
+ * -Dcarga.args="--carga.funcionarios=1000000 --carga.clientes=128 --carga.duracao=2m"
+ * -Dcarga.args="--carga.mix=buscarPorId:80,listar:20"
+ * -Dcarga.args="--spring.profiles.active=local-postgres --spring.datasource.url=jdbc:postgresql://localhost:5432/hr_db"
+ * -Dcarga.jvm.args="-Xmx512m -XX:ActiveProcessorCount=1"   (aproxima os limites do deployment)
+ * </pre>
+ * Qualquer propriedade da aplicação pode ser sobrescrita do mesmo jeito.
+ * Clientes e aplicação dividem a JVM: para dimensionar o pod, compare
+ * execuções com os mesmos parâmetros em vez de ler os números isoladamente.
+ */
+public final class CargaHarness {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargaHarness.class);
+
+    private static final Map<String, String> PADROES = Map.of(
+            "spring.profiles.active", "test",
+            "spring.datasource.url", "jdbc:h2:file:./target/h2/carga;LAZY_QUERY_EXECUTION=TRUE",
+            "server.port", "0",
+            "scheduling.enabled", "false",
+            "jwt.expiration.ms", "86400000",
+            "limite.requisicoes.enabled", "false",
+            "logging.level.root", "WARN",
+            "logging.level.br.com.grupo99.hrservice.loadtest", "INFO");
+
+    private CargaHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext contexto = SpringApplication.run(HRServiceApplication.class,
+                argumentos(args))) {
+            CargaConfig config = CargaConfig.de(contexto.getEnvironment());
+            RosterSintetico roster = new RosterSintetico(contexto.getBean(JdbcTemplate.class));
+            roster.popular(config.funcionarios());
+            // O INSERT direto não passa pelos deltas do resumo salarial
+            contexto.getBean(ResumoSalarialApplicationService.class).reconciliar();
+            List<UUID> amostra = roster.amostra(config.amostraIds());
+
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            ObjectMapper objectMapper = contexto.getBean(ObjectMapper.class);
+            ExecucaoCarga execucao = new ExecucaoCarga(config, URI.create("http://localhost:" + porta),
+                    gerarToken(contexto.getBean(JwtUtil.class)), objectMapper, amostra);
+            logger.info("Carga contra {} ({} funcionários, mix {})", roster.banco(), config.funcionarios(),
+                    config.mix());
+            execucao.executar().comBanco(roster.banco()).gravar(objectMapper);
+        }
+    }
+
+    /**
+     * Junta os padrões da carga com os --chave=valor da linha de comando; os
+     * argumentos sempre vencem.
+     */
+    private static String[] argumentos(String[] args) {
+        Map<String, String> propriedades = new LinkedHashMap<>(PADROES);
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (!arg.startsWith("--") || igual < 0) {
+                throw new IllegalArgumentException("Argumento deve ter a forma --chave=valor: " + arg);
+            }
+            propriedades.put(arg.substring(2, igual), arg.substring(igual + 1));
+        }
+        return propriedades.entrySet().stream()
+                .map(entrada -> "--" + entrada.getKey() + "=" + entrada.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static String gerarToken(JwtUtil jwtUtil) {
+        String pessoaId = UUID.randomUUID().toString();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", pessoaId);
+        claims.put("numeroDocumento", "12345678900");
+        claims.put("tipoPessoa", "FISICA");
+        claims.put("perfil", "ADMIN");
+        return jwtUtil.generateToken(claims,
+                JwtUserDetails.from("carga@oficina.com", pessoaId, "12345678900", "FISICA", null, "ADMIN"));
+    }
+}
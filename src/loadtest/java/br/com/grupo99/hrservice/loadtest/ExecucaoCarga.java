@@ -0,0 +1,224 @@
+package br.com.grupo99.hrservice.loadtest;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Clientes em laço fechado (um por virtual thread) sorteando operações pelo
+ * mix configurado. Só as respostas concluídas depois do aquecimento entram no
+ * histograma (HdrHistogram, em microssegundos) e nas contagens por status.
+ */
+final class ExecucaoCarga {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecucaoCarga.class);
+    private static final String API = "/api/v1/funcionarios";
+
+    private final CargaConfig config;
+    private final URI base;
+    private final String autorizacao;
+    private final ObjectMapper objectMapper;
+    private final List<UUID> amostra;
+    private final Queue<UUID> criados = new ConcurrentLinkedQueue<>();
+    private final Map<Operacao, Estatistica> estatisticas = new EnumMap<>(Operacao.class);
+    private final Operacao[] roleta;
+    private volatile boolean medindo;
+
+    ExecucaoCarga(CargaConfig config, URI base, String token, ObjectMapper objectMapper, List<UUID> amostra) {
+        if (amostra.isEmpty()) {
+            throw new IllegalStateException("Nenhum funcionário ativo para sortear; aumente carga.funcionarios");
+        }
+        this.config = config;
+        this.base = base;
+        this.autorizacao = "Bearer " + token;
+        this.objectMapper = objectMapper;
+        this.amostra = List.copyOf(amostra);
+        List<Operacao> fatias = new ArrayList<>();
+        config.mix().forEach((operacao, peso) -> {
+            estatisticas.put(operacao, new Estatistica());
+            for (int i = 0; i < peso; i++) {
+                fatias.add(operacao);
+            }
+        });
+        this.roleta = fatias.toArray(new Operacao[0]);
+    }
+
+    RelatorioCarga executar() throws Exception {
+        try (ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clientes)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build()) {
+            long fim = System.nanoTime() + config.aquecimento().toNanos() + config.duracao().toNanos();
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int i = 0; i < config.clientes(); i++) {
+                tarefas.add(clientes.submit(() -> cliente(http, fim)));
+            }
+            logger.info("Aquecendo por {} com {} clientes", config.aquecimento(), config.clientes());
+            Thread.sleep(config.aquecimento().toMillis());
+            estatisticas.values().forEach(Estatistica::zerar);
+            medindo = true;
+            long inicioMedicao = System.nanoTime();
+            logger.info("Medindo por {}", config.duracao());
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+            medindo = false;
+            Duration medido = Duration.ofNanos(System.nanoTime() - inicioMedicao);
+            return new RelatorioCarga(config, medido, estatisticas);
+        }
+    }
+
+    private Void cliente(HttpClient http, long fim) throws InterruptedException {
+        while (System.nanoTime() < fim) {
+            Operacao operacao = roleta[ThreadLocalRandom.current().nextInt(roleta.length)];
+            Optional<Chamada> chamada = chamada(operacao);
+            if (chamada.isEmpty()) {
+                continue;
+            }
+            long antes = System.nanoTime();
+            int status;
+            try {
+                status = http.send(chamada.get().requisicao(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = 0;
+            }
+            long latencia = System.nanoTime() - antes;
+            if (status >= 200 && status < 300) {
+                criados.addAll(chamada.get().criados());
+            }
+            if (medindo) {
+                estatisticas.get(operacao).registrar(latencia, status);
+            }
+        }
+        return null;
+    }
+
+    private Optional<Chamada> chamada(Operacao operacao) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        UUID existente = amostra.get(aleatorio.nextInt(amostra.size()));
+        int setor = aleatorio.nextInt(20);
+        int cargo = aleatorio.nextInt(50);
+        return switch (operacao) {
+            case LISTAR -> Chamada.de(get(API + "?tamanho=20&setor=Setor%20" + setor));
+            case BUSCAR_POR_ID -> Chamada.de(get(API + "/" + existente));
+            case BUSCAR -> Chamada.de(get(API + "/search?setor=Setor%20" + setor + "&cargo=Cargo%20" + cargo
+                    + "&ordenarPor=salario&direcao=desc&tamanho=20"));
+            case EXPORTAR -> Chamada.de(get(API + "/export"));
+            case CRIAR -> {
+                UUID pessoaId = UUID.randomUUID();
+                yield Optional.of(new Chamada(comCorpo("POST", API, novo(pessoaId, setor, cargo)),
+                        List.of(pessoaId)));
+            }
+            case CRIAR_EM_LOTE -> {
+                List<FuncionarioRequestDTO> lote = new ArrayList<>(config.tamanhoLote());
+                for (int i = 0; i < config.tamanhoLote(); i++) {
+                    lote.add(novo(UUID.randomUUID(), setor, aleatorio.nextInt(50)));
+                }
+                yield Optional.of(new Chamada(comCorpo("POST", API + "/batch", lote),
+                        lote.stream().map(FuncionarioRequestDTO::pessoaId).toList()));
+            }
+            case ATUALIZAR -> Chamada.de(comCorpo("PUT", API + "/" + existente, novo(existente, setor, cargo)));
+            case DESATIVAR -> Chamada.de(HttpRequest.newBuilder(base.resolve(API + "/" + existente + "/desativar"))
+                    .header("Authorization", autorizacao)
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build());
+            // Remove só funcionários criados pela própria carga, para não esvaziar a amostra
+            case DELETAR -> Optional.ofNullable(criados.poll())
+                    .map(pessoaId -> new Chamada(HttpRequest.newBuilder(base.resolve(API + "/" + pessoaId))
+                            .header("Authorization", autorizacao)
+                            .DELETE()
+                            .build(), List.of()));
+        };
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(base.resolve(caminho))
+                .header("Authorization", autorizacao)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest comCorpo(String metodo, String caminho, Object corpo) {
+        try {
+            return HttpRequest.newBuilder(base.resolve(caminho))
+                    .header("Authorization", autorizacao)
+                    .header("Content-Type", "application/json")
+                    .method(metodo, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FuncionarioRequestDTO novo(UUID pessoaId, int setor, int cargo) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        return new FuncionarioRequestDTO(pessoaId, LocalDate.now().minusDays(aleatorio.nextInt(3650)),
+                "Setor " + setor, "Cargo " + cargo, BigDecimal.valueOf(1500 + aleatorio.nextInt(9000)));
+    }
+
+    /**
+     * Requisição a enviar e os pessoaId que ela cria, liberados para DELETE
+     * quando a resposta for 2xx.
+     */
+    private record Chamada(HttpRequest requisicao, List<UUID> criados) {
+        static Optional<Chamada> de(HttpRequest requisicao) {
+            return Optional.of(new Chamada(requisicao, List.of()));
+        }
+    }
+
+    /**
+     * Latências e status de uma operação. O Recorder aceita gravações
+     * concorrentes sem lock; zerar() descarta o aquecimento.
+     */
+    static final class Estatistica {
+        private final Recorder latencias = new Recorder(3);
+        private final Map<Integer, LongAdder> porStatus = new ConcurrentHashMap<>();
+
+        void registrar(long latenciaNanos, int status) {
+            latencias.recordValue(TimeUnit.NANOSECONDS.toMicros(latenciaNanos));
+            porStatus.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        void zerar() {
+            latencias.reset();
+            porStatus.clear();
+        }
+
+        Recorder latencias() {
+            return latencias;
+        }
+
+        Map<Integer, LongAdder> porStatus() {
+            return porStatus;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.grupo99.hrservice.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Endpoints do FuncionarioController exercitados pela carga. O nome é o usado
+ * em carga.mix (ex.: {@code listar:25,buscarPorId:35}).
+ */
+enum Operacao {
+    LISTAR("listar", "GET /api/v1/funcionarios"),
+    BUSCAR_POR_ID("buscarPorId", "GET /api/v1/funcionarios/{pessoaId}"),
+    BUSCAR("buscar", "GET /api/v1/funcionarios/search"),
+    EXPORTAR("exportar", "GET /api/v1/funcionarios/export"),
+    CRIAR("criar", "POST /api/v1/funcionarios"),
+    CRIAR_EM_LOTE("criarEmLote", "POST /api/v1/funcionarios/batch"),
+    ATUALIZAR("atualizar", "PUT /api/v1/funcionarios/{pessoaId}"),
+    DESATIVAR("desativar", "PATCH /api/v1/funcionarios/{pessoaId}/desativar"),
+    DELETAR("deletar", "DELETE /api/v1/funcionarios/{pessoaId}");
+
+    private final String nome;
+    private final String rota;
+
+    Operacao(String nome, String rota) {
+        this.nome = nome;
+        this.rota = rota;
+    }
+
+    String nome() {
+        return nome;
+    }
+
+    String rota() {
+        return rota;
+    }
+
+    static Operacao porNome(String nome) {
+        return Arrays.stream(values())
+                .filter(operacao -> operacao.nome.equals(nome))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Operação desconhecida em carga.mix: " + nome));
+    }
+}
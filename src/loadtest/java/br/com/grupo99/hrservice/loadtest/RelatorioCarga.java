@@ -0,0 +1,135 @@
+package br.com.grupo99.hrservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resultado da carga em JSON: parâmetros, throughput e percentis por endpoint
+ * e o histograma completo (HdrHistogram comprimido, em Base64, em
+ * microssegundos) para comparar distribuições entre execuções.
+ */
+final class RelatorioCarga {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelatorioCarga.class);
+
+    private final CargaConfig config;
+    private final Duration medido;
+    private final Map<Operacao, Histogram> histogramas = new LinkedHashMap<>();
+    private final Map<Operacao, Map<Integer, Long>> status = new LinkedHashMap<>();
+    private String banco;
+
+    RelatorioCarga(CargaConfig config, Duration medido, Map<Operacao, ExecucaoCarga.Estatistica> estatisticas) {
+        this.config = config;
+        this.medido = medido;
+        estatisticas.forEach((operacao, estatistica) -> {
+            histogramas.put(operacao, estatistica.latencias().getIntervalHistogram());
+            Map<Integer, Long> contagens = new TreeMap<>();
+            estatistica.porStatus().forEach((codigo, total) -> contagens.put(codigo, total.sum()));
+            status.put(operacao, contagens);
+        });
+    }
+
+    RelatorioCarga comBanco(String banco) {
+        this.banco = banco;
+        return this;
+    }
+
+    void gravar(ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("geradoEm", OffsetDateTime.now().toString());
+        relatorio.put("banco", banco);
+        relatorio.put("funcionarios", config.funcionarios());
+        relatorio.put("clientes", config.clientes());
+        relatorio.put("aquecimentoSegundos", config.aquecimento().toSeconds());
+        relatorio.put("medidoSegundos", segundos());
+        relatorio.put("processadores", Runtime.getRuntime().availableProcessors());
+        relatorio.put("heapMaximoMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+
+        Histogram todos = new Histogram(3);
+        long erros = 0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<Operacao, Histogram> entrada : histogramas.entrySet()) {
+            Operacao operacao = entrada.getKey();
+            Histogram histograma = entrada.getValue();
+            todos.add(histograma);
+            long errosOperacao = errosDe(status.get(operacao));
+            erros += errosOperacao;
+            Map<String, Object> endpoint = resumo(histograma, errosOperacao);
+            endpoint.put("rota", operacao.rota());
+            endpoint.put("peso", config.mix().get(operacao));
+            endpoint.put("status", status.get(operacao));
+            endpoint.put("histograma", codificar(histograma));
+            endpoints.put(operacao.nome(), endpoint);
+            logger.info("{} {}", String.format("%-12s", operacao.nome()), linha(histograma, errosOperacao));
+        }
+        relatorio.put("total", resumo(todos, erros));
+        relatorio.put("endpoints", endpoints);
+        logger.info("{} {}", String.format("%-12s", "total"), linha(todos, erros));
+
+        Path arquivo = config.relatorio();
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo.toFile(), relatorio);
+        logger.info("Relatório gravado em {}", arquivo.toAbsolutePath());
+    }
+
+    private Map<String, Object> resumo(Histogram histograma, long erros) {
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        resumo.put("requisicoes", histograma.getTotalCount());
+        resumo.put("erros", erros);
+        resumo.put("throughput", histograma.getTotalCount() / segundos());
+        Map<String, Double> latencia = new LinkedHashMap<>();
+        latencia.put("min", ms(histograma.getMinValue()));
+        latencia.put("media", histograma.getMean() / 1000.0);
+        latencia.put("p50", ms(histograma.getValueAtPercentile(50)));
+        latencia.put("p90", ms(histograma.getValueAtPercentile(90)));
+        latencia.put("p99", ms(histograma.getValueAtPercentile(99)));
+        latencia.put("p999", ms(histograma.getValueAtPercentile(99.9)));
+        latencia.put("max", ms(histograma.getMaxValue()));
+        resumo.put("latenciaMs", latencia);
+        return resumo;
+    }
+
+    private String linha(Histogram histograma, long erros) {
+        return String.format("%9.1f req/s | p50 %8.2f ms | p99 %8.2f ms | max %8.2f ms | erros %d",
+                histograma.getTotalCount() / segundos(), ms(histograma.getValueAtPercentile(50)),
+                ms(histograma.getValueAtPercentile(99)), ms(histograma.getMaxValue()), erros);
+    }
+
+    private double segundos() {
+        return medido.toNanos() / 1e9;
+    }
+
+    private static long errosDe(Map<Integer, Long> contagens) {
+        return contagens.entrySet().stream()
+                .filter(entrada -> entrada.getKey() < 200 || entrada.getKey() >= 400)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String codificar(Histogram histograma) {
+        ByteBuffer buffer = ByteBuffer.allocate(histograma.getNeededByteBufferCapacity());
+        int tamanho = histograma.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), tamanho));
+    }
+}
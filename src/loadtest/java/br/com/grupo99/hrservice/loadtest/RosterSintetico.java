@@ -0,0 +1,78 @@
+package br.com.grupo99.hrservice.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Popula funcionarios com um roster sintético direto por SQL (INSERT ...
+ * SELECT em lotes de 100 mil), no H2 ou no PostgreSQL. Setores e cargos seguem
+ * o padrão "Setor n" (20) e "Cargo n" (50); 10% das linhas ficam inativas.
+ */
+final class RosterSintetico {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterSintetico.class);
+    private static final long LOTE = 100_000;
+
+    private static final String INSERT_H2 = """
+            INSERT INTO funcionarios
+                (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+            SELECT RANDOM_UUID(), DATEADD('DAY', -MOD(X, 3650), CURRENT_DATE),
+                   'Setor ' || MOD(X, 20), 'Cargo ' || MOD(X, 50), 1500 + MOD(X, 9000),
+                   MOD(X, 10) > 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM SYSTEM_RANGE(?, ?)
+            """;
+
+    private static final String INSERT_POSTGRES = """
+            INSERT INTO funcionarios
+                (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+            SELECT gen_random_uuid(), CURRENT_DATE - (x % 3650)::int,
+                   'Setor ' || (x % 20), 'Cargo ' || (x % 50), 1500 + (x % 9000),
+                   x % 10 > 0, now(), now()
+            FROM generate_series(?::bigint, ?::bigint) AS x
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    RosterSintetico(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Completa a tabela até o total pedido; linhas existentes (um PostgreSQL
+     * local reaproveitado entre execuções) contam para o total.
+     */
+    void popular(long total) {
+        Long existentes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM funcionarios", Long.class);
+        long inicio = existentes == null ? 0 : existentes;
+        if (inicio >= total) {
+            logger.info("Roster já tem {} funcionários", inicio);
+            return;
+        }
+        String insert = isPostgres() ? INSERT_POSTGRES : INSERT_H2;
+        for (long de = inicio + 1; de <= total; de += LOTE) {
+            long ate = Math.min(de + LOTE - 1, total);
+            jdbcTemplate.update(insert, de, ate);
+            logger.info("Roster: {}/{} funcionários", ate, total);
+        }
+    }
+
+    List<UUID> amostra(int quantidade) {
+        return jdbcTemplate.queryForList(
+                "SELECT pessoa_id FROM funcionarios WHERE ativo = TRUE FETCH FIRST ? ROWS ONLY",
+                UUID.class, quantidade);
+    }
+
+    String banco() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) conexao -> conexao.getMetaData()
+                .getDatabaseProductName());
+    }
+
+    private boolean isPostgres() {
+        return "PostgreSQL".equals(banco());
+    }
+}
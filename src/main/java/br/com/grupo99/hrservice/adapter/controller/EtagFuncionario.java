@@ -0,0 +1,54 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.exception.PreconditionFailedException;
+
+/**
+ * ETags dos recursos de funcionário: a versão da linha entre aspas (ETag
+ * forte, muda a cada alteração, inclusive nas feitas em massa).
+ */
+final class EtagFuncionario {
+
+    private EtagFuncionario() {
+    }
+
+    static String de(Long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    /**
+     * Comparação fraca do If-None-Match: aceita lista de ETags, W/ e "*".
+     */
+    static boolean corresponde(String ifNoneMatch, Long versao) {
+        String etag = de(versao);
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Versão exigida pelo If-Match; null se ausente ou "*". A comparação é
+     * forte e com um único ETag: ETags fracos, listas ou valores que não são
+     * uma versão nunca correspondem.
+     */
+    static Long versaoExigida(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            try {
+                return Long.parseLong(etag.substring(1, etag.length() - 1));
+            } catch (NumberFormatException e) {
+                // cai no 412 abaixo
+            }
+        }
+        throw new PreconditionFailedException("If-Match não corresponde a nenhuma versão: " + ifMatch);
+    }
+}
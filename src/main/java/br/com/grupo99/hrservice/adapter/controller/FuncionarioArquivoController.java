@@ -0,0 +1,48 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioArquivadoDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioArquivadoPageResponseDTO;
+import br.com.grupo99.hrservice.application.service.FuncionarioArquivoApplicationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Controller de leitura do arquivo de funcionários inativos há muito tempo.
+ */
+@RestController
+@RequestMapping("/api/v1/funcionarios/arquivo")
+public class FuncionarioArquivoController {
+
+    private final FuncionarioArquivoApplicationService funcionarioArquivoApplicationService;
+
+    public FuncionarioArquivoController(FuncionarioArquivoApplicationService funcionarioArquivoApplicationService) {
+        this.funcionarioArquivoApplicationService = funcionarioArquivoApplicationService;
+    }
+
+    /**
+     * GET - Listar funcionários arquivados, paginado por cursor.
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FuncionarioArquivadoPageResponseDTO> listar(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(funcionarioArquivoApplicationService.listar(cursor, tamanho));
+    }
+
+    /**
+     * GET - Buscar um funcionário arquivado pelo pessoaId.
+     */
+    @GetMapping("/{pessoaId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FuncionarioArquivadoDTO> buscar(@PathVariable UUID pessoaId) {
+        return ResponseEntity.ok(funcionarioArquivoApplicationService.buscarPorId(pessoaId));
+    }
+}
@@ -1,16 +1,40 @@
 package br.com.grupo99.hrservice.adapter.controller;
 
+import br.com.grupo99.hrservice.application.dto.FuncionarioAlteracoesResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioBuscaResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioLoteResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioPageResponseDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.service.FuncionarioAlteracoesApplicationService;
 import br.com.grupo99.hrservice.application.service.FuncionarioApplicationService;
+import br.com.grupo99.hrservice.application.service.FuncionarioLoteApplicationService;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioFiltro;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller responsável pelos endpoints de Funcionario.
@@ -19,10 +43,21 @@ import java.util.UUID;
 @RequestMapping("/api/v1/funcionarios")
 public class FuncionarioController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final FuncionarioApplicationService funcionarioApplicationService;
+    private final FuncionarioLoteApplicationService funcionarioLoteApplicationService;
+    private final FuncionarioAlteracoesApplicationService funcionarioAlteracoesApplicationService;
+    private final ObjectMapper objectMapper;
 
-    public FuncionarioController(FuncionarioApplicationService funcionarioApplicationService) {
+    public FuncionarioController(FuncionarioApplicationService funcionarioApplicationService,
+            FuncionarioLoteApplicationService funcionarioLoteApplicationService,
+            FuncionarioAlteracoesApplicationService funcionarioAlteracoesApplicationService,
+            ObjectMapper objectMapper) {
         this.funcionarioApplicationService = funcionarioApplicationService;
+        this.funcionarioLoteApplicationService = funcionarioLoteApplicationService;
+        this.funcionarioAlteracoesApplicationService = funcionarioAlteracoesApplicationService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -33,40 +68,139 @@ public class FuncionarioController {
     public ResponseEntity<FuncionarioResponseDTO> criarFuncionario(
             @Valid @RequestBody FuncionarioRequestDTO requestDTO) {
         FuncionarioResponseDTO response = funcionarioApplicationService.criarFuncionario(requestDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EtagFuncionario.de(response.versao())).body(response);
     }
 
     /**
-     * GET - Listar todos os funcionários.
+     * POST - Criar funcionários em lote, com resultado por item.
+     * Com upsert=true, funcionários existentes são atualizados.
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FuncionarioLoteResponseDTO> criarFuncionariosEmLote(
+            @RequestBody List<FuncionarioRequestDTO> requestDTOs,
+            @RequestParam(defaultValue = "false") boolean upsert) {
+        FuncionarioLoteResponseDTO response = funcionarioLoteApplicationService.criarEmLote(requestDTOs, upsert);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET - Listar funcionários, paginado por cursor e com filtros opcionais.
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<FuncionarioResponseDTO>> listarTodos() {
-        List<FuncionarioResponseDTO> response = funcionarioApplicationService.listarTodos();
+    public ResponseEntity<FuncionarioPageResponseDTO> listarTodos(
+            @RequestParam(required = false) String setor,
+            @RequestParam(required = false) String cargo,
+            @RequestParam(required = false) Boolean ativo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        FuncionarioPageResponseDTO response = funcionarioApplicationService.listarTodos(
+                new FuncionarioFiltro(setor, cargo, ativo), cursor, tamanho);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * GET - Buscar um funcionário pelo pessoaId.
+     * GET - Buscar funcionários por setor, cargo, situação e intervalo de
+     * admissão, com ordenação. Sem o parâmetro ativo, busca só os ativos.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FuncionarioBuscaResponseDTO> buscarFuncionarios(
+            @RequestParam(required = false) String setor,
+            @RequestParam(required = false) String cargo,
+            @RequestParam(defaultValue = "true") Boolean ativo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate admitidoDe,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate admitidoAte,
+            @RequestParam(defaultValue = "dataAdmissao") String ordenarPor,
+            @RequestParam(defaultValue = "asc") String direcao,
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho) {
+        FuncionarioBusca busca = new FuncionarioBusca(setor, cargo, ativo, admitidoDe, admitidoAte,
+                ordenacao(ordenarPor), decrescente(direcao));
+        FuncionarioBuscaResponseDTO response = funcionarioApplicationService.buscar(busca, pagina, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET - Exportar todos os funcionários em NDJSON (um JSON por linha).
+     * Cada linha é escrita na resposta assim que lida do banco; quando o
+     * Accept-Encoding aceita gzip (q > 0) a saída é comprimida. O tempo
+     * máximo da escrita é spring.mvc.async.request-timeout.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportarFuncionarios(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = aceitaGzip(acceptEncoding);
+        StreamingResponseBody body = saida -> {
+            if (gzip) {
+                GZIPOutputStream saidaComprimida = new GZIPOutputStream(saida, 8192);
+                escreverNdjson(saidaComprimida);
+                saidaComprimida.finish();
+            } else {
+                escreverNdjson(saida);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(APPLICATION_NDJSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * GET - Alterações (criações, atualizações, desativações e remoções)
+     * desde o cursor, para réplicas que mantêm cópia local do cadastro. Sem
+     * cursor, começa do início; o proximoCursor da resposta vale para a
+     * próxima consulta mesmo sem alterações. Cursor além da retenção das
+     * remoções devolve 410.
+     */
+    @GetMapping("/alteracoes")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FuncionarioAlteracoesResponseDTO> listarAlteracoes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        FuncionarioAlteracoesResponseDTO response = funcionarioAlteracoesApplicationService
+                .listarAlteracoes(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET - Buscar um funcionário pelo pessoaId, com ETag.
+     * Com If-None-Match, a versão vem do cache ou de uma consulta só da
+     * versão e, se não mudou, a resposta é 304 sem montar nem serializar o
+     * funcionário.
      */
     @GetMapping("/{pessoaId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<FuncionarioResponseDTO> buscarFuncionario(
-            @PathVariable UUID pessoaId) {
+            @PathVariable UUID pessoaId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> versao = funcionarioApplicationService.buscarVersao(pessoaId);
+            if (versao.isPresent() && EtagFuncionario.corresponde(ifNoneMatch, versao.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EtagFuncionario.de(versao.get())).build();
+            }
+        }
         FuncionarioResponseDTO response = funcionarioApplicationService.buscarPorId(pessoaId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EtagFuncionario.de(response.versao())).body(response);
     }
 
     /**
-     * PUT - Atualizar um funcionário.
+     * PUT - Atualizar um funcionário. Com If-Match, só se ainda estiver na
+     * versão informada (412 caso contrário).
      */
     @PutMapping("/{pessoaId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<FuncionarioResponseDTO> atualizarFuncionario(
             @PathVariable UUID pessoaId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody FuncionarioRequestDTO requestDTO) {
-        FuncionarioResponseDTO response = funcionarioApplicationService.atualizarFuncionario(pessoaId, requestDTO);
-        return ResponseEntity.ok(response);
+        FuncionarioResponseDTO response = funcionarioApplicationService.atualizarFuncionario(pessoaId, requestDTO,
+                EtagFuncionario.versaoExigida(ifMatch));
+        return ResponseEntity.ok().eTag(EtagFuncionario.de(response.versao())).body(response);
     }
 
     /**
@@ -81,13 +215,87 @@ public class FuncionarioController {
     }
 
     /**
-     * PATCH - Desativar um funcionário.
+     * PATCH - Desativar um funcionário. Com If-Match, só se ainda estiver na
+     * versão informada (412 caso contrário).
      */
     @PatchMapping("/{pessoaId}/desativar")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<FuncionarioResponseDTO> desativarFuncionario(
-            @PathVariable UUID pessoaId) {
-        FuncionarioResponseDTO response = funcionarioApplicationService.desativarFuncionario(pessoaId);
-        return ResponseEntity.ok(response);
+            @PathVariable UUID pessoaId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        FuncionarioResponseDTO response = funcionarioApplicationService.desativarFuncionario(pessoaId,
+                EtagFuncionario.versaoExigida(ifMatch));
+        return ResponseEntity.ok().eTag(EtagFuncionario.de(response.versao())).body(response);
+    }
+
+    private FuncionarioBusca.Ordenacao ordenacao(String ordenarPor) {
+        return FuncionarioBusca.Ordenacao.porAtributo(ordenarPor)
+                .orElseThrow(() -> new BusinessException("Campo de ordenação inválido: " + ordenarPor));
+    }
+
+    private boolean decrescente(String direcao) {
+        if ("asc".equalsIgnoreCase(direcao)) {
+            return false;
+        }
+        if ("desc".equalsIgnoreCase(direcao)) {
+            return true;
+        }
+        throw new BusinessException("Direção de ordenação inválida: " + direcao);
+    }
+
+    /**
+     * gzip é aceito quando listado (ou x-gzip) com q > 0 ou, se não listado,
+     * quando "*" tem q > 0. "gzip;q=0" recusa explicitamente; q inválido
+     * conta como 0.
+     */
+    static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double qGzip = null;
+        Double qCuringa = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim();
+                if (parametro.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(parametro.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                qGzip = qGzip == null ? q : Math.max(qGzip, q);
+            } else if (codificacao.equals("*")) {
+                qCuringa = q;
+            }
+        }
+        Double efetivo = qGzip != null ? qGzip : qCuringa;
+        return efetivo != null && efetivo > 0;
+    }
+
+    private void escreverNdjson(OutputStream saida) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(FuncionarioResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            gerador.setRootValueSeparator(null);
+            try {
+                funcionarioApplicationService.exportar(funcionario -> {
+                    try {
+                        writer.writeValue(gerador, funcionario);
+                        gerador.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
     }
 }
@@ -0,0 +1,56 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioVersaoDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioVersaoPageResponseDTO;
+import br.com.grupo99.hrservice.application.service.FuncionarioHistoricoApplicationService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller de leitura do histórico de funcionários (setor, cargo, salário e
+ * situação ao longo do tempo).
+ */
+@RestController
+@RequestMapping("/api/v1/funcionarios")
+public class FuncionarioHistoricoController {
+
+    private final FuncionarioHistoricoApplicationService funcionarioHistoricoApplicationService;
+
+    public FuncionarioHistoricoController(
+            FuncionarioHistoricoApplicationService funcionarioHistoricoApplicationService) {
+        this.funcionarioHistoricoApplicationService = funcionarioHistoricoApplicationService;
+    }
+
+    /**
+     * GET - Quadro de pessoal vigente no instante {@code em}, paginado por
+     * cursor. {@code ativo} filtra pela situação na data.
+     */
+    @GetMapping("/historico")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FuncionarioVersaoPageResponseDTO> listarVigentesEm(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime em,
+            @RequestParam(required = false) Boolean ativo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(funcionarioHistoricoApplicationService.listarVigentesEm(em, ativo, cursor, tamanho));
+    }
+
+    /**
+     * GET - Linha do tempo de um funcionário, da versão mais antiga à atual.
+     */
+    @GetMapping("/{pessoaId}/historico")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<FuncionarioVersaoDTO>> listarVersoes(@PathVariable UUID pessoaId) {
+        return ResponseEntity.ok(funcionarioHistoricoApplicationService.listarVersoes(pessoaId));
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.dto.DesativacaoEmMassaRequestDTO;
+import br.com.grupo99.hrservice.application.dto.OperacaoEmMassaResponseDTO;
+import br.com.grupo99.hrservice.application.dto.ReajusteSalarialRequestDTO;
+import br.com.grupo99.hrservice.application.dto.TransferenciaSetorRequestDTO;
+import br.com.grupo99.hrservice.application.service.FuncionarioMassaApplicationService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller das operações em massa sobre funcionários, executadas em lotes
+ * com UPDATEs por conjunto. As respostas trazem quantos funcionários foram
+ * alterados e em quantos lotes.
+ */
+@RestController
+@RequestMapping("/api/v1/funcionarios/massa")
+public class FuncionarioMassaController {
+
+    private final FuncionarioMassaApplicationService funcionarioMassaApplicationService;
+
+    public FuncionarioMassaController(FuncionarioMassaApplicationService funcionarioMassaApplicationService) {
+        this.funcionarioMassaApplicationService = funcionarioMassaApplicationService;
+    }
+
+    /**
+     * POST - Desativar os funcionários ativos de um setor (e cargo).
+     */
+    @PostMapping("/desativacao")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OperacaoEmMassaResponseDTO> desativar(
+            @Valid @RequestBody DesativacaoEmMassaRequestDTO requestDTO) {
+        return ResponseEntity.ok(funcionarioMassaApplicationService.desativar(requestDTO));
+    }
+
+    /**
+     * POST - Transferir os funcionários de um setor (e cargo) para outro.
+     */
+    @PostMapping("/transferencia")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OperacaoEmMassaResponseDTO> transferir(
+            @Valid @RequestBody TransferenciaSetorRequestDTO requestDTO) {
+        return ResponseEntity.ok(funcionarioMassaApplicationService.transferir(requestDTO));
+    }
+
+    /**
+     * POST - Reajustar em percentual o salário dos funcionários ativos.
+     */
+    @PostMapping("/reajuste")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OperacaoEmMassaResponseDTO> reajustar(
+            @Valid @RequestBody ReajusteSalarialRequestDTO requestDTO) {
+        return ResponseEntity.ok(funcionarioMassaApplicationService.reajustar(requestDTO));
+    }
+}
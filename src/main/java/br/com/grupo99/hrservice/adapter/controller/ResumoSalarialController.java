@@ -0,0 +1,56 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.dto.ResumoSalarialDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService;
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService.Agrupamento;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controller do resumo salarial (quantidade, total e média de salários dos
+ * funcionários ativos).
+ */
+@RestController
+@RequestMapping("/api/v1/resumo-salarial")
+public class ResumoSalarialController {
+
+    private final ResumoSalarialApplicationService resumoSalarialApplicationService;
+
+    public ResumoSalarialController(ResumoSalarialApplicationService resumoSalarialApplicationService) {
+        this.resumoSalarialApplicationService = resumoSalarialApplicationService;
+    }
+
+    /**
+     * GET - Resumo por setor, por cargo ou por setor e cargo (padrão).
+     * Lido do resumo mantido, sem varrer a tabela de funcionários; com
+     * {@code em}, calculado sobre o histórico na data informada.
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ResumoSalarialDTO>> listar(
+            @RequestParam(defaultValue = "setorCargo") String agruparPor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime em) {
+        Agrupamento agrupamento = agrupamento(agruparPor);
+        return ResponseEntity.ok(em != null
+                ? resumoSalarialApplicationService.listarEm(em, agrupamento)
+                : resumoSalarialApplicationService.listar(agrupamento));
+    }
+
+    private Agrupamento agrupamento(String agruparPor) {
+        return switch (agruparPor) {
+            case "setor" -> Agrupamento.SETOR;
+            case "cargo" -> Agrupamento.CARGO;
+            case "setorCargo" -> Agrupamento.SETOR_CARGO;
+            default -> throw new BusinessException("Agrupamento inválido: " + agruparPor);
+        };
+    }
+}
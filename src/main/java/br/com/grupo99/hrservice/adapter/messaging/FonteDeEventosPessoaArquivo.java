@@ -0,0 +1,146 @@
+package br.com.grupo99.hrservice.adapter.messaging;
+
+import br.com.grupo99.hrservice.domain.events.FonteDeEventosPessoa;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fonte de eventos do People Service lida de um arquivo JSON Lines (um
+ * {@link PessoaEvent} por linha) ao qual outro processo acrescenta eventos
+ * (pessoa.eventos.fonte=arquivo). Para testes locais e cargas manuais.
+ * <p>
+ * A posição confirmada fica só em memória: ao reiniciar, o arquivo é relido
+ * do início e os eventos já aplicados são descartados pelo eventoId. Linhas
+ * sem quebra de linha final ainda estão sendo escritas e esperam o próximo
+ * ciclo; linhas inválidas são registradas em log e puladas.
+ */
+@Component
+@ConditionalOnProperty(name = "pessoa.eventos.fonte", havingValue = "arquivo")
+public class FonteDeEventosPessoaArquivo implements FonteDeEventosPessoa {
+
+    private static final Logger logger = LoggerFactory.getLogger(FonteDeEventosPessoaArquivo.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path arquivo;
+    private long posicao;
+    // Posição logo após cada evento entregue pelo último receber()
+    private final List<Long> fimDosEntregues = new ArrayList<>();
+
+    public FonteDeEventosPessoaArquivo(ObjectMapper objectMapper,
+            @Value("${pessoa.eventos.arquivo}") Path arquivo) {
+        this.objectMapper = objectMapper;
+        this.arquivo = arquivo;
+    }
+
+    @Override
+    public synchronized List<PessoaEvent> receber(int limite) {
+        fimDosEntregues.clear();
+        List<PessoaEvent> lote = new ArrayList<>();
+        long fim = lerLinhas((linha, fimDaLinha) -> {
+            PessoaEvent evento = converter(linha, fimDaLinha);
+            if (evento != null) {
+                lote.add(evento);
+                fimDosEntregues.add(fimDaLinha);
+            }
+            return lote.size() < limite;
+        });
+        if (lote.isEmpty()) {
+            // Só linhas inválidas ou em branco: não há o que confirmar
+            posicao = fim;
+        }
+        return lote;
+    }
+
+    @Override
+    public synchronized void confirmar(int quantidade) {
+        if (quantidade == 0) {
+            return;
+        }
+        if (quantidade > fimDosEntregues.size()) {
+            throw new IllegalArgumentException("Confirmação de " + quantidade + " eventos, mas só "
+                    + fimDosEntregues.size() + " foram entregues");
+        }
+        posicao = fimDosEntregues.get(quantidade - 1);
+        fimDosEntregues.clear();
+    }
+
+    @Override
+    public synchronized long pendentes() {
+        long[] linhas = new long[1];
+        lerLinhas((linha, fimDaLinha) -> {
+            if (linha.length > 0) {
+                linhas[0]++;
+            }
+            return true;
+        });
+        return linhas[0];
+    }
+
+    private PessoaEvent converter(byte[] linha, long fimDaLinha) {
+        if (linha.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(linha, PessoaEvent.class);
+        } catch (IOException e) {
+            logger.warn("Linha inválida em {} terminando na posição {}: {}", arquivo, fimDaLinha, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Percorre as linhas completas a partir da posição confirmada enquanto o
+     * leitor pedir mais, e devolve a posição logo após a última lida.
+     */
+    private long lerLinhas(LeitorDeLinha leitor) {
+        if (!Files.exists(arquivo)) {
+            return posicao;
+        }
+        long atual = posicao;
+        try (SeekableByteChannel canal = Files.newByteChannel(arquivo)) {
+            canal.position(posicao);
+            InputStream entrada = new BufferedInputStream(Channels.newInputStream(canal));
+            ByteArrayOutputStream linha = new ByteArrayOutputStream();
+            long lidos = posicao;
+            int b;
+            while ((b = entrada.read()) != -1) {
+                lidos++;
+                if (b != '\n') {
+                    linha.write(b);
+                    continue;
+                }
+                atual = lidos;
+                boolean continuar = leitor.ler(linha.toByteArray(), atual);
+                linha.reset();
+                if (!continuar) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler eventos de " + arquivo, e);
+        }
+        return atual;
+    }
+
+    @FunctionalInterface
+    private interface LeitorDeLinha {
+        boolean ler(byte[] linha, long fimDaLinha);
+    }
+}
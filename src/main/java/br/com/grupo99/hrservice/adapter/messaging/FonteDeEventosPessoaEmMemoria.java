@@ -0,0 +1,59 @@
+package br.com.grupo99.hrservice.adapter.messaging;
+
+import br.com.grupo99.hrservice.domain.events.FonteDeEventosPessoa;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Fonte de eventos do People Service em memória, para testes e ambientes
+ * sem broker (pessoa.eventos.fonte=memoria, o padrão). Os eventos entram por
+ * {@link #publicar(PessoaEvent...)} e saem da fila só quando confirmados.
+ */
+@Component
+@ConditionalOnProperty(name = "pessoa.eventos.fonte", havingValue = "memoria", matchIfMissing = true)
+public class FonteDeEventosPessoaEmMemoria implements FonteDeEventosPessoa {
+
+    private final Deque<PessoaEvent> fila = new ArrayDeque<>();
+    private int entregues;
+
+    public synchronized void publicar(PessoaEvent... eventos) {
+        fila.addAll(Arrays.asList(eventos));
+    }
+
+    @Override
+    public synchronized List<PessoaEvent> receber(int limite) {
+        List<PessoaEvent> lote = new ArrayList<>(Math.min(limite, fila.size()));
+        for (PessoaEvent evento : fila) {
+            if (lote.size() == limite) {
+                break;
+            }
+            lote.add(evento);
+        }
+        entregues = lote.size();
+        return lote;
+    }
+
+    @Override
+    public synchronized void confirmar(int quantidade) {
+        if (quantidade > entregues) {
+            throw new IllegalArgumentException(
+                    "Confirmação de " + quantidade + " eventos, mas só " + entregues + " foram entregues");
+        }
+        for (int i = 0; i < quantidade; i++) {
+            fila.removeFirst();
+        }
+        entregues -= quantidade;
+    }
+
+    @Override
+    public synchronized long pendentes() {
+        return fila.size();
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.grupo99.hrservice.adapter.messaging;
+
+import br.com.grupo99.hrservice.domain.events.PublicadorDeEventos;
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Publicador que guarda os últimos eventos em memória, para testes e
+ * ambientes sem broker (outbox.publicador=memoria, o padrão). Um adapter de
+ * broker substitui este com outro valor de outbox.publicador.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publicador", havingValue = "memoria", matchIfMissing = true)
+public class PublicadorDeEventosEmMemoria implements PublicadorDeEventos {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicadorDeEventosEmMemoria.class);
+
+    private final int capacidade;
+    private final Deque<EventoOutbox> publicados = new ArrayDeque<>();
+
+    public PublicadorDeEventosEmMemoria(@Value("${outbox.publicador.memoria.capacidade:10000}") int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    @Override
+    public synchronized void publicar(List<EventoOutbox> eventos) {
+        for (EventoOutbox evento : eventos) {
+            if (publicados.size() == capacidade) {
+                publicados.removeFirst();
+            }
+            publicados.addLast(evento);
+        }
+        logger.debug("{} eventos publicados em memória", eventos.size());
+    }
+
+    /**
+     * Eventos publicados, do mais antigo ao mais novo, limitados à capacidade.
+     */
+    public synchronized List<EventoOutbox> getPublicados() {
+        return List.copyOf(publicados);
+    }
+
+    public synchronized void limpar() {
+        publicados.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Identifica o banco em uso, para os adapters que usam SQL específico do
+ * PostgreSQL (RETURNING, ON CONFLICT, LOCK TABLE) com alternativa portável
+ * para o H2 dos testes.
+ */
+final class Dialetos {
+
+    private Dialetos() {
+    }
+
+    static boolean isPostgres(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.EventoProcessado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository para EventoProcessado.
+ */
+@Repository
+public interface EventoProcessadoJpaRepository extends JpaRepository<EventoProcessado, UUID> {
+
+    @Query("SELECT e.eventoId FROM EventoProcessado e WHERE e.eventoId IN :eventoIds")
+    Set<UUID> findProcessados(@Param("eventoIds") Collection<UUID> eventoIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM EventoProcessado e WHERE e.processadoEm < :limite")
+    int deleteProcessadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,46 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.EventoProcessado;
+import br.com.grupo99.hrservice.domain.repository.EventoProcessadoRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa EventoProcessadoRepository (domínio) com JPA.
+ */
+@Repository
+@Timed(value = "hr.repositorio", description = "Métodos dos repositórios", histogram = true)
+public class EventoProcessadoRepositoryAdapter implements EventoProcessadoRepository {
+
+    private final EventoProcessadoJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public EventoProcessadoRepositoryAdapter(EventoProcessadoJpaRepository jpaRepository,
+            EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Set<UUID> findProcessados(Collection<UUID> eventoIds) {
+        return eventoIds.isEmpty() ? Set.of() : jpaRepository.findProcessados(eventoIds);
+    }
+
+    @Override
+    public void registrarAll(Collection<UUID> eventoIds) {
+        // persist direto (ID atribuído); os INSERTs saem em batch no flush
+        LocalDateTime agora = LocalDateTime.now();
+        eventoIds.forEach(id -> entityManager.persist(new EventoProcessado(id, agora)));
+    }
+
+    @Override
+    public int deleteProcessadosAntesDe(LocalDateTime limite) {
+        return jpaRepository.deleteProcessadosAntesDe(limite);
+    }
+}
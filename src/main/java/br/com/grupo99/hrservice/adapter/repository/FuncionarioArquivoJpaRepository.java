@@ -0,0 +1,14 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioArquivado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository para FuncionarioArquivado.
+ */
+@Repository
+public interface FuncionarioArquivoJpaRepository extends JpaRepository<FuncionarioArquivado, UUID> {
+}
@@ -0,0 +1,116 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioArquivado;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioArquivoRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa FuncionarioArquivoRepository (domínio) com SQL
+ * nativo para a movimentação e JPA para as leituras.
+ */
+@Repository
+@Timed(value = "hr.repositorio", description = "Métodos dos repositórios", histogram = true)
+public class FuncionarioArquivoRepositoryAdapter implements FuncionarioArquivoRepository {
+
+    // Uma instrução por lote: escolhe, remove e arquiva. SKIP LOCKED deixa de
+    // fora linhas sendo alteradas (ex.: reativação) e permite várias réplicas.
+    // Uma pessoa arquivada, recriada e desativada de novo substitui a anterior.
+    private static final String ARQUIVAR_POSTGRES = """
+            WITH candidatos AS (
+                SELECT pessoa_id FROM funcionarios
+                WHERE NOT ativo AND updated_at < :inativoAntesDe
+                ORDER BY updated_at
+                LIMIT :limite
+                FOR UPDATE SKIP LOCKED
+            ), movidos AS (
+                DELETE FROM funcionarios f USING candidatos c
+                WHERE f.pessoa_id = c.pessoa_id
+                RETURNING f.*
+            )
+            INSERT INTO funcionarios_arquivo
+                (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at, versao, arquivado_em)
+            SELECT pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at, versao, :agora
+            FROM movidos
+            ON CONFLICT (pessoa_id) DO UPDATE
+            SET data_admissao = EXCLUDED.data_admissao, setor = EXCLUDED.setor, cargo = EXCLUDED.cargo,
+                salario = EXCLUDED.salario, ativo = EXCLUDED.ativo, created_at = EXCLUDED.created_at,
+                updated_at = EXCLUDED.updated_at, versao = EXCLUDED.versao, arquivado_em = EXCLUDED.arquivado_em
+            RETURNING pessoa_id
+            """;
+
+    private final FuncionarioArquivoJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final boolean postgres;
+
+    public FuncionarioArquivoRepositoryAdapter(FuncionarioArquivoJpaRepository jpaRepository,
+            EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.postgres = Dialetos.isPostgres(entityManager);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> arquivarInativos(LocalDateTime inativoAntesDe, int limite) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (postgres) {
+            return entityManager.createNativeQuery(ARQUIVAR_POSTGRES)
+                    .setParameter("inativoAntesDe", inativoAntesDe)
+                    .setParameter("limite", limite)
+                    .setParameter("agora", agora)
+                    .getResultList();
+        }
+        // H2 dos testes: seleção, cópia com MERGE e DELETE dos mesmos IDs
+        List<UUID> ids = entityManager.createQuery("""
+                SELECT f.pessoaId FROM Funcionario f
+                WHERE f.ativo = false AND f.updatedAt < :inativoAntesDe
+                ORDER BY f.updatedAt
+                """, UUID.class)
+                .setParameter("inativoAntesDe", inativoAntesDe)
+                .setMaxResults(limite)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        entityManager.createNativeQuery("""
+                MERGE INTO funcionarios_arquivo
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at, versao,
+                     arquivado_em)
+                KEY (pessoa_id)
+                SELECT pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at, versao, :agora
+                FROM funcionarios WHERE pessoa_id IN (:ids)
+                """)
+                .setParameter("agora", agora)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM Funcionario f WHERE f.pessoaId IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return ids;
+    }
+
+    @Override
+    public Optional<FuncionarioArquivado> findById(UUID id) {
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    public List<FuncionarioArquivado> findPage(UUID apos, int limite) {
+        TypedQuery<FuncionarioArquivado> query = entityManager.createQuery(
+                "SELECT a FROM FuncionarioArquivado a" + (apos != null ? " WHERE a.pessoaId > :apos" : "")
+                        + " ORDER BY a.pessoaId",
+                FuncionarioArquivado.class);
+        if (apos != null) {
+            query.setParameter("apos", apos);
+        }
+        return query.setMaxResults(limite).getResultList();
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioVersao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository para FuncionarioVersao.
+ */
+@Repository
+public interface FuncionarioHistoricoJpaRepository extends JpaRepository<FuncionarioVersao, FuncionarioVersao.Chave> {
+
+    // Faixa da chave primária (pessoa_id, valid_from)
+    List<FuncionarioVersao> findByPessoaIdOrderByValidoDe(UUID pessoaId);
+}
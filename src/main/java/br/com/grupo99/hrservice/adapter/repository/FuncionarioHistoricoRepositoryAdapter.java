@@ -0,0 +1,74 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioVersao;
+import br.com.grupo99.hrservice.domain.model.ResumoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioHistoricoRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa FuncionarioHistoricoRepository (domínio). As
+ * consultas "na data" usam SQL nativo para, no PostgreSQL, buscar por
+ * contenção no índice GiST de tsrange(valid_from, valid_to).
+ */
+@Repository
+@Timed(value = "hr.repositorio", description = "Métodos dos repositórios", histogram = true)
+public class FuncionarioHistoricoRepositoryAdapter implements FuncionarioHistoricoRepository {
+
+    private final FuncionarioHistoricoJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final String vigenteEm;
+
+    public FuncionarioHistoricoRepositoryAdapter(FuncionarioHistoricoJpaRepository jpaRepository,
+            EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        // Mesma expressão do índice, senão o planner não o usa; o H2 dos
+        // testes compara as colunas
+        this.vigenteEm = Dialetos.isPostgres(entityManager)
+                ? "tsrange(valid_from, valid_to) @> CAST(:em AS timestamp)"
+                : "valid_from <= :em AND valid_to > :em";
+    }
+
+    @Override
+    public List<FuncionarioVersao> findByPessoaId(UUID pessoaId) {
+        return jpaRepository.findByPessoaIdOrderByValidoDe(pessoaId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FuncionarioVersao> findVigentesEm(LocalDateTime em, Boolean ativo, UUID apos, int limite) {
+        Query query = entityManager.createNativeQuery("SELECT * FROM funcionarios_historico WHERE " + vigenteEm
+                + (ativo != null ? (ativo ? " AND ativo" : " AND NOT ativo") : "")
+                + (apos != null ? " AND pessoa_id > :apos" : "")
+                + " ORDER BY pessoa_id", FuncionarioVersao.class)
+                .setParameter("em", em);
+        if (apos != null) {
+            query.setParameter("apos", apos);
+        }
+        return query.setMaxResults(limite).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ResumoSalarial> computeResumoEm(LocalDateTime em) {
+        List<Object[]> linhas = entityManager.createNativeQuery("""
+                SELECT setor, cargo, COUNT(*), SUM(salario) FROM funcionarios_historico
+                WHERE %s AND ativo
+                GROUP BY setor, cargo ORDER BY setor, cargo
+                """.formatted(vigenteEm))
+                .setParameter("em", em)
+                .getResultList();
+        return linhas.stream()
+                .map(linha -> new ResumoSalarial((String) linha[0], (String) linha[1],
+                        ((Number) linha[2]).longValue(), (BigDecimal) linha[3]))
+                .toList();
+    }
+}
@@ -1,10 +1,23 @@
 package br.com.grupo99.hrservice.adapter.repository;
 
 import br.com.grupo99.hrservice.domain.model.Funcionario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository para Funcionario.
@@ -21,4 +34,85 @@ public interface FuncionarioJpaRepository extends JpaRepository<Funcionario, UUI
     boolean existsByPessoaId(UUID pessoaId);
 
     Funcionario findByPessoaId(UUID pessoaId);
+
+    /**
+     * Projeção dinâmica: para um record, o Spring Data gera um SELECT NEW com
+     * os atributos dos componentes, sem hidratar a entidade.
+     */
+    <T> Optional<T> findProjectedByPessoaId(UUID pessoaId, Class<T> projecao);
+
+    @Query("SELECT f.pessoaId FROM Funcionario f WHERE f.pessoaId IN :pessoaIds")
+    Set<UUID> findExistingPessoaIds(@Param("pessoaIds") Collection<UUID> pessoaIds);
+
+    /**
+     * Cursor forward-only sobre toda a tabela. O fetch size faz o driver trazer
+     * as linhas em lotes (no PostgreSQL, cursor no servidor) em vez de
+     * materializar o ResultSet inteiro; read-only dispensa o snapshot de dirty
+     * checking.
+     */
+    @Query("SELECT f FROM Funcionario f")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Funcionario> streamAll();
+
+    /**
+     * UPDATE condicional apenas das colunas alteradas. Bulk updates não
+     * disparam o @PreUpdate, por isso updatedAt é informado aqui.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funcionario f SET f.ativo = false, f.updatedAt = :agora, f.versao = f.versao + 1 "
+            + "WHERE f.pessoaId = :pessoaId AND f.ativo = true")
+    int deactivate(@Param("pessoaId") UUID pessoaId, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Como {@link #deactivate(UUID, LocalDateTime)}, só se a versão ainda for
+     * a informada (If-Match).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funcionario f SET f.ativo = false, f.updatedAt = :agora, f.versao = f.versao + 1 "
+            + "WHERE f.pessoaId = :pessoaId AND f.ativo = true AND f.versao = :versao")
+    int deactivate(@Param("pessoaId") UUID pessoaId, @Param("versao") long versao,
+            @Param("agora") LocalDateTime agora);
+
+    @Query("SELECT f.versao FROM Funcionario f WHERE f.pessoaId = :pessoaId")
+    Optional<Long> findVersaoByPessoaId(@Param("pessoaId") UUID pessoaId);
+
+    /**
+     * Funcionários, dentre os informados, cuja situação difere da desejada.
+     */
+    @Query("SELECT f FROM Funcionario f WHERE f.pessoaId IN :pessoaIds AND f.ativo <> :ativo")
+    List<Funcionario> findComAtivoDiferente(@Param("pessoaIds") Collection<UUID> pessoaIds,
+            @Param("ativo") boolean ativo);
+
+    /**
+     * UPDATE em massa da situação, só nas linhas que mudam.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funcionario f SET f.ativo = :ativo, f.updatedAt = :agora, f.versao = f.versao + 1 "
+            + "WHERE f.pessoaId IN :pessoaIds AND f.ativo <> :ativo")
+    int updateAtivo(@Param("pessoaIds") Collection<UUID> pessoaIds, @Param("ativo") boolean ativo,
+            @Param("agora") LocalDateTime agora);
+
+    /**
+     * Transferência de setor em massa. Bulk updates não disparam o @PreUpdate
+     * nem o @Version, por isso updatedAt e versão são informados aqui.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funcionario f SET f.setor = :setor, f.updatedAt = :agora, f.versao = f.versao + 1 "
+            + "WHERE f.pessoaId IN :pessoaIds")
+    int updateSetor(@Param("pessoaIds") Collection<UUID> pessoaIds, @Param("setor") String setor,
+            @Param("agora") LocalDateTime agora);
+
+    /**
+     * Reajuste salarial em massa, calculado pelo banco. ROUND de NUMERIC
+     * arredonda a metade para longe do zero, como RoundingMode.HALF_UP.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funcionario f SET f.salario = ROUND(f.salario * :fator, 2), f.updatedAt = :agora, "
+            + "f.versao = f.versao + 1 WHERE f.pessoaId IN :pessoaIds")
+    int updateSalario(@Param("pessoaIds") Collection<UUID> pessoaIds, @Param("fator") BigDecimal fator,
+            @Param("agora") LocalDateTime agora);
 }
@@ -0,0 +1,22 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioRemovido;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository para FuncionarioRemovido.
+ */
+@Repository
+public interface FuncionarioRemovidoJpaRepository extends JpaRepository<FuncionarioRemovido, UUID> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM FuncionarioRemovido r WHERE r.removidoEm < :limite")
+    int deleteAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,51 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioRemovido;
+import br.com.grupo99.hrservice.domain.repository.AlteracaoCursor;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRemovidoRepository;
+import br.com.grupo99.hrservice.infrastructure.datasource.LeituraNoPrimario;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adapter que implementa FuncionarioRemovidoRepository (domínio) com JPA.
+ */
+@Repository
+@Timed(value = "hr.repositorio", description = "Métodos dos repositórios", histogram = true)
+public class FuncionarioRemovidoRepositoryAdapter implements FuncionarioRemovidoRepository {
+
+    private final FuncionarioRemovidoJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public FuncionarioRemovidoRepositoryAdapter(FuncionarioRemovidoJpaRepository jpaRepository,
+            EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<FuncionarioRemovido> findApos(AlteracaoCursor apos, LocalDateTime ate, int limite) {
+        // Mesmo predicado por chave do findPage, sobre (removido_em, pessoa_id)
+        String jpql = "SELECT r FROM FuncionarioRemovido r WHERE r.removidoEm <= :ate"
+                + (apos != null ? " AND r.removidoEm >= :alteradoEm"
+                        + " AND (r.removidoEm > :alteradoEm OR r.pessoaId > :pessoaId)" : "")
+                + " ORDER BY r.removidoEm, r.pessoaId";
+        TypedQuery<FuncionarioRemovido> query = entityManager.createQuery(jpql, FuncionarioRemovido.class)
+                .setParameter("ate", ate);
+        if (apos != null) {
+            query.setParameter("alteradoEm", apos.alteradoEm()).setParameter("pessoaId", apos.pessoaId());
+        }
+        // Como em FuncionarioRepositoryAdapter.findAlteradosApos, o feed lê do primário
+        return LeituraNoPrimario.executar(() -> query.setMaxResults(limite).getResultList());
+    }
+
+    @Override
+    public int deleteAntesDe(LocalDateTime limite) {
+        return jpaRepository.deleteAntesDe(limite);
+    }
+}
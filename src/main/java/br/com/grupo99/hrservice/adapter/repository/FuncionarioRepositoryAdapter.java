@@ -1,12 +1,37 @@
 package br.com.grupo99.hrservice.adapter.repository;
 
 import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.FuncionarioVersao;
+import br.com.grupo99.hrservice.domain.repository.AlteracaoCursor;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioCursor;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioFiltro;
 import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import br.com.grupo99.hrservice.infrastructure.datasource.LeituraNoPrimario;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Adapter que implementa FuncionarioRepository (domínio) usando Spring Data
@@ -16,19 +41,74 @@ import java.util.UUID;
  * - Implementa interface de domínio: FuncionarioRepository
  * - Delega para JpaRepository: FuncionarioJpaRepository
  * - Isolamento de framework em adapter layer
+ *
+ * Toda escrita em funcionarios grava também o histórico
+ * (funcionarios_historico) na mesma transação: fecha a versão aberta no
+ * updated_at gravado e abre outra com o estado da linha.
  */
 @Repository
+@Timed(value = "hr.repositorio", description = "Métodos dos repositórios", histogram = true)
 public class FuncionarioRepositoryAdapter implements FuncionarioRepository {
 
+    private static final String FECHAR_VERSOES = """
+            UPDATE funcionarios_historico h
+            SET valid_to = (SELECT f.updated_at FROM funcionarios f WHERE f.pessoa_id = h.pessoa_id)
+            WHERE h.pessoa_id IN (:pessoaIds) AND h.valid_to = :semFim
+              AND h.valid_from < (SELECT f.updated_at FROM funcionarios f WHERE f.pessoa_id = h.pessoa_id)
+            """;
+
+    // Sem versão nova quando a linha não mudou (mesmo updated_at)
+    private static final String ABRIR_VERSOES = """
+            INSERT INTO funcionarios_historico (pessoa_id, valid_from, valid_to, setor, cargo, salario, ativo)
+            SELECT f.pessoa_id, f.updated_at, :semFim, f.setor, f.cargo, f.salario, f.ativo
+            FROM funcionarios f
+            WHERE f.pessoa_id IN (:pessoaIds) AND NOT EXISTS (
+                SELECT 1 FROM funcionarios_historico h
+                WHERE h.pessoa_id = f.pessoa_id AND h.valid_from = f.updated_at)
+            """;
+
+    // PostgreSQL: o mesmo dentro da instrução que já devolve as linhas
+    // alteradas (CTE "alterados"), sem outra ida ao banco
+    private static final String VERSOES_DOS_ALTERADOS = """
+            , fechadas AS (
+                UPDATE funcionarios_historico h SET valid_to = a.updated_at
+                FROM alterados a
+                WHERE h.pessoa_id = a.pessoa_id AND h.valid_to = :semFim AND h.valid_from < a.updated_at
+            ), abertas AS (
+                INSERT INTO funcionarios_historico (pessoa_id, valid_from, valid_to, setor, cargo, salario, ativo)
+                SELECT pessoa_id, updated_at, :semFim, setor, cargo, salario, ativo FROM alterados
+                ON CONFLICT (pessoa_id, valid_from) DO NOTHING
+            )
+            """;
+
     private final FuncionarioJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final int tamanhoLoteJdbc;
+    private final boolean suportaReturning;
 
-    public FuncionarioRepositoryAdapter(FuncionarioJpaRepository jpaRepository) {
+    public FuncionarioRepositoryAdapter(FuncionarioJpaRepository jpaRepository, EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int tamanhoLoteJdbc) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.tamanhoLoteJdbc = tamanhoLoteJdbc;
+        this.suportaReturning = Dialetos.isPostgres(entityManager);
     }
 
     @Override
     public Funcionario save(Funcionario funcionario) {
-        return jpaRepository.save(funcionario);
+        // Com @Version nulo o save() faz persist: não há versão aberta a fechar
+        boolean novo = funcionario.getVersao() == null;
+        Funcionario salvo = jpaRepository.saveAndFlush(funcionario);
+        registrarVersoes(List.of(salvo.getPessoaId()), !novo);
+        return salvo;
+    }
+
+    @Override
+    public Funcionario saveAndFlush(Funcionario funcionario) {
+        boolean novo = funcionario.getVersao() == null;
+        Funcionario salvo = jpaRepository.saveAndFlush(funcionario);
+        registrarVersoes(List.of(salvo.getPessoaId()), !novo);
+        return salvo;
     }
 
     @Override
@@ -36,6 +116,19 @@ public class FuncionarioRepositoryAdapter implements FuncionarioRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public <T> Optional<T> findById(UUID id, Class<T> projecao) {
+        // Carga do cache: uma réplica atrasada logo após a invalidação
+        // deixaria o valor antigo em cache até o TTL
+        return LeituraNoPrimario.executar(() -> jpaRepository.findProjectedByPessoaId(id, projecao));
+    }
+
+    @Override
+    public Optional<Long> findVersao(UUID id) {
+        // GET condicional: com a versão da réplica um 304 poderia confirmar um ETag já superado
+        return LeituraNoPrimario.executar(() -> jpaRepository.findVersaoByPessoaId(id));
+    }
+
     @Override
     public Optional<Funcionario> findByPessoaId(UUID pessoaId) {
         return Optional.ofNullable(jpaRepository.findByPessoaId(pessoaId));
@@ -46,13 +139,364 @@ public class FuncionarioRepositoryAdapter implements FuncionarioRepository {
         return jpaRepository.existsByPessoaId(pessoaId);
     }
 
+    @Override
+    public Set<UUID> findExistingPessoaIds(Collection<UUID> pessoaIds) {
+        return jpaRepository.findExistingPessoaIds(pessoaIds);
+    }
+
+    @Override
+    public List<Funcionario> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
+    @Override
+    public void insertAll(List<Funcionario> funcionarios) {
+        // persist direto: save() faria merge (SELECT por linha) por causa do ID
+        // atribuído. flush/clear a cada batch mantém o contexto pequeno.
+        List<UUID> lote = new ArrayList<>(tamanhoLoteJdbc);
+        for (int i = 0; i < funcionarios.size(); i++) {
+            entityManager.persist(funcionarios.get(i));
+            lote.add(funcionarios.get(i).getPessoaId());
+            if ((i + 1) % tamanhoLoteJdbc == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                registrarVersoes(lote, false);
+                lote.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        registrarVersoes(lote, false);
+    }
+
+    @Override
+    public void updateAll(List<Funcionario> funcionarios) {
+        // Um flush só: os UPDATEs saem em batch e disparam o @PreUpdate, cujo
+        // updated_at marca o início da versão nova
+        entityManager.flush();
+        List<UUID> ids = funcionarios.stream().map(Funcionario::getPessoaId).toList();
+        for (int inicio = 0; inicio < ids.size(); inicio += tamanhoLoteJdbc) {
+            registrarVersoes(ids.subList(inicio, Math.min(inicio + tamanhoLoteJdbc, ids.size())), true);
+        }
+    }
+
     @Override
     public List<Funcionario> findAll() {
         return jpaRepository.findAll();
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    public <T> List<T> findPage(FuncionarioFiltro filtro, FuncionarioCursor apos, int limite, Class<T> projecao) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(projecao);
+        Root<Funcionario> root = query.from(Funcionario.class);
+        query.select(projetar(cb, root, projecao))
+                .where(predicadosDaPagina(cb, root, filtro, apos))
+                .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("pessoaId")));
+        return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+    }
+
+    @Override
+    public <T> List<T> findAlteradosApos(AlteracaoCursor apos, LocalDateTime ate, int limite, Class<T> projecao) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(projecao);
+        Root<Funcionario> root = query.from(Funcionario.class);
+        Path<LocalDateTime> updatedAt = root.get("updatedAt");
+        Path<UUID> pessoaId = root.get("pessoaId");
+        List<Predicate> predicados = new ArrayList<>();
+        predicados.add(cb.lessThanOrEqualTo(updatedAt, ate));
+        if (apos != null) {
+            // (updated_at, pessoa_id) > (:alteradoEm, :pessoaId), como no findPage
+            predicados.add(cb.greaterThanOrEqualTo(updatedAt, apos.alteradoEm()));
+            predicados.add(cb.or(
+                    cb.greaterThan(updatedAt, apos.alteradoEm()),
+                    cb.greaterThan(pessoaId, apos.pessoaId())));
+        }
+        query.select(projetar(cb, root, projecao))
+                .where(predicados.toArray(new Predicate[0]))
+                .orderBy(cb.asc(updatedAt), cb.asc(pessoaId));
+        // O feed avança o cursor até "ate": numa réplica atrasada linhas já
+        // confirmadas no primário ficariam para trás do cursor
+        return LeituraNoPrimario.executar(
+                () -> entityManager.createQuery(query).setMaxResults(limite).getResultList());
+    }
+
+    @Override
+    public <T> List<T> search(FuncionarioBusca busca, int deslocamento, int limite, Class<T> projecao) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(projecao);
+        Root<Funcionario> root = query.from(Funcionario.class);
+        Path<Object> ordem = root.get(busca.ordenarPor().atributo());
+        query.select(projetar(cb, root, projecao))
+                .where(predicadosDaBusca(cb, root, busca))
+                .orderBy(busca.decrescente() ? cb.desc(ordem) : cb.asc(ordem), cb.asc(root.get("pessoaId")));
+        return entityManager.createQuery(query)
+                .setFirstResult(deslocamento)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Funcionario> streamAll() {
+        return jpaRepository.streamAll().map(this::desanexar);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Funcionario> deactivate(UUID id, Long versaoEsperada) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (suportaReturning) {
+            // Uma ida ao banco: o UPDATE já devolve a linha alterada e a mesma
+            // instrução grava o histórico
+            Query update = entityManager.createNativeQuery("""
+                    WITH alterados AS (
+                        UPDATE funcionarios SET ativo = false, updated_at = :agora, versao = versao + 1
+                        WHERE pessoa_id = :pessoaId AND ativo = true
+                    """ + (versaoEsperada != null ? "AND versao = :versao " : "") + "RETURNING *)"
+                    + VERSOES_DOS_ALTERADOS + "SELECT * FROM alterados",
+                    Funcionario.class)
+                    .setParameter("agora", agora)
+                    .setParameter("pessoaId", id)
+                    .setParameter("semFim", FuncionarioVersao.SEM_FIM);
+            if (versaoEsperada != null) {
+                update.setParameter("versao", versaoEsperada);
+            }
+            List<Funcionario> alterados = update.getResultList();
+            return alterados.stream().findFirst();
+        }
+        // Bancos sem RETURNING (H2 nos testes): UPDATE condicional e leitura
+        // somente quando houve alteração
+        int alterados = versaoEsperada != null
+                ? jpaRepository.deactivate(id, versaoEsperada, agora)
+                : jpaRepository.deactivate(id, agora);
+        if (alterados == 0) {
+            return Optional.empty();
+        }
+        registrarVersoes(List.of(id), true);
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Funcionario> delete(UUID id) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (suportaReturning) {
+            // Uma ida ao banco: o DELETE devolve a linha removida e a mesma
+            // instrução grava a lápide e fecha a versão no histórico
+            List<Funcionario> removidos = entityManager.createNativeQuery("""
+                    WITH removido AS (
+                        DELETE FROM funcionarios WHERE pessoa_id = :pessoaId
+                        RETURNING *
+                    ), lapide AS (
+                        INSERT INTO funcionarios_removidos (pessoa_id, removido_em)
+                        SELECT pessoa_id, :agora FROM removido
+                        ON CONFLICT (pessoa_id) DO UPDATE SET removido_em = EXCLUDED.removido_em
+                    ), encerrada AS (
+                        UPDATE funcionarios_historico SET valid_to = :agora
+                        WHERE pessoa_id IN (SELECT pessoa_id FROM removido) AND valid_to = :semFim
+                    )
+                    SELECT * FROM removido
+                    """, Funcionario.class)
+                    .setParameter("pessoaId", id)
+                    .setParameter("agora", agora)
+                    .setParameter("semFim", FuncionarioVersao.SEM_FIM)
+                    .getResultList();
+            removidos.forEach(entityManager::detach);
+            return removidos.stream().findFirst();
+        }
+        // H2 nos testes: OLD TABLE devolve a linha removida pelo próprio
+        // DELETE; lápide (MERGE, a pessoa pode ter sido removida antes) e
+        // fechamento da versão seguem em instruções separadas
+        List<Funcionario> removidos = entityManager.createNativeQuery("""
+                SELECT * FROM OLD TABLE (DELETE FROM funcionarios WHERE pessoa_id = :pessoaId)
+                """, Funcionario.class)
+                .setParameter("pessoaId", id)
+                .getResultList();
+        if (removidos.isEmpty()) {
+            return Optional.empty();
+        }
+        removidos.forEach(entityManager::detach);
+        entityManager.createNativeQuery("""
+                MERGE INTO funcionarios_removidos (pessoa_id, removido_em) KEY (pessoa_id)
+                VALUES (:pessoaId, :agora)
+                """)
+                .setParameter("pessoaId", id)
+                .setParameter("agora", agora)
+                .executeUpdate();
+        entityManager.createNativeQuery("""
+                UPDATE funcionarios_historico SET valid_to = :agora
+                WHERE pessoa_id = :pessoaId AND valid_to = :semFim
+                """)
+                .setParameter("agora", agora)
+                .setParameter("pessoaId", id)
+                .setParameter("semFim", FuncionarioVersao.SEM_FIM)
+                .executeUpdate();
+        return Optional.of(removidos.get(0));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Funcionario> updateAtivoAll(Collection<UUID> ids, boolean ativo) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        if (suportaReturning) {
+            // Uma instrução por lote: o UPDATE devolve as linhas alteradas e
+            // grava o histórico
+            List<Funcionario> alterados = entityManager.createNativeQuery("""
+                    WITH alterados AS (
+                        UPDATE funcionarios SET ativo = :ativo, updated_at = :agora, versao = versao + 1
+                        WHERE pessoa_id IN (:pessoaIds) AND ativo <> :ativo
+                        RETURNING *
+                    )
+                    """ + VERSOES_DOS_ALTERADOS + "SELECT * FROM alterados", Funcionario.class)
+                    .setParameter("ativo", ativo)
+                    .setParameter("agora", agora)
+                    .setParameter("pessoaIds", ids)
+                    .setParameter("semFim", FuncionarioVersao.SEM_FIM)
+                    .getResultList();
+            alterados.forEach(entityManager::detach);
+            return alterados;
+        }
+        // Bancos sem RETURNING (H2 nos testes): leitura das linhas que mudam
+        // e um UPDATE para todas elas
+        List<Funcionario> alterados = jpaRepository.findComAtivoDiferente(ids, ativo);
+        if (alterados.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> alteradosIds = alterados.stream().map(Funcionario::getPessoaId).toList();
+        jpaRepository.updateAtivo(alteradosIds, ativo, agora);
+        registrarVersoes(alteradosIds, true);
+        // clearAutomatically já desanexou as entidades lidas
+        alterados.forEach(funcionario -> funcionario.setAtivo(ativo));
+        return alterados;
+    }
+
+    @Override
+    public List<Funcionario> findLoteParaAtualizacao(FuncionarioFiltro filtro, UUID apos, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Funcionario> query = cb.createQuery(Funcionario.class);
+        Root<Funcionario> root = query.from(Funcionario.class);
+        Path<UUID> pessoaId = root.get("pessoaId");
+        List<Predicate> predicados = new ArrayList<>(List.of(predicadosDaPagina(cb, root, filtro, null)));
+        if (apos != null) {
+            predicados.add(cb.greaterThan(pessoaId, apos));
+        }
+        query.select(root)
+                .where(predicados.toArray(new Predicate[0]))
+                .orderBy(cb.asc(pessoaId));
+        List<Funcionario> lote = entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limite)
+                .getResultList();
+        // Os UPDATEs em massa não passam pelas entidades; desanexadas, elas
+        // guardam os valores anteriores sem dirty checking
+        lote.forEach(entityManager::detach);
+        return lote;
+    }
+
+    @Override
+    public int updateSetorAll(Collection<UUID> ids, String setor) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int alterados = jpaRepository.updateSetor(ids, setor, LocalDateTime.now());
+        registrarVersoes(ids, true);
+        return alterados;
+    }
+
+    @Override
+    public int updateSalarioAll(Collection<UUID> ids, BigDecimal fator) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int alterados = jpaRepository.updateSalario(ids, fator, LocalDateTime.now());
+        registrarVersoes(ids, true);
+        return alterados;
+    }
+
+    /**
+     * Grava no histórico o estado atual (já no banco) das linhas informadas:
+     * fecha as versões abertas, se houver, e abre as novas.
+     */
+    private void registrarVersoes(Collection<UUID> ids, boolean fecharAbertas) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (fecharAbertas) {
+            entityManager.createNativeQuery(FECHAR_VERSOES)
+                    .setParameter("pessoaIds", ids)
+                    .setParameter("semFim", FuncionarioVersao.SEM_FIM)
+                    .executeUpdate();
+        }
+        entityManager.createNativeQuery(ABRIR_VERSOES)
+                .setParameter("pessoaIds", ids)
+                .setParameter("semFim", FuncionarioVersao.SEM_FIM)
+                .executeUpdate();
+    }
+
+    /**
+     * Remove a entidade do contexto de persistência assim que é lida, para que
+     * o heap não cresça com o tamanho da tabela durante o streaming.
+     */
+    private Funcionario desanexar(Funcionario funcionario) {
+        entityManager.detach(funcionario);
+        return funcionario;
+    }
+
+    /**
+     * SELECT NEW com um atributo por componente do record, na ordem do
+     * construtor canônico. As linhas não passam pelo contexto de persistência.
+     */
+    private <T> Selection<T> projetar(CriteriaBuilder cb, Root<Funcionario> root, Class<T> projecao) {
+        if (!projecao.isRecord()) {
+            throw new IllegalArgumentException("Projeção deve ser um record: " + projecao.getName());
+        }
+        Selection<?>[] atributos = Arrays.stream(projecao.getRecordComponents())
+                .map(componente -> root.get(componente.getName()))
+                .toArray(Selection<?>[]::new);
+        return cb.construct(projecao, atributos);
+    }
+
+    private Predicate[] predicadosDaBusca(CriteriaBuilder cb, Root<Funcionario> root, FuncionarioBusca busca) {
+        List<Predicate> predicados = new ArrayList<>(List.of(predicadosDaPagina(cb, root,
+                new FuncionarioFiltro(busca.setor(), busca.cargo(), busca.ativo()), null)));
+        Path<LocalDate> dataAdmissao = root.get("dataAdmissao");
+        if (busca.admitidoDe() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(dataAdmissao, busca.admitidoDe()));
+        }
+        if (busca.admitidoAte() != null) {
+            predicados.add(cb.lessThanOrEqualTo(dataAdmissao, busca.admitidoAte()));
+        }
+        return predicados.toArray(new Predicate[0]);
+    }
+
+    private Predicate[] predicadosDaPagina(CriteriaBuilder cb, Root<Funcionario> root, FuncionarioFiltro filtro,
+            FuncionarioCursor apos) {
+        List<Predicate> predicados = new ArrayList<>();
+        if (filtro.setor() != null) {
+            predicados.add(cb.equal(root.get("setor"), filtro.setor()));
+        }
+        if (filtro.cargo() != null) {
+            predicados.add(cb.equal(root.get("cargo"), filtro.cargo()));
+        }
+        if (filtro.ativo() != null) {
+            // Literal, não parâmetro: com "ativo = ?" o plano genérico do
+            // PostgreSQL não pode usar os índices parciais WHERE ativo
+            Path<Boolean> ativo = root.get("ativo");
+            predicados.add(filtro.ativo() ? cb.isTrue(ativo) : cb.isFalse(ativo));
+        }
+        if (apos != null) {
+            // (created_at, pessoa_id) > (:createdAt, :pessoaId); o ">=" isolado dá ao
+            // otimizador um limite inferior para percorrer o índice por faixa.
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> pessoaId = root.get("pessoaId");
+            predicados.add(cb.greaterThanOrEqualTo(createdAt, apos.createdAt()));
+            predicados.add(cb.or(
+                    cb.greaterThan(createdAt, apos.createdAt()),
+                    cb.greaterThan(pessoaId, apos.pessoaId())));
+        }
+        return predicados.toArray(new Predicate[0]);
     }
 }
@@ -0,0 +1,22 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository para EventoOutbox.
+ */
+@Repository
+public interface OutboxJpaRepository extends JpaRepository<EventoOutbox, UUID> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM EventoOutbox e WHERE e.id IN :ids")
+    int deleteAllByIdDireto(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,55 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+import br.com.grupo99.hrservice.domain.repository.OutboxRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.LockOptions;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa OutboxRepository (domínio) com JPA.
+ */
+@Repository
+@Timed(value = "hr.repositorio", description = "Métodos dos repositórios", histogram = true)
+public class OutboxRepositoryAdapter implements OutboxRepository {
+
+    private final OutboxJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public OutboxRepositoryAdapter(OutboxJpaRepository jpaRepository, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void appendAll(List<EventoOutbox> eventos) {
+        // persist direto: o ID é atribuído, e save() faria merge (SELECT por
+        // linha). Os INSERTs saem no flush da transação, agrupados em batch.
+        eventos.forEach(entityManager::persist);
+    }
+
+    @Override
+    public List<EventoOutbox> claimBatch(int limite) {
+        // FOR UPDATE SKIP LOCKED no PostgreSQL; em dialetos sem SKIP LOCKED
+        // o Hibernate emite só o FOR UPDATE e as instâncias se revezam.
+        return entityManager.createQuery(
+                "SELECT e FROM EventoOutbox e ORDER BY e.criadoEm, e.id", EventoOutbox.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            jpaRepository.deleteAllByIdDireto(ids);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.ResumoSalarial;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository para ResumoSalarial.
+ */
+@Repository
+public interface ResumoSalarialJpaRepository extends JpaRepository<ResumoSalarial, ResumoSalarial.Chave> {
+
+    @Query("SELECT r FROM ResumoSalarial r ORDER BY r.setor, r.cargo")
+    List<ResumoSalarial> findAllOrdenado();
+
+    @Query("SELECT new br.com.grupo99.hrservice.domain.model.ResumoSalarial("
+            + "f.setor, f.cargo, COUNT(f), SUM(f.salario)) "
+            + "FROM Funcionario f WHERE f.ativo = true GROUP BY f.setor, f.cargo ORDER BY f.setor, f.cargo")
+    List<ResumoSalarial> computeFromFuncionarios();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ResumoSalarial r")
+    int deleteAllDireto();
+}
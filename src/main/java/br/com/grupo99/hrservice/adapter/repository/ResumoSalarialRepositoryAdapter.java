@@ -0,0 +1,86 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.model.ResumoSalarial;
+import br.com.grupo99.hrservice.domain.repository.ResumoSalarialRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Adapter que implementa ResumoSalarialRepository (domínio) com SQL nativo
+ * para os deltas e Spring Data JPA para as leituras.
+ */
+@Repository
+@Timed(value = "hr.repositorio", description = "Métodos dos repositórios", histogram = true)
+public class ResumoSalarialRepositoryAdapter implements ResumoSalarialRepository {
+
+    // Upsert atômico: concorrentes no mesmo setor/cargo serializam na linha
+    private static final String DELTA_POSTGRES = """
+            INSERT INTO resumo_salarial (setor, cargo, quantidade, total_salario)
+            VALUES (:setor, :cargo, :quantidade, :salario)
+            ON CONFLICT (setor, cargo) DO UPDATE
+            SET quantidade = resumo_salarial.quantidade + EXCLUDED.quantidade,
+                total_salario = resumo_salarial.total_salario + EXCLUDED.total_salario
+            """;
+
+    // MERGE padrão para o H2 dos testes, que não tem ON CONFLICT DO UPDATE
+    private static final String DELTA_PORTAVEL = """
+            MERGE INTO resumo_salarial r
+            USING (SELECT CAST(:setor AS VARCHAR(100)) AS setor, CAST(:cargo AS VARCHAR(100)) AS cargo) d
+            ON r.setor = d.setor AND r.cargo = d.cargo
+            WHEN MATCHED THEN UPDATE
+                SET quantidade = r.quantidade + :quantidade, total_salario = r.total_salario + :salario
+            WHEN NOT MATCHED THEN INSERT (setor, cargo, quantidade, total_salario)
+                VALUES (d.setor, d.cargo, :quantidade, :salario)
+            """;
+
+    private final ResumoSalarialJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final boolean postgres;
+
+    public ResumoSalarialRepositoryAdapter(ResumoSalarialJpaRepository jpaRepository, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.postgres = Dialetos.isPostgres(entityManager);
+    }
+
+    @Override
+    public void applyDelta(MovimentoSalarial movimento) {
+        entityManager.createNativeQuery(postgres ? DELTA_POSTGRES : DELTA_PORTAVEL)
+                .setParameter("setor", movimento.setor())
+                .setParameter("cargo", movimento.cargo())
+                .setParameter("quantidade", movimento.quantidade())
+                .setParameter("salario", movimento.salario())
+                .executeUpdate();
+    }
+
+    @Override
+    public List<ResumoSalarial> findAll() {
+        return jpaRepository.findAllOrdenado();
+    }
+
+    @Override
+    public List<ResumoSalarial> computeFromFuncionarios() {
+        return jpaRepository.computeFromFuncionarios();
+    }
+
+    @Override
+    public void lockForReconciliation() {
+        if (postgres) {
+            // Bloqueia deltas (INSERT/UPDATE), mas não leituras do resumo
+            entityManager.createNativeQuery("LOCK TABLE resumo_salarial IN SHARE ROW EXCLUSIVE MODE")
+                    .executeUpdate();
+        }
+    }
+
+    @Override
+    public void replaceAll(List<ResumoSalarial> resumo) {
+        jpaRepository.deleteAllDireto();
+        resumo.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.grupo99.hrservice.application.cache;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Cache read-through de funcionários por pessoaId.
+ * <p>
+ * Guarda o {@link FuncionarioResponseDTO} (imutável), nunca a entidade
+ * gerenciada. Consultas sem resultado também são guardadas, por um tempo bem
+ * menor, para absorver rajadas de buscas por pessoas inexistentes. A
+ * invalidação das escritas acontece só após o commit: uma leitura concorrente
+ * que carregue o valor antigo antes do commit é descartada em seguida.
+ * <p>
+ * A carga roda fora de qualquer monitor (o cache guarda um
+ * {@link CompletableFuture} em andamento), para que virtual threads à espera
+ * do JDBC ou da mesma chave estacionem em vez de fixar a carrier thread.
+ * <p>
+ * O mesmo future faz o single-flight: buscas concorrentes de um pessoaId fora
+ * do cache compartilham uma única consulta e recebem o mesmo resultado, ou a
+ * mesma exceção. As que aguardaram uma carga alheia são contadas em
+ * {@code funcionarios.cache.coalescidas}.
+ */
+@Component
+public class FuncionarioCache {
+
+    private final AsyncCache<UUID, Optional<FuncionarioResponseDTO>> cache;
+    private final Counter coalescidas;
+
+    public FuncionarioCache(MeterRegistry meterRegistry,
+            @Value("${funcionarios.cache.maximum-size:10000}") long maximumSize,
+            @Value("${funcionarios.cache.ttl:10m}") Duration ttl,
+            @Value("${funcionarios.cache.negative-ttl:5s}") Duration ttlNegativo) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpiraPorResultado(ttl.toNanos(), ttlNegativo.toNanos()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "funcionarios");
+        this.coalescidas = Counter.builder("funcionarios.cache.coalescidas")
+                .description("Buscas que aguardaram a carga já em andamento do mesmo pessoaId")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Devolve o funcionário em cache ou o carrega com o loader informado.
+     * Cargas concorrentes do mesmo pessoaId aguardam a primeira.
+     */
+    public Optional<FuncionarioResponseDTO> get(UUID pessoaId,
+            Function<UUID, Optional<FuncionarioResponseDTO>> loader) {
+        CompletableFuture<Optional<FuncionarioResponseDTO>> carga = new CompletableFuture<>();
+        CompletableFuture<Optional<FuncionarioResponseDTO>> resultado = cache.get(pessoaId, (id, executor) -> carga);
+        if (resultado == carga) {
+            // Esta chamada registrou a carga: executa na própria thread (e
+            // transação), já fora do compute do mapa. Falhas não ficam em cache.
+            try {
+                carga.complete(loader.apply(pessoaId));
+            } catch (RuntimeException | Error e) {
+                carga.completeExceptionally(e);
+            }
+        } else if (!resultado.isDone()) {
+            coalescidas.increment();
+        }
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Funcionário já carregado no cache, sem disparar carga nem esperar uma em
+     * andamento. Consultas negativas em cache não contam.
+     */
+    public Optional<FuncionarioResponseDTO> getIfPresent(UUID pessoaId) {
+        CompletableFuture<Optional<FuncionarioResponseDTO>> valor = cache.getIfPresent(pessoaId);
+        if (valor == null || !valor.isDone() || valor.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return valor.join();
+    }
+
+    /**
+     * Invalida o funcionário quando a transação corrente fizer commit, ou
+     * imediatamente se não houver transação.
+     */
+    public void invalidarAposCommit(UUID pessoaId) {
+        invalidarAposCommit(List.of(pessoaId));
+    }
+
+    public void invalidarAposCommit(Collection<UUID> pessoaIds) {
+        if (pessoaIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.synchronous().invalidateAll(pessoaIds);
+            return;
+        }
+        List<UUID> ids = List.copyOf(pessoaIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.synchronous().invalidateAll(ids);
+            }
+        });
+    }
+
+    private static final class ExpiraPorResultado implements Expiry<UUID, Optional<FuncionarioResponseDTO>> {
+        private final long ttlNanos;
+        private final long ttlNegativoNanos;
+
+        private ExpiraPorResultado(long ttlNanos, long ttlNegativoNanos) {
+            this.ttlNanos = ttlNanos;
+            this.ttlNegativoNanos = ttlNegativoNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(UUID pessoaId, Optional<FuncionarioResponseDTO> valor, long currentTime) {
+            return valor.isPresent() ? ttlNanos : ttlNegativoNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID pessoaId, Optional<FuncionarioResponseDTO> valor, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(pessoaId, valor, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID pessoaId, Optional<FuncionarioResponseDTO> valor, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
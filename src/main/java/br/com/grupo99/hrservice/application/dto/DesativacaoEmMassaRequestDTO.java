@@ -0,0 +1,13 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO para desativação em massa dos funcionários ativos de um setor,
+ * opcionalmente só de um cargo.
+ */
+public record DesativacaoEmMassaRequestDTO(
+        @NotBlank(message = "Setor é obrigatório") String setor,
+
+        String cargo) {
+}
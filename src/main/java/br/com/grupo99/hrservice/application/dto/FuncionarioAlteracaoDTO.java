@@ -0,0 +1,29 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Item do feed de alterações. Em ALTERADO, funcionario traz o estado atual
+ * (criação, atualização ou desativação); em REMOVIDO, funcionario é nulo.
+ */
+public record FuncionarioAlteracaoDTO(
+        UUID pessoaId,
+        Tipo tipo,
+        LocalDateTime alteradoEm,
+        FuncionarioResponseDTO funcionario) {
+
+    public enum Tipo {
+        ALTERADO,
+        REMOVIDO
+    }
+
+    public static FuncionarioAlteracaoDTO alterado(FuncionarioResponseDTO funcionario) {
+        return new FuncionarioAlteracaoDTO(funcionario.pessoaId(), Tipo.ALTERADO, funcionario.updatedAt(),
+                funcionario);
+    }
+
+    public static FuncionarioAlteracaoDTO removido(UUID pessoaId, LocalDateTime removidoEm) {
+        return new FuncionarioAlteracaoDTO(pessoaId, Tipo.REMOVIDO, removidoEm, null);
+    }
+}
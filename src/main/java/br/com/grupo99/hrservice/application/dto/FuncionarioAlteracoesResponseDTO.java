@@ -0,0 +1,14 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta do feed de alterações. proximoCursor nunca é nulo: com
+ * temMais=false o feed está em dia e o cursor serve para a próxima consulta.
+ */
+public record FuncionarioAlteracoesResponseDTO(
+        List<FuncionarioAlteracaoDTO> alteracoes,
+        int tamanho,
+        String proximoCursor,
+        boolean temMais) {
+}
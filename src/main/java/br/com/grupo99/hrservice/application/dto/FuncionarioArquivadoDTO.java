@@ -0,0 +1,37 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioArquivado;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para resposta de Funcionario arquivado.
+ */
+public record FuncionarioArquivadoDTO(
+        UUID pessoaId,
+        LocalDate dataAdmissao,
+        String setor,
+        String cargo,
+        BigDecimal salario,
+        Boolean ativo,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long versao,
+        LocalDateTime arquivadoEm) {
+
+    public static FuncionarioArquivadoDTO fromDomain(FuncionarioArquivado funcionario) {
+        return new FuncionarioArquivadoDTO(
+                funcionario.getPessoaId(),
+                funcionario.getDataAdmissao(),
+                funcionario.getSetor(),
+                funcionario.getCargo(),
+                funcionario.getSalario(),
+                funcionario.getAtivo(),
+                funcionario.getCreatedAt(),
+                funcionario.getUpdatedAt(),
+                funcionario.getVersao(),
+                funcionario.getArquivadoEm());
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta paginada do arquivo de funcionários.
+ * proximoCursor é nulo quando não há mais páginas.
+ */
+public record FuncionarioArquivadoPageResponseDTO(
+        List<FuncionarioArquivadoDTO> conteudo,
+        int tamanho,
+        String proximoCursor) {
+}
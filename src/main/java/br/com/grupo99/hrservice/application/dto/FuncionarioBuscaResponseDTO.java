@@ -0,0 +1,13 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta da busca de Funcionario, paginada por número de página.
+ */
+public record FuncionarioBuscaResponseDTO(
+        List<FuncionarioResponseDTO> conteudo,
+        int pagina,
+        int tamanho,
+        boolean temProxima) {
+}
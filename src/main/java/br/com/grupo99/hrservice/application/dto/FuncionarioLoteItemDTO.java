@@ -0,0 +1,20 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Resultado de um item do cadastro em lote, na posição em que foi enviado.
+ */
+public record FuncionarioLoteItemDTO(
+        int indice,
+        UUID pessoaId,
+        Status status,
+        String mensagem) {
+
+    public enum Status {
+        CRIADO,
+        ATUALIZADO,
+        DUPLICADO,
+        INVALIDO
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta do cadastro em lote de Funcionario.
+ */
+public record FuncionarioLoteResponseDTO(
+        int criados,
+        int atualizados,
+        int duplicados,
+        int invalidos,
+        List<FuncionarioLoteItemDTO> itens) {
+
+    public static FuncionarioLoteResponseDTO of(List<FuncionarioLoteItemDTO> itens) {
+        int[] contagem = new int[FuncionarioLoteItemDTO.Status.values().length];
+        itens.forEach(item -> contagem[item.status().ordinal()]++);
+        return new FuncionarioLoteResponseDTO(
+                contagem[FuncionarioLoteItemDTO.Status.CRIADO.ordinal()],
+                contagem[FuncionarioLoteItemDTO.Status.ATUALIZADO.ordinal()],
+                contagem[FuncionarioLoteItemDTO.Status.DUPLICADO.ordinal()],
+                contagem[FuncionarioLoteItemDTO.Status.INVALIDO.ordinal()],
+                itens);
+    }
+}
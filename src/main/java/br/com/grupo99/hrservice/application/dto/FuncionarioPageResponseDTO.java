@@ -0,0 +1,13 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta paginada de Funcionario.
+ * proximoCursor é nulo quando não há mais páginas.
+ */
+public record FuncionarioPageResponseDTO(
+        List<FuncionarioResponseDTO> conteudo,
+        int tamanho,
+        String proximoCursor) {
+}
@@ -17,7 +17,8 @@ public record FuncionarioResponseDTO(
         BigDecimal salario,
         Boolean ativo,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt) {
+        LocalDateTime updatedAt,
+        Long versao) {
 
     public static FuncionarioResponseDTO fromDomain(Funcionario funcionario) {
         return new FuncionarioResponseDTO(
@@ -28,6 +29,7 @@ public record FuncionarioResponseDTO(
                 funcionario.getSalario(),
                 funcionario.getAtivo(),
                 funcionario.getCreatedAt(),
-                funcionario.getUpdatedAt());
+                funcionario.getUpdatedAt(),
+                funcionario.getVersao());
     }
 }
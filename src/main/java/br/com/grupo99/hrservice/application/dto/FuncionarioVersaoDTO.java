@@ -0,0 +1,31 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioVersao;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para resposta de uma versão do histórico de Funcionario.
+ * validoAte é nulo na versão vigente.
+ */
+public record FuncionarioVersaoDTO(
+        UUID pessoaId,
+        LocalDateTime validoDe,
+        LocalDateTime validoAte,
+        String setor,
+        String cargo,
+        BigDecimal salario,
+        Boolean ativo) {
+
+    public static FuncionarioVersaoDTO fromDomain(FuncionarioVersao versao) {
+        return new FuncionarioVersaoDTO(
+                versao.getPessoaId(),
+                versao.getValidoDe(),
+                versao.isVigente() ? null : versao.getValidoAte(),
+                versao.getSetor(),
+                versao.getCargo(),
+                versao.getSalario(),
+                versao.getAtivo());
+    }
+}
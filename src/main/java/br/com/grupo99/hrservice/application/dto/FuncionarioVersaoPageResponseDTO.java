@@ -0,0 +1,13 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta paginada das versões vigentes em uma data.
+ * proximoCursor é nulo quando não há mais páginas.
+ */
+public record FuncionarioVersaoPageResponseDTO(
+        List<FuncionarioVersaoDTO> conteudo,
+        int tamanho,
+        String proximoCursor) {
+}
@@ -0,0 +1,10 @@
+package br.com.grupo99.hrservice.application.dto;
+
+/**
+ * DTO para resposta das operações em massa: funcionários alterados e lotes
+ * (transações) executados.
+ */
+public record OperacaoEmMassaResponseDTO(
+        int afetados,
+        int lotes) {
+}
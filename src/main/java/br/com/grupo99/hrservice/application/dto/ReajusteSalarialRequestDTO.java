@@ -0,0 +1,18 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+/**
+ * DTO para reajuste percentual dos salários dos funcionários ativos, de todos
+ * ou filtrados por setor e cargo.
+ */
+public record ReajusteSalarialRequestDTO(
+        String setor,
+
+        String cargo,
+
+        @NotNull(message = "Percentual é obrigatório") @DecimalMin(value = "-99.99", message = "Percentual deve ser maior que -100") @Digits(integer = 3, fraction = 4, message = "Percentual com até 4 casas decimais") BigDecimal percentual) {
+}
@@ -0,0 +1,15 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para resposta do resumo salarial.
+ * setor ou cargo vêm nulos quando o resumo é agrupado só pelo outro campo.
+ */
+public record ResumoSalarialDTO(
+        String setor,
+        String cargo,
+        long quantidade,
+        BigDecimal totalSalario,
+        BigDecimal mediaSalario) {
+}
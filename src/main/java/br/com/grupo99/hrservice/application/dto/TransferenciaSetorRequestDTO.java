@@ -0,0 +1,15 @@
+package br.com.grupo99.hrservice.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO para transferência em massa dos funcionários de um setor para outro,
+ * opcionalmente só de um cargo.
+ */
+public record TransferenciaSetorRequestDTO(
+        @NotBlank(message = "Setor de origem é obrigatório") String setorOrigem,
+
+        @NotBlank(message = "Setor de destino é obrigatório") String setorDestino,
+
+        String cargo) {
+}
@@ -0,0 +1,11 @@
+package br.com.grupo99.hrservice.application.exception;
+
+/**
+ * Exceção para cursor do feed de alterações anterior à retenção das lápides:
+ * remoções podem ter sido descartadas e o cliente deve ressincronizar.
+ */
+public class CursorExpiradoException extends RuntimeException {
+    public CursorExpiradoException(String message) {
+        super(message);
+    }
+}
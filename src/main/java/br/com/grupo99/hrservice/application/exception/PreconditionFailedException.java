@@ -0,0 +1,11 @@
+package br.com.grupo99.hrservice.application.exception;
+
+/**
+ * Exceção para escrita condicional (If-Match) sobre uma versão que não é mais
+ * a atual do recurso.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
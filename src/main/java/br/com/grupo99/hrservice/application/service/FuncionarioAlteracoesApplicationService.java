@@ -0,0 +1,154 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioAlteracaoDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioAlteracoesResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.exception.CursorExpiradoException;
+import br.com.grupo99.hrservice.domain.repository.AlteracaoCursor;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRemovidoRepository;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Feed de alterações para réplicas do cadastro: funcionários criados,
+ * alterados, desativados ou removidos depois de um cursor, em páginas por
+ * chave sobre (updated_at, pessoa_id) e sobre as lápides de remoção. O custo
+ * de uma sincronização é proporcional às alterações, não à tabela.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class FuncionarioAlteracoesApplicationService {
+
+    static final int TAMANHO_PAGINA_PADRAO = 500;
+    static final int TAMANHO_PAGINA_MAXIMO = 1000;
+
+    // Maior UUID na ordem do banco: o cursor (limite, MAXIMO) fica depois de
+    // todas as linhas alteradas até o limite
+    private static final UUID PESSOA_ID_MAXIMO = new UUID(-1L, -1L);
+
+    // Mesma ordem do banco: instante e UUID comparado sem sinal
+    private static final Comparator<FuncionarioAlteracaoDTO> ORDEM = Comparator
+            .comparing(FuncionarioAlteracaoDTO::alteradoEm)
+            .thenComparing(FuncionarioAlteracaoDTO::pessoaId, FuncionarioAlteracoesApplicationService::compararUuid)
+            .thenComparing(alteracao -> alteracao.tipo() == FuncionarioAlteracaoDTO.Tipo.ALTERADO);
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final FuncionarioRemovidoRepository funcionarioRemovidoRepository;
+    private final Duration margem;
+    private final Duration retencao;
+
+    public FuncionarioAlteracoesApplicationService(FuncionarioRepository funcionarioRepository,
+            FuncionarioRemovidoRepository funcionarioRemovidoRepository,
+            @Value("${funcionarios.alteracoes.margem:PT5S}") Duration margem,
+            @Value("${funcionarios.alteracoes.retencao:P30D}") Duration retencao) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.funcionarioRemovidoRepository = funcionarioRemovidoRepository;
+        this.margem = margem;
+        this.retencao = retencao;
+    }
+
+    /**
+     * Lista as alterações posteriores ao cursor, limitadas a
+     * {@value #TAMANHO_PAGINA_MAXIMO} por página.
+     * <p>
+     * updated_at é atribuído antes do commit, então uma transação ainda em
+     * andamento pode gravar um instante anterior ao de linhas já visíveis. O
+     * feed só lê até agora - margem, para que o cursor não passe à frente
+     * dessas escritas.
+     */
+    public FuncionarioAlteracoesResponseDTO listarAlteracoes(String cursor, Integer tamanho) {
+        int limite = validarTamanhoPagina(tamanho);
+        AlteracaoCursor apos = decodificarCursor(cursor);
+        LocalDateTime agora = LocalDateTime.now();
+        if (apos != null && apos.alteradoEm().isBefore(agora.minus(retencao))) {
+            throw new CursorExpiradoException("Cursor anterior à retenção de " + retencao
+                    + " do feed de alterações; ressincronize pelo /export");
+        }
+        LocalDateTime ate = agora.minus(margem);
+
+        // Um registro a mais de cada fonte basta para saber se há próxima página
+        List<FuncionarioAlteracaoDTO> alteracoes = new ArrayList<>();
+        funcionarioRepository.findAlteradosApos(apos, ate, limite + 1, FuncionarioResponseDTO.class)
+                .forEach(funcionario -> alteracoes.add(FuncionarioAlteracaoDTO.alterado(funcionario)));
+        funcionarioRemovidoRepository.findApos(apos, ate, limite + 1)
+                .forEach(removido -> alteracoes.add(
+                        FuncionarioAlteracaoDTO.removido(removido.getPessoaId(), removido.getRemovidoEm())));
+        alteracoes.sort(ORDEM);
+
+        boolean temMais = alteracoes.size() > limite;
+        List<FuncionarioAlteracaoDTO> pagina = temMais ? alteracoes.subList(0, limite) : alteracoes;
+        AlteracaoCursor proximo;
+        if (temMais) {
+            FuncionarioAlteracaoDTO ultima = pagina.get(pagina.size() - 1);
+            proximo = new AlteracaoCursor(ultima.alteradoEm(), ultima.pessoaId());
+        } else if (apos != null && !apos.alteradoEm().isBefore(ate)) {
+            proximo = apos;
+        } else {
+            // Em dia até o limite: o cursor avança mesmo sem alterações
+            proximo = new AlteracaoCursor(ate, PESSOA_ID_MAXIMO);
+        }
+        return new FuncionarioAlteracoesResponseDTO(List.copyOf(pagina), pagina.size(), codificarCursor(proximo),
+                temMais);
+    }
+
+    /**
+     * Descarta as lápides além da retenção do feed.
+     *
+     * @return quantidade de lápides removidas
+     */
+    @Transactional
+    public int limparRemocoes() {
+        return funcionarioRemovidoRepository.deleteAntesDe(LocalDateTime.now().minus(retencao));
+    }
+
+    private int validarTamanhoPagina(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        if (tamanho < 1) {
+            throw new BusinessException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private static int compararUuid(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    // ===== Métodos de Paginação =====
+
+    private String codificarCursor(AlteracaoCursor cursor) {
+        String valor = cursor.alteradoEm() + "|" + cursor.pessoaId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private AlteracaoCursor decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf('|');
+            return new AlteracaoCursor(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor de alterações inválido", e);
+        }
+    }
+}
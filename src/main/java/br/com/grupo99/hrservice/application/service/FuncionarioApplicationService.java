@@ -1,16 +1,34 @@
 package br.com.grupo99.hrservice.application.service;
 
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.application.dto.FuncionarioBuscaResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioPageResponseDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
 import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.exception.PreconditionFailedException;
 import br.com.grupo99.hrservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.hrservice.domain.events.FuncionarioCriadoEvent;
 import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioCursor;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioFiltro;
 import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Serviço de aplicação responsável pela orquestração de casos de uso
@@ -20,12 +38,25 @@ import java.util.UUID;
  */
 @Service
 @Transactional
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
 public class FuncionarioApplicationService {
 
+    static final int TAMANHO_PAGINA_PADRAO = 50;
+    static final int TAMANHO_PAGINA_MAXIMO = 200;
+    static final int DESLOCAMENTO_MAXIMO = 10_000;
+
     private final FuncionarioRepository funcionarioRepository;
+    private final FuncionarioCache funcionarioCache;
+    private final ResumoSalarialApplicationService resumoSalarial;
+    private final OutboxApplicationService outbox;
 
-    public FuncionarioApplicationService(FuncionarioRepository funcionarioRepository) {
+    public FuncionarioApplicationService(FuncionarioRepository funcionarioRepository,
+            FuncionarioCache funcionarioCache, ResumoSalarialApplicationService resumoSalarial,
+            OutboxApplicationService outbox) {
         this.funcionarioRepository = funcionarioRepository;
+        this.funcionarioCache = funcionarioCache;
+        this.resumoSalarial = resumoSalarial;
+        this.outbox = outbox;
     }
 
     /**
@@ -44,40 +75,118 @@ public class FuncionarioApplicationService {
                 requestDTO.salario());
 
         Funcionario funcionarioSalvo = funcionarioRepository.save(funcionario);
+        resumoSalarial.registrar(MovimentoSalarial.entrada(funcionarioSalvo));
+        // Publicado pelo relay do outbox depois do commit, fora da requisição
+        outbox.registrar(List.of(FuncionarioCriadoEvent.de(funcionarioSalvo)));
+        // Descarta uma eventual consulta negativa em cache
+        funcionarioCache.invalidarAposCommit(funcionarioSalvo.getPessoaId());
 
         return FuncionarioResponseDTO.fromDomain(funcionarioSalvo);
     }
 
     /**
      * Busca um funcionário pelo pessoaId.
+     * Acertos de cache não abrem transação nem tomam conexão do pool; a carga
+     * roda na transação somente leitura do próprio repositório e projeta a
+     * linha direto no DTO.
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public FuncionarioResponseDTO buscarPorId(UUID pessoaId) {
-        Funcionario funcionario = funcionarioRepository.findById(pessoaId)
+        return funcionarioCache.get(pessoaId,
+                id -> funcionarioRepository.findById(id, FuncionarioResponseDTO.class))
                 .orElseThrow(
                         () -> new ResourceNotFoundException("Funcionário não encontrado com pessoaId: " + pessoaId));
-        return FuncionarioResponseDTO.fromDomain(funcionario);
     }
 
     /**
-     * Lista todos os funcionários.
+     * Versão atual do funcionário, para responder a GETs condicionais
+     * (If-None-Match) sem montar o DTO: vem do cache quando o funcionário já
+     * está lá e, senão, de uma consulta só da coluna de versão.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Optional<Long> buscarVersao(UUID pessoaId) {
+        Optional<FuncionarioResponseDTO> emCache = funcionarioCache.getIfPresent(pessoaId);
+        if (emCache.isPresent()) {
+            return Optional.ofNullable(emCache.get().versao());
+        }
+        return funcionarioRepository.findVersao(pessoaId);
+    }
+
+    /**
+     * Lista funcionários paginando por cursor (keyset) em (createdAt, pessoaId).
+     * O tamanho da página é limitado a {@value #TAMANHO_PAGINA_MAXIMO}.
+     */
+    @Transactional(readOnly = true)
+    public FuncionarioPageResponseDTO listarTodos(FuncionarioFiltro filtro, String cursor, Integer tamanho) {
+        int limite = validarTamanhoPagina(tamanho);
+        FuncionarioCursor apos = decodificarCursor(cursor);
+
+        // Busca um registro a mais apenas para saber se existe próxima página
+        List<FuncionarioResponseDTO> funcionarios = funcionarioRepository.findPage(filtro, apos, limite + 1,
+                FuncionarioResponseDTO.class);
+        boolean temProxima = funcionarios.size() > limite;
+        List<FuncionarioResponseDTO> pagina = temProxima ? funcionarios.subList(0, limite) : funcionarios;
+
+        String proximoCursor = temProxima ? codificarCursor(pagina.get(pagina.size() - 1)) : null;
+        return new FuncionarioPageResponseDTO(List.copyOf(pagina), pagina.size(), proximoCursor);
+    }
+
+    /**
+     * Busca funcionários por setor, cargo, situação e intervalo de admissão.
+     * A paginação é por número de página e o deslocamento é limitado a
+     * {@value #DESLOCAMENTO_MAXIMO} registros; além disso, os filtros devem
+     * ser refinados.
+     */
+    @Transactional(readOnly = true)
+    public FuncionarioBuscaResponseDTO buscar(FuncionarioBusca busca, Integer pagina, Integer tamanho) {
+        int limite = validarTamanhoPagina(tamanho);
+        int numeroPagina = validarNumeroPagina(pagina, limite);
+        validarIntervaloAdmissao(busca);
+
+        // Busca um registro a mais apenas para saber se existe próxima página
+        List<FuncionarioResponseDTO> funcionarios = funcionarioRepository.search(busca, numeroPagina * limite,
+                limite + 1, FuncionarioResponseDTO.class);
+        boolean temProxima = funcionarios.size() > limite;
+        List<FuncionarioResponseDTO> conteudo = temProxima ? funcionarios.subList(0, limite) : funcionarios;
+
+        return new FuncionarioBuscaResponseDTO(List.copyOf(conteudo), numeroPagina, conteudo.size(), temProxima);
+    }
+
+    /**
+     * Entrega todos os funcionários, um a um, ao consumidor informado.
+     * A leitura é feita por cursor, com memória constante independente do
+     * tamanho da tabela.
+     *
+     * @return quantidade de funcionários exportados
      */
     @Transactional(readOnly = true)
-    public List<FuncionarioResponseDTO> listarTodos() {
-        return funcionarioRepository.findAll().stream()
-                .map(FuncionarioResponseDTO::fromDomain)
-                .toList();
+    public long exportar(Consumer<FuncionarioResponseDTO> consumidor) {
+        long total = 0;
+        try (Stream<Funcionario> funcionarios = funcionarioRepository.streamAll()) {
+            Iterator<Funcionario> iterator = funcionarios.iterator();
+            while (iterator.hasNext()) {
+                consumidor.accept(FuncionarioResponseDTO.fromDomain(iterator.next()));
+                total++;
+            }
+        }
+        return total;
     }
 
     /**
-     * Atualiza um funcionário.
+     * Atualiza um funcionário. Com versaoEsperada (If-Match), só atualiza se o
+     * funcionário ainda estiver nessa versão; escritas concorrentes entre a
+     * leitura e o UPDATE são barradas pelo controle otimista da entidade.
      */
-    public FuncionarioResponseDTO atualizarFuncionario(UUID pessoaId, FuncionarioRequestDTO requestDTO) {
+    public FuncionarioResponseDTO atualizarFuncionario(UUID pessoaId, FuncionarioRequestDTO requestDTO,
+            Long versaoEsperada) {
         validarCamposObrigatorios(requestDTO);
 
         Funcionario funcionario = funcionarioRepository.findById(pessoaId)
                 .orElseThrow(
                         () -> new ResourceNotFoundException("Funcionário não encontrado com pessoaId: " + pessoaId));
+        verificarVersao(funcionario, versaoEsperada);
+
+        MovimentoSalarial saida = MovimentoSalarial.saida(funcionario);
 
         // Atualizar campos
         funcionario.setDataAdmissao(requestDTO.dataAdmissao());
@@ -85,35 +194,50 @@ public class FuncionarioApplicationService {
         funcionario.setCargo(requestDTO.cargo());
         funcionario.setSalario(requestDTO.salario());
 
-        Funcionario funcionarioAtualizado = funcionarioRepository.save(funcionario);
+        // Flush já aqui: a resposta leva a versão nova (ETag)
+        Funcionario funcionarioAtualizado = funcionarioRepository.saveAndFlush(funcionario);
+        if (Boolean.TRUE.equals(funcionarioAtualizado.getAtivo())) {
+            resumoSalarial.registrar(saida, MovimentoSalarial.entrada(funcionarioAtualizado));
+        }
+        funcionarioCache.invalidarAposCommit(pessoaId);
 
         return FuncionarioResponseDTO.fromDomain(funcionarioAtualizado);
     }
 
     /**
-     * Deleta um funcionário.
+     * Deleta um funcionário. A linha removida alimenta o resumo salarial.
      */
     public void deletarFuncionario(UUID pessoaId) {
-        Funcionario funcionario = funcionarioRepository.findById(pessoaId)
+        Funcionario removido = funcionarioRepository.delete(pessoaId)
                 .orElseThrow(
                         () -> new ResourceNotFoundException("Funcionário não encontrado com pessoaId: " + pessoaId));
 
-        funcionarioRepository.deleteById(pessoaId);
+        if (Boolean.TRUE.equals(removido.getAtivo())) {
+            resumoSalarial.registrar(MovimentoSalarial.saida(removido));
+        }
+        funcionarioCache.invalidarAposCommit(pessoaId);
     }
 
     /**
-     * Desativa um funcionário.
+     * Desativa um funcionário com um único UPDATE condicional, que também
+     * confere a versão esperada (If-Match) quando informada. Desativar um
+     * funcionário já inativo não altera nada e devolve o registro atual.
      */
-    public FuncionarioResponseDTO desativarFuncionario(UUID pessoaId) {
-        Funcionario funcionario = funcionarioRepository.findById(pessoaId)
-                .orElseThrow(
-                        () -> new ResourceNotFoundException("Funcionário não encontrado com pessoaId: " + pessoaId));
-
-        funcionario.setAtivo(false);
-
-        Funcionario funcionarioAtualizado = funcionarioRepository.save(funcionario);
+    public FuncionarioResponseDTO desativarFuncionario(UUID pessoaId, Long versaoEsperada) {
+        Optional<Funcionario> desativado = funcionarioRepository.deactivate(pessoaId, versaoEsperada);
+        if (desativado.isEmpty()) {
+            // Nenhuma linha alterada: funcionário inexistente, já inativo ou
+            // em outra versão
+            Funcionario atual = funcionarioRepository.findById(pessoaId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Funcionário não encontrado com pessoaId: " + pessoaId));
+            verificarVersao(atual, versaoEsperada);
+            return FuncionarioResponseDTO.fromDomain(atual);
+        }
+        resumoSalarial.registrar(MovimentoSalarial.saida(desativado.get()));
+        funcionarioCache.invalidarAposCommit(pessoaId);
 
-        return FuncionarioResponseDTO.fromDomain(funcionarioAtualizado);
+        return FuncionarioResponseDTO.fromDomain(desativado.get());
     }
 
     // ===== Métodos de Validação =====
@@ -136,9 +260,68 @@ public class FuncionarioApplicationService {
         }
     }
 
+    private void verificarVersao(Funcionario funcionario, Long versaoEsperada) {
+        if (versaoEsperada != null && !versaoEsperada.equals(funcionario.getVersao())) {
+            throw new PreconditionFailedException("Funcionário " + funcionario.getPessoaId()
+                    + " foi alterado; versão atual: " + funcionario.getVersao());
+        }
+    }
+
     private void verificarDuplicidadeFuncionario(UUID pessoaId) {
         if (funcionarioRepository.existsByPessoaId(pessoaId)) {
             throw new BusinessException("Já existe um funcionário para esta pessoa");
         }
     }
+
+    private int validarTamanhoPagina(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        if (tamanho < 1) {
+            throw new BusinessException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private int validarNumeroPagina(Integer pagina, int limite) {
+        if (pagina == null) {
+            return 0;
+        }
+        if (pagina < 0) {
+            throw new BusinessException("Número da página não pode ser negativo");
+        }
+        if ((long) pagina * limite > DESLOCAMENTO_MAXIMO) {
+            throw new BusinessException("Página além do limite da busca; refine os filtros");
+        }
+        return pagina;
+    }
+
+    private void validarIntervaloAdmissao(FuncionarioBusca busca) {
+        if (busca.admitidoDe() != null && busca.admitidoAte() != null
+                && busca.admitidoDe().isAfter(busca.admitidoAte())) {
+            throw new BusinessException("Data inicial de admissão posterior à data final");
+        }
+    }
+
+    // ===== Métodos de Paginação =====
+
+    private String codificarCursor(FuncionarioResponseDTO ultimo) {
+        String valor = ultimo.createdAt() + "|" + ultimo.pessoaId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FuncionarioCursor decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf('|');
+            return new FuncionarioCursor(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor de paginação inválido", e);
+        }
+    }
 }
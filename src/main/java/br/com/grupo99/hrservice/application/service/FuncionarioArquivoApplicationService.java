@@ -0,0 +1,116 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.application.dto.FuncionarioArquivadoDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioArquivadoPageResponseDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.hrservice.domain.model.FuncionarioArquivado;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioArquivoRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serviço de aplicação do arquivo de funcionários. Inativos há mais de
+ * {@code funcionarios.arquivamento.inativo-ha} saem da tabela quente em lotes
+ * pequenos, para que ela e seus índices não cresçam com o histórico; os
+ * arquivados continuam legíveis por aqui.
+ * <p>
+ * Inativos não entram no resumo salarial, então o arquivamento não gera
+ * deltas. Réplicas que seguem o feed de alterações já receberam a
+ * desativação; o arquivamento não gera lápide.
+ */
+@Service
+@Transactional
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class FuncionarioArquivoApplicationService {
+
+    static final int TAMANHO_PAGINA_PADRAO = 50;
+    static final int TAMANHO_PAGINA_MAXIMO = 200;
+
+    private final FuncionarioArquivoRepository funcionarioArquivoRepository;
+    private final FuncionarioCache funcionarioCache;
+    private final Duration inativoHa;
+    private final Counter arquivados;
+
+    public FuncionarioArquivoApplicationService(FuncionarioArquivoRepository funcionarioArquivoRepository,
+            FuncionarioCache funcionarioCache, MeterRegistry meterRegistry,
+            @Value("${funcionarios.arquivamento.inativo-ha:P365D}") Duration inativoHa) {
+        this.funcionarioArquivoRepository = funcionarioArquivoRepository;
+        this.funcionarioCache = funcionarioCache;
+        this.inativoHa = inativoHa;
+        this.arquivados = Counter.builder("funcionarios.arquivados")
+                .description("Funcionários inativos movidos para o arquivo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Arquiva, na transação corrente, até {@code limite} funcionários
+     * inativos além da retenção.
+     *
+     * @return quantidade de funcionários arquivados
+     */
+    public int arquivarLote(int limite) {
+        List<UUID> ids = funcionarioArquivoRepository.arquivarInativos(LocalDateTime.now().minus(inativoHa), limite);
+        funcionarioCache.invalidarAposCommit(ids);
+        arquivados.increment(ids.size());
+        return ids.size();
+    }
+
+    @Transactional(readOnly = true)
+    public FuncionarioArquivadoDTO buscarPorId(UUID pessoaId) {
+        return funcionarioArquivoRepository.findById(pessoaId)
+                .map(FuncionarioArquivadoDTO::fromDomain)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Funcionário arquivado não encontrado com pessoaId: " + pessoaId));
+    }
+
+    /**
+     * Lista o arquivo paginando por cursor (keyset) em pessoaId. O tamanho da
+     * página é limitado a {@value #TAMANHO_PAGINA_MAXIMO}.
+     */
+    @Transactional(readOnly = true)
+    public FuncionarioArquivadoPageResponseDTO listar(String cursor, Integer tamanho) {
+        int limite = validarTamanhoPagina(tamanho);
+        UUID apos = decodificarCursor(cursor);
+
+        // Busca um registro a mais apenas para saber se existe próxima página
+        List<FuncionarioArquivado> funcionarios = funcionarioArquivoRepository.findPage(apos, limite + 1);
+        boolean temProxima = funcionarios.size() > limite;
+        List<FuncionarioArquivado> pagina = temProxima ? funcionarios.subList(0, limite) : funcionarios;
+
+        String proximoCursor = temProxima ? pagina.get(pagina.size() - 1).getPessoaId().toString() : null;
+        return new FuncionarioArquivadoPageResponseDTO(
+                pagina.stream().map(FuncionarioArquivadoDTO::fromDomain).toList(), pagina.size(), proximoCursor);
+    }
+
+    private int validarTamanhoPagina(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        if (tamanho < 1) {
+            throw new BusinessException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private UUID decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido", e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioVersaoDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioVersaoPageResponseDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.hrservice.domain.model.FuncionarioVersao;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioHistoricoRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serviço de aplicação do histórico de funcionários: linha do tempo de um
+ * funcionário e quadro de pessoal em uma data passada. O histórico é só de
+ * leitura aqui; as versões são gravadas junto com cada escrita.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class FuncionarioHistoricoApplicationService {
+
+    static final int TAMANHO_PAGINA_PADRAO = 50;
+    static final int TAMANHO_PAGINA_MAXIMO = 200;
+
+    private final FuncionarioHistoricoRepository funcionarioHistoricoRepository;
+
+    public FuncionarioHistoricoApplicationService(FuncionarioHistoricoRepository funcionarioHistoricoRepository) {
+        this.funcionarioHistoricoRepository = funcionarioHistoricoRepository;
+    }
+
+    /**
+     * Versões de um funcionário, da mais antiga à atual. Funcionários
+     * removidos ou arquivados mantêm o histórico.
+     */
+    public List<FuncionarioVersaoDTO> listarVersoes(UUID pessoaId) {
+        List<FuncionarioVersao> versoes = funcionarioHistoricoRepository.findByPessoaId(pessoaId);
+        if (versoes.isEmpty()) {
+            throw new ResourceNotFoundException("Histórico não encontrado para pessoaId: " + pessoaId);
+        }
+        return versoes.stream().map(FuncionarioVersaoDTO::fromDomain).toList();
+    }
+
+    /**
+     * Quadro de pessoal no instante {@code em}, paginado por cursor (keyset)
+     * em pessoaId. O tamanho da página é limitado a
+     * {@value #TAMANHO_PAGINA_MAXIMO}.
+     */
+    public FuncionarioVersaoPageResponseDTO listarVigentesEm(LocalDateTime em, Boolean ativo, String cursor,
+            Integer tamanho) {
+        int limite = validarTamanhoPagina(tamanho);
+        UUID apos = decodificarCursor(cursor);
+
+        // Busca um registro a mais apenas para saber se existe próxima página
+        List<FuncionarioVersao> versoes = funcionarioHistoricoRepository.findVigentesEm(em, ativo, apos, limite + 1);
+        boolean temProxima = versoes.size() > limite;
+        List<FuncionarioVersao> pagina = temProxima ? versoes.subList(0, limite) : versoes;
+
+        String proximoCursor = temProxima ? pagina.get(pagina.size() - 1).getPessoaId().toString() : null;
+        return new FuncionarioVersaoPageResponseDTO(
+                pagina.stream().map(FuncionarioVersaoDTO::fromDomain).toList(), pagina.size(), proximoCursor);
+    }
+
+    private int validarTamanhoPagina(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        if (tamanho < 1) {
+            throw new BusinessException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private UUID decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido", e);
+        }
+    }
+}
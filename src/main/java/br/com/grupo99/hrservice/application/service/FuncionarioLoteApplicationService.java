@@ -0,0 +1,173 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.application.dto.FuncionarioLoteItemDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioLoteItemDTO.Status;
+import br.com.grupo99.hrservice.application.dto.FuncionarioLoteResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.domain.events.FuncionarioCriadoEvent;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço de aplicação para operações em lote sobre Funcionario.
+ * Trata o lote como conjunto: uma consulta para detectar duplicidades e
+ * inserções agrupadas em batches JDBC, tudo em uma única transação.
+ */
+@Service
+@Transactional
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class FuncionarioLoteApplicationService {
+
+    static final int TAMANHO_MAXIMO_LOTE = 10_000;
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final Validator validator;
+    private final FuncionarioCache funcionarioCache;
+    private final ResumoSalarialApplicationService resumoSalarial;
+    private final OutboxApplicationService outbox;
+
+    public FuncionarioLoteApplicationService(FuncionarioRepository funcionarioRepository, Validator validator,
+            FuncionarioCache funcionarioCache, ResumoSalarialApplicationService resumoSalarial,
+            OutboxApplicationService outbox) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.validator = validator;
+        this.funcionarioCache = funcionarioCache;
+        this.resumoSalarial = resumoSalarial;
+        this.outbox = outbox;
+    }
+
+    /**
+     * Cria funcionários em lote. Itens inválidos ou duplicados não interrompem
+     * o lote: cada item recebe seu próprio resultado. Com upsert, funcionários
+     * já existentes são atualizados em vez de reportados como duplicados.
+     */
+    public FuncionarioLoteResponseDTO criarEmLote(List<FuncionarioRequestDTO> requestDTOs, boolean upsert) {
+        validarTamanhoLote(requestDTOs);
+
+        FuncionarioLoteItemDTO[] resultados = new FuncionarioLoteItemDTO[requestDTOs.size()];
+        Map<UUID, Candidato> candidatos = new LinkedHashMap<>();
+        for (int indice = 0; indice < requestDTOs.size(); indice++) {
+            FuncionarioRequestDTO requestDTO = requestDTOs.get(indice);
+            String erro = validar(requestDTO);
+            if (erro != null) {
+                resultados[indice] = resultado(indice, requestDTO, Status.INVALIDO, erro);
+                continue;
+            }
+            Funcionario funcionario;
+            try {
+                funcionario = new Funcionario(
+                        requestDTO.pessoaId(),
+                        requestDTO.dataAdmissao(),
+                        requestDTO.setor(),
+                        requestDTO.cargo(),
+                        requestDTO.salario());
+            } catch (IllegalArgumentException e) {
+                resultados[indice] = resultado(indice, requestDTO, Status.INVALIDO, e.getMessage());
+                continue;
+            }
+            if (candidatos.putIfAbsent(requestDTO.pessoaId(), new Candidato(indice, funcionario)) != null) {
+                resultados[indice] = resultado(indice, requestDTO, Status.DUPLICADO, "Pessoa repetida no lote");
+            }
+        }
+
+        // Uma única consulta (IN) para todo o lote, em vez de uma por item
+        Set<UUID> existentes = candidatos.isEmpty()
+                ? Set.of()
+                : funcionarioRepository.findExistingPessoaIds(candidatos.keySet());
+
+        List<Funcionario> novos = new ArrayList<>(candidatos.size() - existentes.size());
+        List<MovimentoSalarial> movimentos = new ArrayList<>();
+        for (Candidato candidato : candidatos.values()) {
+            Funcionario funcionario = candidato.funcionario();
+            int indice = candidato.indice();
+            if (!existentes.contains(funcionario.getPessoaId())) {
+                novos.add(funcionario);
+                movimentos.add(MovimentoSalarial.entrada(funcionario));
+                resultados[indice] = resultado(indice, requestDTOs.get(indice), Status.CRIADO, null);
+            } else if (!upsert) {
+                resultados[indice] = resultado(indice, requestDTOs.get(indice), Status.DUPLICADO,
+                        "Já existe um funcionário para esta pessoa");
+            }
+        }
+
+        if (upsert && !existentes.isEmpty()) {
+            List<Funcionario> atualizados = funcionarioRepository.findAllById(existentes);
+            for (Funcionario existente : atualizados) {
+                Candidato candidato = candidatos.get(existente.getPessoaId());
+                Funcionario dados = candidato.funcionario();
+                if (Boolean.TRUE.equals(existente.getAtivo())) {
+                    movimentos.add(MovimentoSalarial.saida(existente));
+                    movimentos.add(MovimentoSalarial.entrada(dados));
+                }
+                existente.setDataAdmissao(dados.getDataAdmissao());
+                existente.setSetor(dados.getSetor());
+                existente.setCargo(dados.getCargo());
+                existente.setSalario(dados.getSalario());
+                resultados[candidato.indice()] = resultado(candidato.indice(), requestDTOs.get(candidato.indice()),
+                        Status.ATUALIZADO, null);
+            }
+            // Antes do insertAll, que limpa o contexto de persistência a cada batch
+            funcionarioRepository.updateAll(atualizados);
+        }
+
+        funcionarioRepository.insertAll(novos);
+        // Um delta por setor/cargo afetado, não por funcionário
+        resumoSalarial.registrar(movimentos);
+        // Eventos só dos criados; os do lote saem em um batch de INSERTs
+        outbox.registrar(novos.stream().map(FuncionarioCriadoEvent::de).toList());
+        funcionarioCache.invalidarAposCommit(candidatos.keySet());
+
+        return FuncionarioLoteResponseDTO.of(Arrays.asList(resultados));
+    }
+
+    // ===== Métodos de Validação =====
+
+    private void validarTamanhoLote(List<FuncionarioRequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            throw new BusinessException("Lote de funcionários vazio");
+        }
+        if (requestDTOs.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new BusinessException("Lote excede o limite de " + TAMANHO_MAXIMO_LOTE + " funcionários");
+        }
+    }
+
+    private String validar(FuncionarioRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            return "Item do lote não pode ser nulo";
+        }
+        Set<ConstraintViolation<FuncionarioRequestDTO>> violacoes = validator.validate(requestDTO);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private FuncionarioLoteItemDTO resultado(int indice, FuncionarioRequestDTO requestDTO, Status status,
+            String mensagem) {
+        return new FuncionarioLoteItemDTO(indice, requestDTO != null ? requestDTO.pessoaId() : null, status,
+                mensagem);
+    }
+
+    private record Candidato(int indice, Funcionario funcionario) {
+    }
+}
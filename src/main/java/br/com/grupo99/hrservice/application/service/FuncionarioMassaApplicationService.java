@@ -0,0 +1,205 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.application.dto.DesativacaoEmMassaRequestDTO;
+import br.com.grupo99.hrservice.application.dto.OperacaoEmMassaResponseDTO;
+import br.com.grupo99.hrservice.application.dto.ReajusteSalarialRequestDTO;
+import br.com.grupo99.hrservice.application.dto.TransferenciaSetorRequestDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.domain.events.FuncionarioAlteradoEvent;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioFiltro;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * Serviço de aplicação das operações em massa sobre Funcionario: desativação
+ * de um setor, transferência de setor e reajuste salarial.
+ * <p>
+ * Cada operação percorre os funcionários do filtro em lotes de
+ * {@code funcionarios.massa.tamanho-lote}, na ordem de pessoaId. Cada lote é
+ * uma transação curta: lê e bloqueia as linhas, aplica um UPDATE para o lote
+ * inteiro, os deltas do resumo salarial e os eventos no outbox. Se um lote
+ * falhar, os anteriores continuam confirmados; desativação e transferência
+ * podem ser repetidas, o reajuste não.
+ */
+@Service
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class FuncionarioMassaApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuncionarioMassaApplicationService.class);
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final FuncionarioCache funcionarioCache;
+    private final ResumoSalarialApplicationService resumoSalarial;
+    private final OutboxApplicationService outbox;
+    private final TransactionTemplate transacao;
+    private final int tamanhoLote;
+
+    public FuncionarioMassaApplicationService(FuncionarioRepository funcionarioRepository,
+            FuncionarioCache funcionarioCache, ResumoSalarialApplicationService resumoSalarial,
+            OutboxApplicationService outbox, PlatformTransactionManager transactionManager,
+            @Value("${funcionarios.massa.tamanho-lote:500}") int tamanhoLote) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.funcionarioCache = funcionarioCache;
+        this.resumoSalarial = resumoSalarial;
+        this.outbox = outbox;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Desativa os funcionários ativos do setor (e do cargo, se informado).
+     */
+    public OperacaoEmMassaResponseDTO desativar(DesativacaoEmMassaRequestDTO requestDTO) {
+        exigir(requestDTO.setor(), "Setor é obrigatório");
+        FuncionarioFiltro filtro = new FuncionarioFiltro(requestDTO.setor(), semBrancos(requestDTO.cargo()), true);
+        return executarEmLotes("desativação", filtro, lote -> {
+            List<Funcionario> desativados = funcionarioRepository.updateAtivoAll(pessoaIds(lote), false);
+            resumoSalarial.registrar(desativados.stream().map(MovimentoSalarial::saida).toList());
+            outbox.registrar(desativados.stream()
+                    .map(funcionario -> FuncionarioAlteradoEvent.de(FuncionarioAlteradoEvent.DESATIVADO, funcionario,
+                            funcionario.getSetor(), funcionario.getSalario(), false))
+                    .toList());
+            return desativados.size();
+        });
+    }
+
+    /**
+     * Transfere para o setor de destino todos os funcionários, ativos ou não,
+     * do setor de origem (e do cargo, se informado).
+     */
+    public OperacaoEmMassaResponseDTO transferir(TransferenciaSetorRequestDTO requestDTO) {
+        exigir(requestDTO.setorOrigem(), "Setor de origem é obrigatório");
+        exigir(requestDTO.setorDestino(), "Setor de destino é obrigatório");
+        if (requestDTO.setorOrigem().equals(requestDTO.setorDestino())) {
+            throw new BusinessException("Setor de destino deve ser diferente do setor de origem");
+        }
+        String destino = requestDTO.setorDestino();
+        FuncionarioFiltro filtro = new FuncionarioFiltro(requestDTO.setorOrigem(), semBrancos(requestDTO.cargo()),
+                null);
+        return executarEmLotes("transferência", filtro, lote -> {
+            int alterados = funcionarioRepository.updateSetorAll(pessoaIds(lote), destino);
+            List<MovimentoSalarial> movimentos = new ArrayList<>();
+            List<FuncionarioAlteradoEvent> eventos = new ArrayList<>();
+            for (Funcionario funcionario : lote) {
+                if (Boolean.TRUE.equals(funcionario.getAtivo())) {
+                    movimentos.add(MovimentoSalarial.saida(funcionario));
+                    movimentos.add(new MovimentoSalarial(destino, funcionario.getCargo(), 1, funcionario.getSalario()));
+                }
+                eventos.add(FuncionarioAlteradoEvent.de(FuncionarioAlteradoEvent.TRANSFERIDO, funcionario, destino,
+                        funcionario.getSalario(), funcionario.getAtivo()));
+            }
+            resumoSalarial.registrar(movimentos);
+            outbox.registrar(eventos);
+            return alterados;
+        });
+    }
+
+    /**
+     * Reajusta em {@code percentual}% o salário dos funcionários ativos, de
+     * todos ou do setor e cargo informados. O novo salário é arredondado a
+     * duas casas, meio para cima, pelo próprio UPDATE.
+     */
+    public OperacaoEmMassaResponseDTO reajustar(ReajusteSalarialRequestDTO requestDTO) {
+        BigDecimal percentual = requestDTO.percentual();
+        if (percentual == null || percentual.signum() == 0) {
+            throw new BusinessException("Percentual de reajuste deve ser diferente de zero");
+        }
+        if (percentual.compareTo(BigDecimal.valueOf(-100)) <= 0) {
+            throw new BusinessException("Percentual de reajuste deve ser maior que -100");
+        }
+        BigDecimal fator = BigDecimal.ONE.add(percentual.movePointLeft(2));
+        FuncionarioFiltro filtro = new FuncionarioFiltro(semBrancos(requestDTO.setor()),
+                semBrancos(requestDTO.cargo()), true);
+        return executarEmLotes("reajuste", filtro, lote -> {
+            int alterados = funcionarioRepository.updateSalarioAll(pessoaIds(lote), fator);
+            List<MovimentoSalarial> movimentos = new ArrayList<>();
+            List<FuncionarioAlteradoEvent> eventos = new ArrayList<>();
+            for (Funcionario funcionario : lote) {
+                // Mesmo arredondamento do ROUND(salario * fator, 2) do UPDATE
+                BigDecimal novoSalario = funcionario.getSalario().multiply(fator).setScale(2, RoundingMode.HALF_UP);
+                movimentos.add(MovimentoSalarial.saida(funcionario));
+                movimentos.add(new MovimentoSalarial(funcionario.getSetor(), funcionario.getCargo(), 1, novoSalario));
+                eventos.add(FuncionarioAlteradoEvent.de(FuncionarioAlteradoEvent.SALARIO_REAJUSTADO, funcionario,
+                        funcionario.getSetor(), novoSalario, funcionario.getAtivo()));
+            }
+            resumoSalarial.registrar(movimentos);
+            outbox.registrar(eventos);
+            return alterados;
+        });
+    }
+
+    /**
+     * Executa a operação lote a lote, cada um na sua transação, até um lote
+     * vir incompleto.
+     */
+    private OperacaoEmMassaResponseDTO executarEmLotes(String operacao, FuncionarioFiltro filtro,
+            ToIntFunction<List<Funcionario>> aplicar) {
+        int afetados = 0;
+        int lotes = 0;
+        UUID apos = null;
+        try {
+            while (true) {
+                UUID inicio = apos;
+                Lote lote = transacao.execute(status -> {
+                    List<Funcionario> funcionarios = funcionarioRepository.findLoteParaAtualizacao(filtro, inicio,
+                            tamanhoLote);
+                    if (funcionarios.isEmpty()) {
+                        return new Lote(0, 0, null);
+                    }
+                    int alterados = aplicar.applyAsInt(funcionarios);
+                    funcionarioCache.invalidarAposCommit(pessoaIds(funcionarios));
+                    return new Lote(funcionarios.size(), alterados,
+                            funcionarios.get(funcionarios.size() - 1).getPessoaId());
+                });
+                if (lote.lidos() == 0) {
+                    break;
+                }
+                afetados += lote.alterados();
+                lotes++;
+                if (lote.lidos() < tamanhoLote) {
+                    break;
+                }
+                apos = lote.ultimo();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Operação em massa ({}) interrompida após {} lotes confirmados ({} funcionários)",
+                    operacao, lotes, afetados);
+            throw e;
+        }
+        logger.info("Operação em massa ({}): {} funcionários em {} lotes", operacao, afetados, lotes);
+        return new OperacaoEmMassaResponseDTO(afetados, lotes);
+    }
+
+    private static List<UUID> pessoaIds(List<Funcionario> funcionarios) {
+        return funcionarios.stream().map(Funcionario::getPessoaId).toList();
+    }
+
+    private static void exigir(String valor, String mensagem) {
+        if (valor == null || valor.isBlank()) {
+            throw new BusinessException(mensagem);
+        }
+    }
+
+    private static String semBrancos(String valor) {
+        return valor == null || valor.isBlank() ? null : valor;
+    }
+
+    private record Lote(int lidos, int alterados, UUID ultimo) {
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.domain.events.EventoDeDominio;
+import br.com.grupo99.hrservice.domain.events.PublicadorDeEventos;
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+import br.com.grupo99.hrservice.domain.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Serviço de aplicação do outbox transacional. Os casos de uso gravam seus
+ * eventos na própria transação, sem chamar o broker; o relay publica os
+ * eventos pendentes em lotes e os remove depois da confirmação.
+ */
+@Service
+@Transactional
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class OutboxApplicationService {
+
+    private final OutboxRepository outboxRepository;
+    private final PublicadorDeEventos publicador;
+    private final ObjectMapper objectMapper;
+    private final Counter publicados;
+    private final Counter falhas;
+    private final DistributionSummary tamanhoLote;
+    private final Timer atraso;
+
+    public OutboxApplicationService(OutboxRepository outboxRepository, PublicadorDeEventos publicador,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.publicador = publicador;
+        this.objectMapper = objectMapper;
+        this.publicados = Counter.builder("outbox.publicados")
+                .description("Eventos publicados pelo relay do outbox")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("outbox.falhas")
+                .description("Lotes do outbox cuja publicação falhou e será repetida")
+                .register(meterRegistry);
+        this.tamanhoLote = DistributionSummary.builder("outbox.lote")
+                .description("Eventos por lote publicado")
+                .register(meterRegistry);
+        this.atraso = Timer.builder("outbox.atraso")
+                .description("Tempo entre a gravação do evento e sua publicação")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Grava os eventos no outbox. Exige a transação do caso de uso: o evento
+     * só existe se a escrita que o originou for confirmada.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(List<? extends EventoDeDominio> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        outboxRepository.appendAll(eventos.stream()
+                .map(evento -> new EventoOutbox(evento.getPessoaId(), evento.getEventType(), serializar(evento)))
+                .toList());
+    }
+
+    /**
+     * Reserva até {@code limite} eventos pendentes, publica-os e os remove,
+     * tudo na mesma transação. Se a publicação falhar, a transação é desfeita
+     * e os eventos voltam a ficar disponíveis para a próxima execução.
+     *
+     * @return quantidade de eventos publicados
+     */
+    public int publicarLote(int limite) {
+        List<EventoOutbox> eventos = outboxRepository.claimBatch(limite);
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+        try {
+            publicador.publicar(eventos);
+        } catch (RuntimeException e) {
+            falhas.increment();
+            throw e;
+        }
+        outboxRepository.deleteAllById(eventos.stream().map(EventoOutbox::getId).toList());
+
+        LocalDateTime agora = LocalDateTime.now();
+        eventos.forEach(evento -> atraso.record(Duration.between(evento.getCriadoEm(), agora)));
+        publicados.increment(eventos.size());
+        tamanhoLote.record(eventos.size());
+        return eventos.size();
+    }
+
+    private String serializar(Object evento) {
+        try {
+            return objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento " + evento.getClass().getSimpleName(), e);
+        }
+    }
+}
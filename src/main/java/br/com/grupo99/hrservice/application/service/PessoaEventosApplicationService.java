@@ -0,0 +1,127 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.EventoProcessadoRepository;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Serviço de aplicação que sincroniza os funcionários com o ciclo de vida das
+ * Pessoas no People Service. Cada lote de eventos é aplicado em uma única
+ * transação, com uma instrução por situação (ativo/inativo) em vez de uma
+ * transação por evento, e eventos repetidos são descartados pelo eventoId.
+ */
+@Service
+@Transactional
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class PessoaEventosApplicationService {
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final EventoProcessadoRepository eventoProcessadoRepository;
+    private final ResumoSalarialApplicationService resumoSalarial;
+    private final FuncionarioCache funcionarioCache;
+    private final DistributionSummary tamanhoLote;
+    private final Counter duplicados;
+    private final Counter alterados;
+    private final Timer atraso;
+
+    public PessoaEventosApplicationService(FuncionarioRepository funcionarioRepository,
+            EventoProcessadoRepository eventoProcessadoRepository, ResumoSalarialApplicationService resumoSalarial,
+            FuncionarioCache funcionarioCache, MeterRegistry meterRegistry) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.eventoProcessadoRepository = eventoProcessadoRepository;
+        this.resumoSalarial = resumoSalarial;
+        this.funcionarioCache = funcionarioCache;
+        this.tamanhoLote = DistributionSummary.builder("pessoa.eventos.lote")
+                .description("Eventos do People Service por lote consumido")
+                .register(meterRegistry);
+        this.duplicados = Counter.builder("pessoa.eventos.duplicados")
+                .description("Eventos do People Service descartados por já terem sido aplicados")
+                .register(meterRegistry);
+        this.alterados = Counter.builder("pessoa.eventos.funcionarios.alterados")
+                .description("Funcionários ativados ou desativados por eventos do People Service")
+                .register(meterRegistry);
+        this.atraso = Timer.builder("pessoa.eventos.atraso")
+                .description("Tempo entre o evento no People Service e sua aplicação")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Aplica um lote de eventos. A fonte entrega os eventos de cada pessoa em
+     * ordem; dentro do lote vale o último evento de cada pessoa.
+     *
+     * @return quantidade de funcionários cuja situação mudou
+     */
+    public int aplicar(List<PessoaEvent> eventos) {
+        tamanhoLote.record(eventos.size());
+
+        Map<UUID, PessoaEvent> novos = new LinkedHashMap<>();
+        eventos.forEach(evento -> novos.putIfAbsent(evento.eventoId(), evento));
+        // Uma única consulta (IN) para descartar reentregas
+        Set<UUID> processados = eventoProcessadoRepository.findProcessados(novos.keySet());
+        novos.keySet().removeAll(processados);
+        duplicados.increment(eventos.size() - novos.size());
+        if (novos.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, PessoaEvent> ultimoPorPessoa = new LinkedHashMap<>();
+        novos.values().forEach(evento -> ultimoPorPessoa.put(evento.pessoaId(), evento));
+        List<UUID> desativar = new ArrayList<>();
+        List<UUID> ativar = new ArrayList<>();
+        for (PessoaEvent evento : ultimoPorPessoa.values()) {
+            (evento.tipo().isFuncionarioAtivo() ? ativar : desativar).add(evento.pessoaId());
+        }
+
+        List<MovimentoSalarial> movimentos = new ArrayList<>();
+        List<UUID> alteradosIds = new ArrayList<>();
+        for (Funcionario funcionario : funcionarioRepository.updateAtivoAll(desativar, false)) {
+            movimentos.add(MovimentoSalarial.saida(funcionario));
+            alteradosIds.add(funcionario.getPessoaId());
+        }
+        for (Funcionario funcionario : funcionarioRepository.updateAtivoAll(ativar, true)) {
+            movimentos.add(MovimentoSalarial.entrada(funcionario));
+            alteradosIds.add(funcionario.getPessoaId());
+        }
+        // Um delta por setor/cargo afetado, não por evento
+        resumoSalarial.registrar(movimentos);
+        eventoProcessadoRepository.registrarAll(novos.keySet());
+        funcionarioCache.invalidarAposCommit(alteradosIds);
+
+        LocalDateTime agora = LocalDateTime.now();
+        novos.values().stream()
+                .filter(evento -> evento.ocorridoEm() != null)
+                .forEach(evento -> atraso.record(Duration.between(evento.ocorridoEm(), agora)));
+        alterados.increment(alteradosIds.size());
+        return alteradosIds.size();
+    }
+
+    /**
+     * Remove as marcas de eventos processados há mais que a retenção, janela
+     * além da qual a fonte não reentrega eventos.
+     *
+     * @return quantidade de marcas removidas
+     */
+    public int limparProcessados(Duration retencao) {
+        return eventoProcessadoRepository.deleteProcessadosAntesDe(LocalDateTime.now().minus(retencao));
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.dto.ResumoSalarialDTO;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.model.ResumoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioHistoricoRepository;
+import br.com.grupo99.hrservice.domain.repository.ResumoSalarialRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Serviço de aplicação do resumo salarial (quantidade, total e média de
+ * salários dos funcionários ativos por setor e cargo).
+ * O resumo é mantido por deltas nas próprias transações de escrita de
+ * Funcionario e reconciliado periodicamente contra um GROUP BY completo.
+ * O resumo de uma data passada sai do histórico de funcionários.
+ */
+@Service
+@Transactional
+@Timed(value = "hr.servico", description = "Casos de uso da aplicação", histogram = true)
+public class ResumoSalarialApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumoSalarialApplicationService.class);
+
+    /**
+     * Níveis de agrupamento do resumo.
+     */
+    public enum Agrupamento {
+        SETOR, CARGO, SETOR_CARGO
+    }
+
+    private final ResumoSalarialRepository resumoSalarialRepository;
+    private final FuncionarioHistoricoRepository funcionarioHistoricoRepository;
+    private final Counter divergencias;
+
+    public ResumoSalarialApplicationService(ResumoSalarialRepository resumoSalarialRepository,
+            FuncionarioHistoricoRepository funcionarioHistoricoRepository, MeterRegistry meterRegistry) {
+        this.resumoSalarialRepository = resumoSalarialRepository;
+        this.funcionarioHistoricoRepository = funcionarioHistoricoRepository;
+        this.divergencias = Counter.builder("resumo.salarial.divergencias")
+                .description("Setores/cargos corrigidos pela reconciliação do resumo salarial")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Aplica os movimentos ao resumo na transação corrente. Movimentos do
+     * mesmo setor/cargo são somados antes, e os que se anulam são ignorados:
+     * no máximo uma instrução por setor/cargo afetado.
+     */
+    public void registrar(MovimentoSalarial... movimentos) {
+        registrar(Arrays.asList(movimentos));
+    }
+
+    public void registrar(List<MovimentoSalarial> movimentos) {
+        Map<ResumoSalarial.Chave, MovimentoSalarial> porChave = new LinkedHashMap<>();
+        for (MovimentoSalarial movimento : movimentos) {
+            if (movimento != null) {
+                porChave.merge(movimento.chave(), movimento, MovimentoSalarial::somar);
+            }
+        }
+        porChave.values().stream()
+                .filter(movimento -> !movimento.isNulo())
+                .forEach(resumoSalarialRepository::applyDelta);
+    }
+
+    /**
+     * Lista o resumo mantido, no agrupamento pedido. Agrupamentos por setor ou
+     * por cargo são somados em memória a partir das linhas setor/cargo.
+     */
+    @Transactional(readOnly = true)
+    public List<ResumoSalarialDTO> listar(Agrupamento agrupamento) {
+        return agrupar(resumoSalarialRepository.findAll(), agrupamento);
+    }
+
+    /**
+     * Resumo dos funcionários ativos no instante informado (folha na data),
+     * calculado a partir das versões vigentes no histórico.
+     */
+    @Transactional(readOnly = true)
+    public List<ResumoSalarialDTO> listarEm(LocalDateTime em, Agrupamento agrupamento) {
+        return agrupar(funcionarioHistoricoRepository.computeResumoEm(em), agrupamento);
+    }
+
+    private List<ResumoSalarialDTO> agrupar(List<ResumoSalarial> linhas, Agrupamento agrupamento) {
+        Function<ResumoSalarial, ResumoSalarial.Chave> chave = switch (agrupamento) {
+            case SETOR -> resumo -> new ResumoSalarial.Chave(resumo.getSetor(), null);
+            case CARGO -> resumo -> new ResumoSalarial.Chave(null, resumo.getCargo());
+            case SETOR_CARGO -> ResumoSalarial::getChave;
+        };
+        Map<ResumoSalarial.Chave, ResumoSalarial> agrupado = new LinkedHashMap<>();
+        for (ResumoSalarial resumo : linhas) {
+            ResumoSalarial.Chave grupo = chave.apply(resumo);
+            agrupado.merge(grupo,
+                    new ResumoSalarial(grupo.getSetor(), grupo.getCargo(), resumo.getQuantidade(),
+                            resumo.getTotalSalario()),
+                    (a, b) -> new ResumoSalarial(a.getSetor(), a.getCargo(), a.getQuantidade() + b.getQuantidade(),
+                            a.getTotalSalario().add(b.getTotalSalario())));
+        }
+        return agrupado.values().stream()
+                .filter(resumo -> resumo.getQuantidade() > 0)
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * Confere o resumo mantido contra um GROUP BY dos funcionários ativos e o
+     * corrige se houver divergência. Deltas concorrentes aguardam o fim da
+     * reconciliação.
+     *
+     * @return quantidade de setores/cargos divergentes
+     */
+    public int reconciliar() {
+        resumoSalarialRepository.lockForReconciliation();
+        List<ResumoSalarial> calculado = resumoSalarialRepository.computeFromFuncionarios();
+
+        Map<ResumoSalarial.Chave, ResumoSalarial> mantido = new HashMap<>();
+        for (ResumoSalarial resumo : resumoSalarialRepository.findAll()) {
+            // Linhas zeradas equivalem a ausentes
+            if (resumo.getQuantidade() != 0 || resumo.getTotalSalario().signum() != 0) {
+                mantido.put(resumo.getChave(), resumo);
+            }
+        }
+
+        int divergentes = 0;
+        for (ResumoSalarial esperado : calculado) {
+            ResumoSalarial atual = mantido.remove(esperado.getChave());
+            if (!iguais(esperado, atual)) {
+                logger.warn("Resumo salarial divergente em {}: mantido={}, calculado={}",
+                        esperado.getChave(), atual, esperado);
+                divergentes++;
+            }
+        }
+        for (ResumoSalarial sobra : mantido.values()) {
+            logger.warn("Resumo salarial sem funcionários ativos em {}: mantido={}", sobra.getChave(), sobra);
+            divergentes++;
+        }
+
+        if (divergentes > 0) {
+            resumoSalarialRepository.replaceAll(calculado);
+            divergencias.increment(divergentes);
+        }
+        return divergentes;
+    }
+
+    private boolean iguais(ResumoSalarial esperado, ResumoSalarial atual) {
+        return atual != null
+                && esperado.getQuantidade() == atual.getQuantidade()
+                && esperado.getTotalSalario().compareTo(atual.getTotalSalario()) == 0;
+    }
+
+    private ResumoSalarialDTO toDTO(ResumoSalarial resumo) {
+        BigDecimal media = resumo.getTotalSalario()
+                .divide(BigDecimal.valueOf(resumo.getQuantidade()), 2, RoundingMode.HALF_EVEN);
+        return new ResumoSalarialDTO(resumo.getSetor(), resumo.getCargo(), resumo.getQuantidade(),
+                resumo.getTotalSalario(), media);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.grupo99.hrservice.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Evento de domínio gravável no outbox: identificado pelo funcionário
+ * (pessoaId) e pelo tipo.
+ */
+public interface EventoDeDominio {
+
+    UUID getPessoaId();
+
+    String getEventType();
+}
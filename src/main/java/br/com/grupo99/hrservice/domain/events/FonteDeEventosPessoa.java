@@ -0,0 +1,33 @@
+package br.com.grupo99.hrservice.domain.events;
+
+import java.util.List;
+
+/**
+ * Porta de entrada dos eventos do People Service. O consumidor lê um lote,
+ * aplica-o em uma transação e só então confirma; um lote não confirmado é
+ * entregue de novo (pelo menos uma vez).
+ */
+public interface FonteDeEventosPessoa {
+
+    /**
+     * Devolve até {@code limite} eventos a partir do último confirmado, sem
+     * consumi-los.
+     *
+     * @param limite quantidade máxima de eventos
+     * @return List com os eventos, na ordem da fonte
+     */
+    List<PessoaEvent> receber(int limite);
+
+    /**
+     * Confirma os {@code quantidade} primeiros eventos entregues pelo último
+     * {@link #receber(int)}.
+     *
+     * @param quantidade eventos processados
+     */
+    void confirmar(int quantidade);
+
+    /**
+     * Eventos ainda não confirmados (lag do consumidor).
+     */
+    long pendentes();
+}
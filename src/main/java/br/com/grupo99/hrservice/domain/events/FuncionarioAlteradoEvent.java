@@ -0,0 +1,45 @@
+package br.com.grupo99.hrservice.domain.events;
+
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de domínio disparado pelas operações em massa: desativação,
+ * transferência de setor e reajuste salarial. Leva os valores anteriores e
+ * os atuais dos campos alterados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FuncionarioAlteradoEvent implements EventoDeDominio {
+
+    public static final String DESATIVADO = "FUNCIONARIO_DESATIVADO";
+    public static final String TRANSFERIDO = "FUNCIONARIO_TRANSFERIDO";
+    public static final String SALARIO_REAJUSTADO = "FUNCIONARIO_SALARIO_REAJUSTADO";
+
+    private UUID pessoaId;
+    private String setorAnterior;
+    private String setor;
+    private String cargo;
+    private BigDecimal salarioAnterior;
+    private BigDecimal salario;
+    private Boolean ativo;
+    private LocalDateTime timestamp;
+    private String eventType;
+
+    /**
+     * Evento a partir do funcionário como estava antes da operação e dos
+     * novos valores de setor, salário e situação.
+     */
+    public static FuncionarioAlteradoEvent de(String eventType, Funcionario anterior, String setor,
+            BigDecimal salario, Boolean ativo) {
+        return new FuncionarioAlteradoEvent(anterior.getPessoaId(), anterior.getSetor(), setor, anterior.getCargo(),
+                anterior.getSalario(), salario, ativo, LocalDateTime.now(), eventType);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.grupo99.hrservice.domain.events;
 
+import br.com.grupo99.hrservice.domain.model.Funcionario;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,7 +15,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class FuncionarioCriadoEvent {
+public class FuncionarioCriadoEvent implements EventoDeDominio {
     private UUID funcionarioId;
     private UUID pessoaId;
     private String matricula;
@@ -22,4 +23,18 @@ public class FuncionarioCriadoEvent {
     private LocalDateTime dataAdmissao;
     private LocalDateTime timestamp;
     private String eventType = "FUNCIONARIO_CRIADO";
+
+    /**
+     * Evento de um funcionário recém-criado. O funcionário é identificado pelo
+     * pessoaId e ainda não tem matrícula.
+     */
+    public static FuncionarioCriadoEvent de(Funcionario funcionario) {
+        FuncionarioCriadoEvent evento = new FuncionarioCriadoEvent();
+        evento.setFuncionarioId(funcionario.getPessoaId());
+        evento.setPessoaId(funcionario.getPessoaId());
+        evento.setCargo(funcionario.getCargo());
+        evento.setDataAdmissao(funcionario.getDataAdmissao().atStartOfDay());
+        evento.setTimestamp(LocalDateTime.now());
+        return evento;
+    }
 }
@@ -0,0 +1,30 @@
+package br.com.grupo99.hrservice.domain.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de ciclo de vida de uma Pessoa publicado pelo People Service.
+ * O eventoId é único por evento e serve para descartar reentregas.
+ */
+public record PessoaEvent(UUID eventoId, UUID pessoaId, Tipo tipo, LocalDateTime ocorridoEm) {
+
+    public enum Tipo {
+        PESSOA_REMOVIDA(false),
+        PESSOA_INATIVADA(false),
+        PESSOA_REATIVADA(true);
+
+        private final boolean funcionarioAtivo;
+
+        Tipo(boolean funcionarioAtivo) {
+            this.funcionarioAtivo = funcionarioAtivo;
+        }
+
+        /**
+         * Situação que o funcionário da pessoa deve assumir.
+         */
+        public boolean isFuncionarioAtivo() {
+            return funcionarioAtivo;
+        }
+    }
+}
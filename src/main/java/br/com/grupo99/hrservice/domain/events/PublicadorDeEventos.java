@@ -0,0 +1,23 @@
+package br.com.grupo99.hrservice.domain.events;
+
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+
+import java.util.List;
+
+/**
+ * Porta de saída para o broker de eventos. Chamada pelo relay do outbox com
+ * um lote de eventos em ordem de criação; a entrega é pelo menos uma vez:
+ * se publicar falhar, o lote inteiro é tentado de novo e os consumidores
+ * devem descartar repetidos pelo ID do evento.
+ */
+public interface PublicadorDeEventos {
+
+    /**
+     * Publica o lote, retornando só depois que o broker confirmar todos os
+     * eventos.
+     *
+     * @param eventos eventos a publicar
+     * @throws RuntimeException se algum evento não puder ser publicado
+     */
+    void publicar(List<EventoOutbox> eventos);
+}
@@ -0,0 +1,92 @@
+package br.com.grupo99.hrservice.domain.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Evento de domínio aguardando publicação. Gravado na mesma transação da
+ * escrita que o originou e removido pelo relay depois de publicado
+ * (transactional outbox).
+ */
+@Entity
+@Table(name = "outbox_eventos", indexes = {
+        @Index(name = "idx_outbox_eventos_criado_em_id", columnList = "criado_em, id")
+})
+public class EventoOutbox {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "agregado_id", nullable = false)
+    private UUID agregadoId;
+
+    @Column(name = "tipo", nullable = false, length = 100)
+    private String tipo;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "criado_em", nullable = false, updatable = false)
+    private LocalDateTime criadoEm;
+
+    // Construtores
+    public EventoOutbox() {
+    }
+
+    public EventoOutbox(UUID agregadoId, String tipo, String payload) {
+        this.id = UUID.randomUUID();
+        this.agregadoId = agregadoId;
+        this.tipo = tipo;
+        this.payload = payload;
+        this.criadoEm = LocalDateTime.now();
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getAgregadoId() {
+        return agregadoId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EventoOutbox that = (EventoOutbox) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "EventoOutbox{" +
+                "id=" + id +
+                ", agregadoId=" + agregadoId +
+                ", tipo='" + tipo + '\'' +
+                ", criadoEm=" + criadoEm +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.grupo99.hrservice.domain.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * ID de um evento externo já aplicado, gravado na mesma transação que o
+ * aplicou. Reentregas do mesmo evento são descartadas.
+ */
+@Entity
+@Table(name = "eventos_processados", indexes = {
+        @Index(name = "idx_eventos_processados_processado_em", columnList = "processado_em")
+})
+public class EventoProcessado {
+
+    @Id
+    @Column(name = "evento_id")
+    private UUID eventoId;
+
+    @Column(name = "processado_em", nullable = false, updatable = false)
+    private LocalDateTime processadoEm;
+
+    // Construtores
+    public EventoProcessado() {
+    }
+
+    public EventoProcessado(UUID eventoId, LocalDateTime processadoEm) {
+        this.eventoId = eventoId;
+        this.processadoEm = processadoEm;
+    }
+
+    // Getters
+    public UUID getEventoId() {
+        return eventoId;
+    }
+
+    public LocalDateTime getProcessadoEm() {
+        return processadoEm;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EventoProcessado that = (EventoProcessado) o;
+        return Objects.equals(eventoId, that.eventoId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventoId);
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.grupo99.hrservice.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,10 +11,16 @@ import java.util.UUID;
 /**
  * Entidade Funcionario - representa funcionários da organização.
  * ID principal é pessoaId (vem do People Service).
+ * O esquema é versionado em db/migration; lá os índices de setor/cargo são
+ * parciais (WHERE ativo), o que o @Index não expressa.
  */
 @Entity
 @Table(name = "funcionarios", indexes = {
-        @Index(name = "idx_pessoa_id", columnList = "pessoa_id")
+        @Index(name = "idx_funcionarios_created_at_pessoa_id", columnList = "created_at, pessoa_id"),
+        @Index(name = "idx_funcionarios_updated_at_pessoa_id", columnList = "updated_at, pessoa_id"),
+        @Index(name = "idx_funcionarios_setor_cargo", columnList = "setor, cargo"),
+        @Index(name = "idx_funcionarios_cargo", columnList = "cargo"),
+        @Index(name = "idx_funcionarios_data_admissao", columnList = "data_admissao")
 })
 public class Funcionario {
 
@@ -42,6 +49,13 @@ public class Funcionario {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Incrementada a cada alteração, inclusive nos UPDATEs em massa; é o
+    // ETag do recurso. Nula enquanto o funcionário não foi persistido.
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -145,6 +159,10 @@ public class Funcionario {
         return updatedAt;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
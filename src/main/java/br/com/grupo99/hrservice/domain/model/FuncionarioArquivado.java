@@ -0,0 +1,112 @@
+package br.com.grupo99.hrservice.domain.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Funcionário inativo há mais tempo que a retenção, movido da tabela de
+ * funcionarios para funcionarios_arquivo pelo arquivamento. Somente leitura:
+ * as linhas são gravadas por SQL nativo na mesma instrução que as remove da
+ * tabela quente.
+ */
+@Entity
+@Immutable
+@Table(name = "funcionarios_arquivo")
+public class FuncionarioArquivado {
+
+    @Id
+    @Column(name = "pessoa_id")
+    private UUID pessoaId;
+
+    @Column(name = "data_admissao", nullable = false)
+    private LocalDate dataAdmissao;
+
+    @Column(name = "setor", nullable = false, length = 100)
+    private String setor;
+
+    @Column(name = "cargo", nullable = false, length = 100)
+    private String cargo;
+
+    @Column(name = "salario", nullable = false)
+    private BigDecimal salario;
+
+    @Column(name = "ativo", nullable = false)
+    private Boolean ativo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
+    @Column(name = "arquivado_em", nullable = false)
+    private LocalDateTime arquivadoEm;
+
+    // Construtores
+    public FuncionarioArquivado() {
+    }
+
+    // Getters
+    public UUID getPessoaId() {
+        return pessoaId;
+    }
+
+    public LocalDate getDataAdmissao() {
+        return dataAdmissao;
+    }
+
+    public String getSetor() {
+        return setor;
+    }
+
+    public String getCargo() {
+        return cargo;
+    }
+
+    public BigDecimal getSalario() {
+        return salario;
+    }
+
+    public Boolean getAtivo() {
+        return ativo;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public LocalDateTime getArquivadoEm() {
+        return arquivadoEm;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        FuncionarioArquivado that = (FuncionarioArquivado) o;
+        return Objects.equals(pessoaId, that.pessoaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pessoaId);
+    }
+}
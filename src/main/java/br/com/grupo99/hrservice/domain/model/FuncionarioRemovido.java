@@ -0,0 +1,58 @@
+package br.com.grupo99.hrservice.domain.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Lápide de um funcionário removido, para que réplicas que sincronizam pelo
+ * feed de alterações também apaguem a cópia local. Gravada na mesma
+ * transação do DELETE e descartada depois da retenção do feed.
+ */
+@Entity
+@Table(name = "funcionarios_removidos", indexes = {
+        @Index(name = "idx_funcionarios_removidos_removido_em_pessoa_id", columnList = "removido_em, pessoa_id")
+})
+public class FuncionarioRemovido {
+
+    @Id
+    @Column(name = "pessoa_id")
+    private UUID pessoaId;
+
+    @Column(name = "removido_em", nullable = false)
+    private LocalDateTime removidoEm;
+
+    // Construtores
+    public FuncionarioRemovido() {
+    }
+
+    public FuncionarioRemovido(UUID pessoaId, LocalDateTime removidoEm) {
+        this.pessoaId = pessoaId;
+        this.removidoEm = removidoEm;
+    }
+
+    // Getters
+    public UUID getPessoaId() {
+        return pessoaId;
+    }
+
+    public LocalDateTime getRemovidoEm() {
+        return removidoEm;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        FuncionarioRemovido that = (FuncionarioRemovido) o;
+        return Objects.equals(pessoaId, that.pessoaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pessoaId);
+    }
+}
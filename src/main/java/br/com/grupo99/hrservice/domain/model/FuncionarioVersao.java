@@ -0,0 +1,141 @@
+package br.com.grupo99.hrservice.domain.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Versão de um funcionário no histórico (funcionarios_historico), vigente em
+ * [validoDe, validoAte). Toda escrita em Funcionario fecha a versão aberta e
+ * abre uma nova com o estado gravado; a remoção só fecha. Somente leitura: as
+ * linhas são gravadas por SQL nativo junto com a escrita em funcionarios.
+ */
+@Entity
+@Immutable
+@Table(name = "funcionarios_historico")
+@IdClass(FuncionarioVersao.Chave.class)
+public class FuncionarioVersao {
+
+    /**
+     * validoAte da versão vigente.
+     */
+    public static final LocalDateTime SEM_FIM = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Id
+    @Column(name = "pessoa_id")
+    private UUID pessoaId;
+
+    @Id
+    @Column(name = "valid_from")
+    private LocalDateTime validoDe;
+
+    @Column(name = "valid_to", nullable = false)
+    private LocalDateTime validoAte;
+
+    @Column(name = "setor", nullable = false, length = 100)
+    private String setor;
+
+    @Column(name = "cargo", nullable = false, length = 100)
+    private String cargo;
+
+    @Column(name = "salario", nullable = false)
+    private BigDecimal salario;
+
+    @Column(name = "ativo", nullable = false)
+    private Boolean ativo;
+
+    // Construtores
+    public FuncionarioVersao() {
+    }
+
+    // Getters
+    public UUID getPessoaId() {
+        return pessoaId;
+    }
+
+    public LocalDateTime getValidoDe() {
+        return validoDe;
+    }
+
+    public LocalDateTime getValidoAte() {
+        return validoAte;
+    }
+
+    public String getSetor() {
+        return setor;
+    }
+
+    public String getCargo() {
+        return cargo;
+    }
+
+    public BigDecimal getSalario() {
+        return salario;
+    }
+
+    public Boolean getAtivo() {
+        return ativo;
+    }
+
+    public boolean isVigente() {
+        return SEM_FIM.equals(validoAte);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        FuncionarioVersao that = (FuncionarioVersao) o;
+        return Objects.equals(pessoaId, that.pessoaId) && Objects.equals(validoDe, that.validoDe);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pessoaId, validoDe);
+    }
+
+    /**
+     * Chave composta (pessoaId, validoDe).
+     */
+    public static class Chave implements Serializable {
+        private UUID pessoaId;
+        private LocalDateTime validoDe;
+
+        public Chave() {
+        }
+
+        public Chave(UUID pessoaId, LocalDateTime validoDe) {
+            this.pessoaId = pessoaId;
+            this.validoDe = validoDe;
+        }
+
+        public UUID getPessoaId() {
+            return pessoaId;
+        }
+
+        public LocalDateTime getValidoDe() {
+            return validoDe;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Chave that = (Chave) o;
+            return Objects.equals(pessoaId, that.pessoaId) && Objects.equals(validoDe, that.validoDe);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pessoaId, validoDe);
+        }
+    }
+}
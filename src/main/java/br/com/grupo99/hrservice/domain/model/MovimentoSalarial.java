@@ -0,0 +1,38 @@
+package br.com.grupo99.hrservice.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Variação a aplicar no resumo salarial de um setor/cargo.
+ * Entradas somam um funcionário e seu salário; saídas subtraem.
+ */
+public record MovimentoSalarial(String setor, String cargo, long quantidade, BigDecimal salario) {
+
+    public static MovimentoSalarial entrada(Funcionario funcionario) {
+        return new MovimentoSalarial(funcionario.getSetor(), funcionario.getCargo(), 1, funcionario.getSalario());
+    }
+
+    public static MovimentoSalarial saida(Funcionario funcionario) {
+        return saida(funcionario.getSetor(), funcionario.getCargo(), funcionario.getSalario());
+    }
+
+    public static MovimentoSalarial saida(String setor, String cargo, BigDecimal salario) {
+        return new MovimentoSalarial(setor, cargo, -1, salario.negate());
+    }
+
+    public ResumoSalarial.Chave chave() {
+        return new ResumoSalarial.Chave(setor, cargo);
+    }
+
+    public MovimentoSalarial somar(MovimentoSalarial outro) {
+        return new MovimentoSalarial(setor, cargo, quantidade + outro.quantidade, salario.add(outro.salario));
+    }
+
+    /**
+     * Movimentos que se anulam (ex.: atualização sem mudança de salário,
+     * setor ou cargo) não precisam ir ao banco.
+     */
+    public boolean isNulo() {
+        return quantidade == 0 && salario.signum() == 0;
+    }
+}
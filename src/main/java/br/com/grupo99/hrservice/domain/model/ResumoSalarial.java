@@ -0,0 +1,117 @@
+package br.com.grupo99.hrservice.domain.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Quantidade e soma de salários dos funcionários ativos por setor e cargo.
+ * Mantido por deltas a cada escrita em Funcionario e conferido
+ * periodicamente contra um GROUP BY da tabela de funcionários.
+ */
+@Entity
+@Table(name = "resumo_salarial")
+@IdClass(ResumoSalarial.Chave.class)
+public class ResumoSalarial {
+
+    @Id
+    @Column(name = "setor", length = 100)
+    private String setor;
+
+    @Id
+    @Column(name = "cargo", length = 100)
+    private String cargo;
+
+    @Column(name = "quantidade", nullable = false)
+    private long quantidade;
+
+    @Column(name = "total_salario", nullable = false)
+    private BigDecimal totalSalario;
+
+    // Construtores
+    public ResumoSalarial() {
+    }
+
+    public ResumoSalarial(String setor, String cargo, long quantidade, BigDecimal totalSalario) {
+        this.setor = setor;
+        this.cargo = cargo;
+        this.quantidade = quantidade;
+        this.totalSalario = totalSalario;
+    }
+
+    // Getters
+    public String getSetor() {
+        return setor;
+    }
+
+    public String getCargo() {
+        return cargo;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getTotalSalario() {
+        return totalSalario;
+    }
+
+    public Chave getChave() {
+        return new Chave(setor, cargo);
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoSalarial{" +
+                "setor='" + setor + '\'' +
+                ", cargo='" + cargo + '\'' +
+                ", quantidade=" + quantidade +
+                ", totalSalario=" + totalSalario +
+                '}';
+    }
+
+    /**
+     * Chave composta (setor, cargo).
+     */
+    public static class Chave implements Serializable {
+        private String setor;
+        private String cargo;
+
+        public Chave() {
+        }
+
+        public Chave(String setor, String cargo) {
+            this.setor = setor;
+            this.cargo = cargo;
+        }
+
+        public String getSetor() {
+            return setor;
+        }
+
+        public String getCargo() {
+            return cargo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Chave that = (Chave) o;
+            return Objects.equals(setor, that.setor) && Objects.equals(cargo, that.cargo);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(setor, cargo);
+        }
+
+        @Override
+        public String toString() {
+            return setor + "/" + cargo;
+        }
+    }
+}
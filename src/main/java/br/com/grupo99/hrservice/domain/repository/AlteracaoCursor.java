@@ -0,0 +1,11 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Posição no feed de alterações, na ordem (alteradoEm, pessoaId): último
+ * registro já entregue ou, com o feed em dia, o limite até onde ele foi lido.
+ */
+public record AlteracaoCursor(LocalDateTime alteradoEm, UUID pessoaId) {
+}
@@ -0,0 +1,37 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
+ * Porta dos IDs de eventos externos já aplicados (consumidor idempotente).
+ */
+public interface EventoProcessadoRepository {
+
+    /**
+     * Dentre os IDs informados, devolve os já processados, em uma única
+     * consulta.
+     *
+     * @param eventoIds IDs dos eventos recebidos
+     * @return Set com os IDs já processados
+     */
+    Set<UUID> findProcessados(Collection<UUID> eventoIds);
+
+    /**
+     * Marca os eventos como processados na transação corrente, em batch.
+     *
+     * @param eventoIds IDs dos eventos aplicados
+     */
+    void registrarAll(Collection<UUID> eventoIds);
+
+    /**
+     * Remove marcas anteriores ao limite, além do qual a fonte não reentrega.
+     *
+     * @param limite instante de corte
+     * @return quantidade de marcas removidas
+     */
+    int deleteProcessadosAntesDe(LocalDateTime limite);
+}
@@ -0,0 +1,43 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioArquivado;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
+ * Porta do arquivo de funcionários inativos há muito tempo.
+ */
+public interface FuncionarioArquivoRepository {
+
+    /**
+     * Move para o arquivo até {@code limite} funcionários inativos desde antes
+     * do instante informado, na ordem da desativação. As linhas saem da tabela
+     * de funcionários na mesma transação em que entram no arquivo.
+     *
+     * @param inativoAntesDe instante de corte do updatedAt dos inativos
+     * @param limite         tamanho do lote
+     * @return List com os pessoaIds arquivados
+     */
+    List<UUID> arquivarInativos(LocalDateTime inativoAntesDe, int limite);
+
+    /**
+     * Busca um funcionário arquivado por ID.
+     *
+     * @param id ID do funcionário
+     * @return Optional com o funcionário arquivado se existir
+     */
+    Optional<FuncionarioArquivado> findById(UUID id);
+
+    /**
+     * Lista uma página do arquivo na ordem de pessoaId, paginada por chave.
+     *
+     * @param apos   último pessoaId da página anterior, ou null para a primeira
+     * @param limite quantidade máxima de registros
+     * @return List com os funcionários arquivados
+     */
+    List<FuncionarioArquivado> findPage(UUID apos, int limite);
+}
@@ -0,0 +1,47 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Critérios da busca de funcionários.
+ * Campos nulos não restringem o resultado; o intervalo de admissão é
+ * inclusivo nas duas pontas.
+ */
+public record FuncionarioBusca(
+        String setor,
+        String cargo,
+        Boolean ativo,
+        LocalDate admitidoDe,
+        LocalDate admitidoAte,
+        Ordenacao ordenarPor,
+        boolean decrescente) {
+
+    /**
+     * Campos aceitos para ordenação. O desempate é sempre por pessoaId.
+     */
+    public enum Ordenacao {
+        DATA_ADMISSAO("dataAdmissao"),
+        SETOR("setor"),
+        CARGO("cargo"),
+        SALARIO("salario"),
+        CREATED_AT("createdAt");
+
+        private final String atributo;
+
+        Ordenacao(String atributo) {
+            this.atributo = atributo;
+        }
+
+        public String atributo() {
+            return atributo;
+        }
+
+        public static Optional<Ordenacao> porAtributo(String atributo) {
+            return Arrays.stream(values())
+                    .filter(ordenacao -> ordenacao.atributo.equals(atributo))
+                    .findFirst();
+        }
+    }
+}
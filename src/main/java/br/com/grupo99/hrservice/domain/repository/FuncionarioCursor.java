@@ -0,0 +1,11 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Posição de paginação por chave (keyset) na ordem (createdAt, pessoaId).
+ * Representa o último registro já entregue; a próxima página começa logo após ele.
+ */
+public record FuncionarioCursor(LocalDateTime createdAt, UUID pessoaId) {
+}
@@ -0,0 +1,12 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+/**
+ * Filtros opcionais para consultas de funcionários.
+ * Campos nulos não restringem o resultado.
+ */
+public record FuncionarioFiltro(String setor, String cargo, Boolean ativo) {
+
+    public static FuncionarioFiltro vazio() {
+        return new FuncionarioFiltro(null, null, null);
+    }
+}
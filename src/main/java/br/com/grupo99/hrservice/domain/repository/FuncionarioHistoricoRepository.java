@@ -0,0 +1,45 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioVersao;
+import br.com.grupo99.hrservice.domain.model.ResumoSalarial;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
+ * Porta de leitura do histórico de funcionários. As versões são gravadas pelo
+ * FuncionarioRepository a cada escrita.
+ */
+public interface FuncionarioHistoricoRepository {
+
+    /**
+     * Lista as versões de um funcionário, da mais antiga à atual.
+     *
+     * @param pessoaId ID do funcionário
+     * @return List com as versões, vazia se não houver histórico
+     */
+    List<FuncionarioVersao> findByPessoaId(UUID pessoaId);
+
+    /**
+     * Lista as versões vigentes no instante informado, na ordem de pessoaId,
+     * paginadas por chave.
+     *
+     * @param em     instante da consulta
+     * @param ativo  filtra pela situação na data, ou null para todas
+     * @param apos   último pessoaId da página anterior, ou null para a primeira
+     * @param limite quantidade máxima de registros
+     * @return List com as versões vigentes
+     */
+    List<FuncionarioVersao> findVigentesEm(LocalDateTime em, Boolean ativo, UUID apos, int limite);
+
+    /**
+     * Quantidade e soma de salários dos funcionários ativos no instante
+     * informado, por setor e cargo.
+     *
+     * @param em instante da consulta
+     * @return List com o resumo na data
+     */
+    List<ResumoSalarial> computeResumoEm(LocalDateTime em);
+}
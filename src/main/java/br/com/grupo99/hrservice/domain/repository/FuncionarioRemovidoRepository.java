@@ -0,0 +1,34 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import br.com.grupo99.hrservice.domain.model.FuncionarioRemovido;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
+ * Porta das lápides de funcionários removidos, lidas pelo feed de alterações.
+ * As lápides são gravadas por {@link FuncionarioRepository#delete}.
+ */
+public interface FuncionarioRemovidoRepository {
+
+    /**
+     * Lista as remoções posteriores ao cursor e até o limite informado, na
+     * ordem (removidoEm, pessoaId).
+     * Sempre reflete o último commit, mesmo com réplicas de leitura.
+     *
+     * @param apos   última posição já entregue, ou null para o início
+     * @param ate    instante máximo de remoção, inclusive
+     * @param limite quantidade máxima de registros
+     * @return List com as lápides encontradas
+     */
+    List<FuncionarioRemovido> findApos(AlteracaoCursor apos, LocalDateTime ate, int limite);
+
+    /**
+     * Descarta as lápides anteriores ao limite de retenção do feed.
+     *
+     * @param limite instante de corte
+     * @return quantidade de lápides removidas
+     */
+    int deleteAntesDe(LocalDateTime limite);
+}
@@ -2,9 +2,14 @@ package br.com.grupo99.hrservice.domain.repository;
 
 import br.com.grupo99.hrservice.domain.model.Funcionario;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
@@ -21,6 +26,15 @@ public interface FuncionarioRepository {
      */
     Funcionario save(Funcionario funcionario);
 
+    /**
+     * Salva um funcionário e sincroniza com o banco na hora, para que versão
+     * e updatedAt do retorno já reflitam a alteração.
+     *
+     * @param funcionario funcionário a ser salvo
+     * @return funcionário salvo
+     */
+    Funcionario saveAndFlush(Funcionario funcionario);
+
     /**
      * Busca funcionário por ID.
      *
@@ -29,6 +43,26 @@ public interface FuncionarioRepository {
      */
     Optional<Funcionario> findById(UUID id);
 
+    /**
+     * Busca funcionário por ID projetando direto no tipo informado, sem
+     * carregar a entidade no contexto de persistência. Sempre reflete o
+     * último commit, mesmo com réplicas de leitura.
+     *
+     * @param id       ID do funcionário
+     * @param projecao record cujos componentes têm os nomes dos atributos
+     * @return Optional com a projeção se existir
+     */
+    <T> Optional<T> findById(UUID id, Class<T> projecao);
+
+    /**
+     * Busca só a versão do funcionário, sem carregar a linha inteira.
+     * Sempre reflete o último commit, mesmo com réplicas de leitura.
+     *
+     * @param id ID do funcionário
+     * @return Optional com a versão se o funcionário existir
+     */
+    Optional<Long> findVersao(UUID id);
+
     /**
      * Busca funcionário por pessoaId.
      *
@@ -45,6 +79,40 @@ public interface FuncionarioRepository {
      */
     boolean existsByPessoaId(UUID pessoaId);
 
+    /**
+     * Retorna, dentre os pessoaIds informados, os que já possuem funcionário.
+     * Executa uma única consulta para toda a coleção.
+     *
+     * @param pessoaIds IDs das pessoas
+     * @return Set com os pessoaIds já cadastrados
+     */
+    Set<UUID> findExistingPessoaIds(Collection<UUID> pessoaIds);
+
+    /**
+     * Busca os funcionários dos IDs informados em uma única consulta.
+     *
+     * @param ids IDs dos funcionários
+     * @return List com os funcionários encontrados
+     */
+    List<Funcionario> findAllById(Collection<UUID> ids);
+
+    /**
+     * Insere funcionários novos em batches JDBC, sem verificar existência
+     * prévia registro a registro. O chamador garante que nenhum deles existe.
+     *
+     * @param funcionarios funcionários a inserir
+     */
+    void insertAll(List<Funcionario> funcionarios);
+
+    /**
+     * Grava as alterações de funcionários já carregados e modificados na
+     * transação corrente, em batches JDBC, e abre no histórico uma versão
+     * para cada um que de fato mudou.
+     *
+     * @param funcionarios funcionários alterados
+     */
+    void updateAll(List<Funcionario> funcionarios);
+
     /**
      * Lista todos os funcionários.
      *
@@ -53,9 +121,113 @@ public interface FuncionarioRepository {
     List<Funcionario> findAll();
 
     /**
-     * Deleta funcionário por ID.
+     * Lista uma página de funcionários ordenada por (createdAt, pessoaId).
+     * A paginação é por chave: o custo de qualquer página é o mesmo da primeira.
+     * Cada linha é projetada direto no record informado.
+     *
+     * @param filtro   filtros opcionais de setor, cargo e ativo
+     * @param apos     último registro da página anterior, ou null para a primeira
+     * @param limite   quantidade máxima de registros
+     * @param projecao record cujos componentes têm os nomes dos atributos
+     * @return List com as projeções da página
+     */
+    <T> List<T> findPage(FuncionarioFiltro filtro, FuncionarioCursor apos, int limite, Class<T> projecao);
+
+    /**
+     * Lista os funcionários criados ou alterados depois do cursor e até o
+     * limite informado, na ordem (updatedAt, pessoaId), projetados no record.
+     * Sempre reflete o último commit, mesmo com réplicas de leitura.
+     *
+     * @param apos     última posição já entregue, ou null para o início
+     * @param ate      instante máximo de alteração, inclusive
+     * @param limite   quantidade máxima de registros
+     * @param projecao record cujos componentes têm os nomes dos atributos
+     * @return List com as projeções encontradas
+     */
+    <T> List<T> findAlteradosApos(AlteracaoCursor apos, LocalDateTime ate, int limite, Class<T> projecao);
+
+    /**
+     * Busca funcionários pelos critérios informados, na ordenação pedida e com
+     * desempate por pessoaId. Cada linha é projetada direto no record.
+     *
+     * @param busca        critérios de filtro e ordenação
+     * @param deslocamento quantidade de registros a pular
+     * @param limite       quantidade máxima de registros
+     * @param projecao     record cujos componentes têm os nomes dos atributos
+     * @return List com as projeções encontradas
+     */
+    <T> List<T> search(FuncionarioBusca busca, int deslocamento, int limite, Class<T> projecao);
+
+    /**
+     * Percorre todos os funcionários sem materializá-los em memória.
+     * Deve ser consumido e fechado dentro de uma transação; cada funcionário é
+     * desanexado do contexto de persistência ao ser entregue.
+     *
+     * @return Stream de funcionários
+     */
+    Stream<Funcionario> streamAll();
+
+    /**
+     * Desativa o funcionário em uma única instrução, sem leitura prévia.
+     * Só altera funcionários ainda ativos e, se informada, ainda na versão
+     * esperada.
+     *
+     * @param id             ID do funcionário
+     * @param versaoEsperada versão que o cliente viu (If-Match), ou null
+     * @return Optional com o funcionário já desativado, vazio se não existe,
+     *         já estava inativo ou mudou de versão
+     */
+    Optional<Funcionario> deactivate(UUID id, Long versaoEsperada);
+
+    /**
+     * Deleta funcionário por ID devolvendo a linha removida e grava a lápide
+     * lida pelo feed de alterações; no PostgreSQL em uma única instrução, sem
+     * leitura prévia.
      *
      * @param id ID do funcionário
+     * @return Optional com o funcionário removido, vazio se não existia
+     */
+    Optional<Funcionario> delete(UUID id);
+
+    /**
+     * Ativa ou desativa, em uma única instrução, os funcionários informados
+     * cuja situação é diferente da pedida. IDs sem funcionário são ignorados.
+     *
+     * @param ids   IDs dos funcionários
+     * @param ativo situação desejada
+     * @return List com os funcionários efetivamente alterados, já na nova
+     *         situação
+     */
+    List<Funcionario> updateAtivoAll(Collection<UUID> ids, boolean ativo);
+
+    /**
+     * Lê e bloqueia (FOR UPDATE) o próximo lote de funcionários do filtro, na
+     * ordem de pessoaId, para uma operação em massa. Os funcionários vêm
+     * desanexados, com os valores anteriores à operação.
+     *
+     * @param filtro filtros de setor, cargo e ativo
+     * @param apos   último pessoaId do lote anterior, ou null para o primeiro
+     * @param limite tamanho do lote
+     * @return List com os funcionários bloqueados
+     */
+    List<Funcionario> findLoteParaAtualizacao(FuncionarioFiltro filtro, UUID apos, int limite);
+
+    /**
+     * Move os funcionários informados para outro setor em uma única instrução.
+     *
+     * @param ids   IDs dos funcionários
+     * @param setor setor de destino
+     * @return quantidade de funcionários alterados
+     */
+    int updateSetorAll(Collection<UUID> ids, String setor);
+
+    /**
+     * Multiplica o salário dos funcionários informados pelo fator, arredondado
+     * a duas casas (meio para cima), em uma única instrução.
+     *
+     * @param ids   IDs dos funcionários
+     * @param fator fator do reajuste (ex.: 1.05 para 5%)
+     * @return quantidade de funcionários alterados
      */
-    void deleteById(UUID id);
+    int updateSalarioAll(Collection<UUID> ids, BigDecimal fator);
 }
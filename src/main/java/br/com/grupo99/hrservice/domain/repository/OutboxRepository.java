@@ -0,0 +1,39 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
+ * Porta da tabela de outbox dos eventos de domínio.
+ */
+public interface OutboxRepository {
+
+    /**
+     * Grava os eventos na transação corrente, em batches JDBC.
+     *
+     * @param eventos eventos a publicar
+     */
+    void appendAll(List<EventoOutbox> eventos);
+
+    /**
+     * Reserva até {@code limite} eventos, dos mais antigos para os mais novos,
+     * bloqueando-os até o fim da transação. Eventos já reservados por outra
+     * transação são pulados (SKIP LOCKED), para que várias instâncias
+     * publiquem em paralelo sem repetir eventos.
+     *
+     * @param limite quantidade máxima de eventos
+     * @return List com os eventos reservados
+     */
+    List<EventoOutbox> claimBatch(int limite);
+
+    /**
+     * Remove os eventos já publicados.
+     *
+     * @param ids IDs dos eventos
+     */
+    void deleteAllById(Collection<UUID> ids);
+}
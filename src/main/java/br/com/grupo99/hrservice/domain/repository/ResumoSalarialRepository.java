@@ -0,0 +1,48 @@
+package br.com.grupo99.hrservice.domain.repository;
+
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.model.ResumoSalarial;
+
+import java.util.List;
+
+/**
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
+ * Porta do resumo salarial por setor e cargo.
+ */
+public interface ResumoSalarialRepository {
+
+    /**
+     * Soma o movimento ao resumo do setor/cargo, criando-o se preciso.
+     * Executa uma única instrução, segura contra escritas concorrentes.
+     *
+     * @param movimento variação de quantidade e salário
+     */
+    void applyDelta(MovimentoSalarial movimento);
+
+    /**
+     * Lista o resumo mantido, ordenado por setor e cargo.
+     *
+     * @return List com o resumo de cada setor/cargo
+     */
+    List<ResumoSalarial> findAll();
+
+    /**
+     * Recalcula o resumo com um GROUP BY completo sobre os funcionários ativos.
+     *
+     * @return List com o resumo calculado
+     */
+    List<ResumoSalarial> computeFromFuncionarios();
+
+    /**
+     * Impede deltas concorrentes até o fim da transação, para que o
+     * recálculo e a correção vejam o mesmo estado.
+     */
+    void lockForReconciliation();
+
+    /**
+     * Substitui todo o resumo mantido pelo informado.
+     *
+     * @param resumo resumo correto
+     */
+    void replaceAll(List<ResumoSalarial> resumo);
+}
@@ -0,0 +1,23 @@
+package br.com.grupo99.hrservice.infrastructure.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Com spring.main.lazy-initialization (profile startup-rapida), mantém
+ * antecipados o DataSource e o EntityManagerFactory: a primeira requisição não
+ * paga o bootstrap do Hibernate e falhas de banco ou de mapeamento continuam
+ * derrubando a subida, antes de a instância ficar pronta.
+ */
+@Configuration
+public class InicializacaoConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter inicializacaoAntecipada() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
+    }
+}
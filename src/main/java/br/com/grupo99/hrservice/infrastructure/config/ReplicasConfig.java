@@ -0,0 +1,134 @@
+package br.com.grupo99.hrservice.infrastructure.config;
+
+import br.com.grupo99.hrservice.infrastructure.datasource.DataSourceDeReplicas;
+import br.com.grupo99.hrservice.infrastructure.datasource.DataSourceRoteado;
+import br.com.grupo99.hrservice.infrastructure.datasource.LeituraAposEscritaInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de leitura (datasource.replicas.urls, separadas por vírgula): o
+ * DataSource do contexto passa a ser um {@link DataSourceRoteado}, que manda
+ * as transações somente leitura para as réplicas, e as leituras de quem
+ * acabou de escrever vão ao primário durante a janela configurada.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.urls")
+public class ReplicasConfig {
+
+    /**
+     * Roda depois dos demais post-processors de DataSource, para envolver o
+     * primário já pronto (com o limitador de {@link VirtualThreadsConfig},
+     * se ativo).
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceRoteadoPostProcessor(Environment environment) {
+        return new RoteamentoPostProcessor(environment);
+    }
+
+    /**
+     * Um pool do Hikari por réplica, iniciado só na primeira leitura: réplica
+     * fora do ar na subida não impede a aplicação de subir. Com virtual
+     * threads, cada pool ganha o próprio limitador, como o do primário.
+     */
+    private static List<DataSource> criarReplicas(Environment environment) {
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        String[] urls = StringUtils.commaDelimitedListToStringArray(
+                environment.getRequiredProperty("datasource.replicas.urls"));
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.length; i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("hr-replica-" + i);
+            replica.setJdbcUrl(urls[i].trim());
+            replica.setUsername(environment.getProperty("datasource.replicas.username",
+                    environment.getProperty("spring.datasource.username")));
+            replica.setPassword(environment.getProperty("datasource.replicas.password",
+                    environment.getProperty("spring.datasource.password")));
+            replica.setMaximumPoolSize(environment.getProperty("datasource.replicas.maximum-pool-size",
+                    Integer.class, 10));
+            replica.setConnectionTimeout(environment.getProperty("datasource.replicas.connection-timeout",
+                    Duration.class, Duration.ofSeconds(2)).toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replica.setReadOnly(true);
+            replicas.add(virtualThreads ? VirtualThreadsConfig.limitar(replica, environment) : replica);
+        }
+        return replicas;
+    }
+
+    @Bean
+    public LeituraAposEscritaInterceptor leituraAposEscritaInterceptor(
+            @Value("${datasource.replicas.leitura-apos-escrita:PT5S}") Duration janela,
+            @Value("${datasource.replicas.leitura-apos-escrita-usuarios:100000}") long maximoDeUsuarios) {
+        return new LeituraAposEscritaInterceptor(janela, maximoDeUsuarios);
+    }
+
+    @Bean
+    public WebMvcConfigurer leituraAposEscritaConfigurer(LeituraAposEscritaInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    /**
+     * Réplicas dentro do rodízio, ao lado das métricas hikaricp.connections.*
+     * do primário.
+     */
+    @Bean
+    public MeterBinder dataSourceReplicasMetricas(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof DataSourceRoteado roteado)) {
+                return;
+            }
+            Gauge.builder("datasource.replicas.disponiveis", roteado.getReplicas(),
+                    DataSourceDeReplicas::getReplicasDisponiveis)
+                    .description("Réplicas de leitura fora de quarentena")
+                    .register(registry);
+        };
+    }
+
+    private static final class RoteamentoPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private RoteamentoPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primario) || bean instanceof DataSourceRoteado) {
+                return bean;
+            }
+            Duration quarentena = environment.getProperty("datasource.replicas.quarentena",
+                    Duration.class, Duration.ofSeconds(30));
+            DataSourceRoteado roteado = new DataSourceRoteado(primario,
+                    new DataSourceDeReplicas(primario, criarReplicas(environment), quarentena));
+            roteado.afterPropertiesSet();
+            return roteado;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package br.com.grupo99.hrservice.infrastructure.config;
 
 import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtAuthorizationFilter;
 import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtRequestFilter;
+import br.com.grupo99.hrservice.infrastructure.security.limite.LimiteDeRequisicoesFilter;
+import jakarta.servlet.Filter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,13 +26,16 @@ import java.util.Optional;
 public class SecurityConfig {
     private final Optional<JwtRequestFilter> jwtRequestFilter;
     private final Optional<JwtAuthorizationFilter> jwtAuthorizationFilter;
+    private final Optional<LimiteDeRequisicoesFilter> limiteDeRequisicoesFilter;
     @Value("${security.disabled:false}")
     private boolean securityDisabled;
 
     public SecurityConfig(Optional<JwtRequestFilter> jwtRequestFilter,
-            Optional<JwtAuthorizationFilter> jwtAuthorizationFilter) {
+            Optional<JwtAuthorizationFilter> jwtAuthorizationFilter,
+            Optional<LimiteDeRequisicoesFilter> limiteDeRequisicoesFilter) {
         this.jwtRequestFilter = jwtRequestFilter;
         this.jwtAuthorizationFilter = jwtAuthorizationFilter;
+        this.limiteDeRequisicoesFilter = limiteDeRequisicoesFilter;
     }
 
     @Bean
@@ -58,8 +63,14 @@ public class SecurityConfig {
         if (jwtRequestFilter.isPresent()) {
             http.addFilterBefore(jwtRequestFilter.get(), UsernamePasswordAuthenticationFilter.class);
         }
+        // Limite por usuário logo após a autenticação, antes da autorização
+        Class<? extends Filter> anterior = JwtRequestFilter.class;
+        if (limiteDeRequisicoesFilter.isPresent()) {
+            http.addFilterAfter(limiteDeRequisicoesFilter.get(), anterior);
+            anterior = LimiteDeRequisicoesFilter.class;
+        }
         if (jwtAuthorizationFilter.isPresent()) {
-            http.addFilterAfter(jwtAuthorizationFilter.get(), JwtRequestFilter.class);
+            http.addFilterAfter(jwtAuthorizationFilter.get(), anterior);
         }
         return http.build();
     }
@@ -0,0 +1,112 @@
+package br.com.grupo99.hrservice.infrastructure.config;
+
+import br.com.grupo99.hrservice.infrastructure.datasource.DataSourceLimitado;
+import br.com.grupo99.hrservice.infrastructure.datasource.DataSourceRoteado;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Modo virtual threads (spring.threads.virtual.enabled=true): o Tomcat, o
+ * executor assíncrono do MVC e o agendador passam a usar virtual threads, e
+ * cada pool do Hikari (primário e réplicas) é envolvido por um
+ * {@link DataSourceLimitado} com tantas permissões quanto o próprio pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /**
+     * Tamanho que o Hikari assume quando maximum-pool-size não é informado;
+     * até o pool iniciar, getMaximumPoolSize() devolve -1.
+     */
+    private static final int TAMANHO_PADRAO_HIKARI = 10;
+
+    /**
+     * Roda antes de qualquer outro post-processor de DataSource: o limitador
+     * fica colado no pool do primário, e o roteamento das réplicas
+     * ({@link ReplicasConfig}) o envolve depois.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceLimitadoPostProcessor(Environment environment) {
+        return new LimitadorPostProcessor(environment);
+    }
+
+    /**
+     * Limitador de um pool do Hikari; datasource.limitador.permissoes, quando
+     * informado, vale para cada pool.
+     */
+    static DataSource limitar(HikariDataSource pool, Environment environment) {
+        int permissoes = environment.getProperty("datasource.limitador.permissoes", Integer.class, 0);
+        if (permissoes <= 0) {
+            permissoes = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : TAMANHO_PADRAO_HIKARI;
+        }
+        Duration esperaMaxima = environment.getProperty("datasource.limitador.espera-maxima",
+                Duration.class, Duration.ofSeconds(2));
+        return new DataSourceLimitado(pool, permissoes, esperaMaxima);
+    }
+
+    /**
+     * Permissões livres e threads na fila do semáforo de cada pool (tag
+     * pool), ao lado das métricas hikaricp.connections.* dos próprios pools.
+     */
+    @Bean
+    public MeterBinder dataSourceLimitadoMetricas(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof DataSourceRoteado roteado)) {
+                registrar(registry, "primario", dataSource);
+                return;
+            }
+            registrar(registry, "primario", roteado.getTargetDataSource());
+            List<DataSource> replicas = roteado.getReplicas().getDataSources();
+            for (int i = 0; i < replicas.size(); i++) {
+                registrar(registry, "replica-" + i, replicas.get(i));
+            }
+        };
+    }
+
+    private static void registrar(MeterRegistry registry, String pool, DataSource dataSource) {
+        if (!(dataSource instanceof DataSourceLimitado limitado)) {
+            return;
+        }
+        Gauge.builder("datasource.limitador.disponiveis", limitado, DataSourceLimitado::getPermissoesDisponiveis)
+                .description("Permissões livres no semáforo de conexões")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("datasource.limitador.aguardando", limitado, DataSourceLimitado::getThreadsAguardando)
+                .description("Threads aguardando permissão de conexão")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    private static final class LimitadorPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final Environment environment;
+
+        private LimitadorPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof HikariDataSource pool ? limitar(pool, environment) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
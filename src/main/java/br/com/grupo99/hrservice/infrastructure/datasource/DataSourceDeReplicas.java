@@ -0,0 +1,119 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource das transações somente leitura: distribui as conexões entre as
+ * réplicas em rodízio e recorre ao primário quando nenhuma está disponível.
+ * <p>
+ * Uma réplica que falha ao entregar conexão fica em quarentena pelo tempo
+ * configurado e volta ao rodízio depois dele, sem verificação ativa. Leituras
+ * marcadas com {@link LeituraNoPrimario} vão direto ao primário.
+ */
+public class DataSourceDeReplicas extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceDeReplicas.class);
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final long quarentenaNanos;
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    public DataSourceDeReplicas(DataSource primario, List<DataSource> replicas, Duration quarentena) {
+        this.primario = primario;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.quarentenaNanos = quarentena.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conectar(DataSource::getConnection);
+    }
+
+    /**
+     * Mesma escolha de réplica, com credenciais explícitas repassadas ao pool
+     * escolhido.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conectar(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection conectar(Conexao conexao) throws SQLException {
+        if (LeituraNoPrimario.ativa()) {
+            return conexao.obter(primario);
+        }
+        int inicio = proxima.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(inicio + i, replicas.size()));
+            if (!replica.disponivel()) {
+                continue;
+            }
+            try {
+                return conexao.obter(replica.dataSource);
+            } catch (SQLFeatureNotSupportedException e) {
+                // Limitação do pool, não indisponibilidade da réplica
+                throw e;
+            } catch (SQLException e) {
+                replica.colocarEmQuarentena();
+                logger.warn("Réplica {} indisponível; fora do rodízio por {} ms",
+                        Math.floorMod(inicio + i, replicas.size()), quarentenaNanos / 1_000_000, e);
+            }
+        }
+        return conexao.obter(primario);
+    }
+
+    public int getReplicasDisponiveis() {
+        return (int) replicas.stream().filter(Replica::disponivel).count();
+    }
+
+    public List<DataSource> getDataSources() {
+        return replicas.stream().map(replica -> replica.dataSource).toList();
+    }
+
+    /**
+     * Fecha os pools das réplicas; o primário pertence ao contexto.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable fechavel) {
+                fechavel.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Conexao {
+        Connection obter(DataSource dataSource) throws SQLException;
+    }
+
+    private final class Replica {
+        private final DataSource dataSource;
+        private final AtomicLong indisponivelAte = new AtomicLong(Long.MIN_VALUE);
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private boolean disponivel() {
+            long ate = indisponivelAte.get();
+            return ate == Long.MIN_VALUE || System.nanoTime() - ate >= 0;
+        }
+
+        private void colocarEmQuarentena() {
+            indisponivelAte.set(System.nanoTime() + quarentenaNanos);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita quantas threads podem segurar uma conexão ao mesmo
+ * tempo.
+ * <p>
+ * Com virtual threads não há mais o teto de threads do Tomcat: milhares de
+ * requisições chegam juntas ao pool do Hikari. O semáforo (justo, FIFO)
+ * enfileira o excedente antes do pool e, passada a espera máxima, falha rápido
+ * com {@link SQLTransientConnectionException} em vez de segurar a requisição
+ * até o connectionTimeout. A espera usa {@link Semaphore}, que estaciona a
+ * virtual thread sem fixar a carrier.
+ */
+public class DataSourceLimitado extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permissoes;
+    private final long esperaMaximaNanos;
+
+    public DataSourceLimitado(DataSource alvo, int permissoes, Duration esperaMaxima) {
+        super(alvo);
+        this.permissoes = new Semaphore(permissoes, true);
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    public int getPermissoesDisponiveis() {
+        return permissoes.availablePermits();
+    }
+
+    public int getThreadsAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    /**
+     * Fecha o pool envolvido: como bean, este DataSource substitui o pool
+     * e herda dele o close() inferido pelo contexto.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable alvo) {
+            alvo.close();
+        }
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Limite de conexões atingido; " + permissoes.getQueueLength() + " requisições aguardando");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    /**
+     * Devolve a permissão no primeiro close(); fechamentos repetidos não
+     * liberam permissões a mais.
+     */
+    private Connection liberarAoFechar(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, metodo, argumentos) -> {
+                    if (!"close".equals(metodo.getName())) {
+                        return invocar(conexao, metodo, argumentos);
+                    }
+                    try {
+                        return invocar(conexao, metodo, argumentos);
+                    } finally {
+                        if (liberada.compareAndSet(false, true)) {
+                            permissoes.release();
+                        }
+                    }
+                });
+    }
+
+    private static Object invocar(Connection conexao, Method metodo, Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(conexao, argumentos);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource da aplicação quando há réplicas: transações somente leitura
+ * ({@code @Transactional(readOnly = true)}) usam o {@link DataSourceDeReplicas}
+ * e as demais, o primário.
+ * <p>
+ * A conexão real só é obtida na primeira instrução, depois que o gerenciador
+ * de transações marcou a conexão como somente leitura; por isso a escolha
+ * fica com o {@link LazyConnectionDataSourceProxy}.
+ */
+public class DataSourceRoteado extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSourceDeReplicas replicas;
+
+    public DataSourceRoteado(DataSource primario, DataSourceDeReplicas replicas) {
+        super(primario);
+        this.replicas = replicas;
+        setReadOnlyDataSource(replicas);
+    }
+
+    public DataSourceDeReplicas getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Substitui o close() inferido do pool primário, que este DataSource
+     * envolve: fecha as réplicas e depois o primário.
+     */
+    @Override
+    public void close() throws Exception {
+        replicas.close();
+        if (obtainTargetDataSource() instanceof AutoCloseable primario) {
+            primario.close();
+        }
+    }
+}
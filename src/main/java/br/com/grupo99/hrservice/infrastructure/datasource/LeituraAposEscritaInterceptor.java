@@ -0,0 +1,76 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Leitura das próprias escritas: depois de uma requisição de escrita, as
+ * leituras do mesmo usuário vão ao primário durante a janela configurada,
+ * para não ver a réplica ainda sem a alteração.
+ * <p>
+ * A escrita é registrada no início e de novo no fim da requisição, para que a
+ * janela cubra tanto a resposta quanto escritas demoradas. A janela vale só
+ * nesta instância; requisições anônimas não são rastreadas.
+ */
+public class LeituraAposEscritaInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> METODOS_DE_LEITURA = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> escritasRecentes;
+
+    public LeituraAposEscritaInterceptor(Duration janela, long maximoDeUsuarios) {
+        this.escritasRecentes = Caffeine.newBuilder()
+                .expireAfterWrite(janela)
+                .maximumSize(maximoDeUsuarios)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String usuario = usuarioAutenticado();
+        if (usuario == null) {
+            return true;
+        }
+        if (!METODOS_DE_LEITURA.contains(request.getMethod())) {
+            escritasRecentes.put(usuario, Boolean.TRUE);
+        } else if (escritasRecentes.getIfPresent(usuario) != null) {
+            LeituraNoPrimario.ativar();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        // A thread do container volta ao pool; o despacho assíncrono passa de novo pelo preHandle
+        LeituraNoPrimario.limpar();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        LeituraNoPrimario.limpar();
+        String usuario = usuarioAutenticado();
+        if (usuario != null && !METODOS_DE_LEITURA.contains(request.getMethod())) {
+            escritasRecentes.put(usuario, Boolean.TRUE);
+        }
+    }
+
+    private static String usuarioAutenticado() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null || !autenticacao.isAuthenticated()
+                || autenticacao instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return autenticacao.getName();
+    }
+}
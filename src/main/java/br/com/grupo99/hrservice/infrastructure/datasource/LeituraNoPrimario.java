@@ -0,0 +1,46 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marca, na thread corrente, que as leituras devem ir ao banco primário
+ * mesmo em transações somente leitura, quando há réplicas configuradas.
+ * <p>
+ * Vale para a conexão que a transação ainda vai obter: a escolha entre
+ * primário e réplica acontece na primeira instrução, e uma transação que já
+ * leu da réplica continua nela até o fim.
+ */
+public final class LeituraNoPrimario {
+
+    private static final ThreadLocal<Boolean> ATIVA = new ThreadLocal<>();
+
+    private LeituraNoPrimario() {
+    }
+
+    public static boolean ativa() {
+        return Boolean.TRUE.equals(ATIVA.get());
+    }
+
+    public static void ativar() {
+        ATIVA.set(Boolean.TRUE);
+    }
+
+    public static void limpar() {
+        ATIVA.remove();
+    }
+
+    /**
+     * Executa a leitura no primário, restaurando o estado anterior da thread.
+     */
+    public static <T> T executar(Supplier<T> leitura) {
+        if (ativa()) {
+            return leitura.get();
+        }
+        ativar();
+        try {
+            return leitura.get();
+        } finally {
+            limpar();
+        }
+    }
+}
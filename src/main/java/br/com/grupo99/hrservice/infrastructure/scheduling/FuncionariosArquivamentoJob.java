@@ -0,0 +1,49 @@
+package br.com.grupo99.hrservice.infrastructure.scheduling;
+
+import br.com.grupo99.hrservice.application.service.FuncionarioArquivoApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Move os funcionários inativos há muito tempo para o arquivo. Cada lote roda
+ * em sua própria transação, curta; enquanto os lotes vierem cheios, o próximo
+ * é processado, até o máximo por execução.
+ */
+@Component
+public class FuncionariosArquivamentoJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuncionariosArquivamentoJob.class);
+
+    private final FuncionarioArquivoApplicationService funcionarioArquivoApplicationService;
+    private final int tamanhoLote;
+    private final int maximoPorExecucao;
+
+    public FuncionariosArquivamentoJob(FuncionarioArquivoApplicationService funcionarioArquivoApplicationService,
+            @Value("${funcionarios.arquivamento.tamanho-lote:200}") int tamanhoLote,
+            @Value("${funcionarios.arquivamento.maximo-por-execucao:20000}") int maximoPorExecucao) {
+        this.funcionarioArquivoApplicationService = funcionarioArquivoApplicationService;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoPorExecucao = maximoPorExecucao;
+    }
+
+    @Scheduled(fixedDelayString = "${funcionarios.arquivamento.intervalo:PT1H}",
+            initialDelayString = "${funcionarios.arquivamento.atraso-inicial:PT20M}")
+    public void arquivar() {
+        int total = 0;
+        try {
+            int arquivados;
+            do {
+                arquivados = funcionarioArquivoApplicationService.arquivarLote(tamanhoLote);
+                total += arquivados;
+            } while (arquivados == tamanhoLote && total < maximoPorExecucao);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao arquivar funcionários inativos; nova tentativa no próximo ciclo", e);
+        }
+        if (total > 0) {
+            logger.info("{} funcionários inativos arquivados", total);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.grupo99.hrservice.infrastructure.scheduling;
+
+import br.com.grupo99.hrservice.application.service.FuncionarioAlteracoesApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Descarta periodicamente as lápides de remoção além da retenção do feed de
+ * alterações.
+ */
+@Component
+public class FuncionariosRemovidosLimpezaJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuncionariosRemovidosLimpezaJob.class);
+
+    private final FuncionarioAlteracoesApplicationService funcionarioAlteracoesApplicationService;
+
+    public FuncionariosRemovidosLimpezaJob(
+            FuncionarioAlteracoesApplicationService funcionarioAlteracoesApplicationService) {
+        this.funcionarioAlteracoesApplicationService = funcionarioAlteracoesApplicationService;
+    }
+
+    @Scheduled(fixedDelayString = "${funcionarios.alteracoes.limpeza.intervalo:PT6H}",
+            initialDelayString = "${funcionarios.alteracoes.limpeza.atraso-inicial:PT15M}")
+    public void limpar() {
+        int removidas = funcionarioAlteracoesApplicationService.limparRemocoes();
+        logger.debug("{} lápides de funcionários removidos descartadas", removidas);
+    }
+}
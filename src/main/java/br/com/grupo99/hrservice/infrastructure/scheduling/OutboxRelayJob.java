@@ -0,0 +1,46 @@
+package br.com.grupo99.hrservice.infrastructure.scheduling;
+
+import br.com.grupo99.hrservice.application.service.OutboxApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica os eventos pendentes do outbox. Cada lote roda em sua própria
+ * transação; enquanto os lotes vierem cheios, o próximo é buscado sem
+ * esperar o intervalo.
+ */
+@Component
+public class OutboxRelayJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayJob.class);
+
+    private final OutboxApplicationService outboxApplicationService;
+    private final int tamanhoLote;
+
+    public OutboxRelayJob(OutboxApplicationService outboxApplicationService,
+            @Value("${outbox.relay.tamanho-lote:100}") int tamanhoLote) {
+        this.outboxApplicationService = outboxApplicationService;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.intervalo:PT1S}",
+            initialDelayString = "${outbox.relay.atraso-inicial:PT10S}")
+    public void publicar() {
+        int total = 0;
+        try {
+            int publicados;
+            do {
+                publicados = outboxApplicationService.publicarLote(tamanhoLote);
+                total += publicados;
+            } while (publicados == tamanhoLote);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao publicar eventos do outbox; nova tentativa no próximo ciclo", e);
+        }
+        if (total > 0) {
+            logger.debug("Relay do outbox publicou {} eventos", total);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.grupo99.hrservice.infrastructure.scheduling;
+
+import br.com.grupo99.hrservice.application.service.PessoaEventosApplicationService;
+import br.com.grupo99.hrservice.domain.events.FonteDeEventosPessoa;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Consome os eventos do People Service em micro-lotes. Cada lote é aplicado
+ * em uma transação e confirmado na fonte só depois do commit; enquanto os
+ * lotes vierem cheios, o próximo é lido sem esperar o intervalo.
+ */
+@Component
+public class PessoaEventosConsumerJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PessoaEventosConsumerJob.class);
+
+    private final FonteDeEventosPessoa fonte;
+    private final PessoaEventosApplicationService pessoaEventosApplicationService;
+    private final int tamanhoLote;
+    private final Duration retencao;
+
+    public PessoaEventosConsumerJob(FonteDeEventosPessoa fonte,
+            PessoaEventosApplicationService pessoaEventosApplicationService, MeterRegistry meterRegistry,
+            @Value("${pessoa.eventos.tamanho-lote:500}") int tamanhoLote,
+            @Value("${pessoa.eventos.retencao:P7D}") Duration retencao) {
+        this.fonte = fonte;
+        this.pessoaEventosApplicationService = pessoaEventosApplicationService;
+        this.tamanhoLote = tamanhoLote;
+        this.retencao = retencao;
+        Gauge.builder("pessoa.eventos.pendentes", fonte, FonteDeEventosPessoa::pendentes)
+                .description("Eventos do People Service ainda não confirmados (lag do consumidor)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${pessoa.eventos.intervalo:PT1S}",
+            initialDelayString = "${pessoa.eventos.atraso-inicial:PT10S}")
+    public void consumir() {
+        try {
+            List<PessoaEvent> eventos;
+            do {
+                eventos = fonte.receber(tamanhoLote);
+                if (eventos.isEmpty()) {
+                    return;
+                }
+                int alterados = pessoaEventosApplicationService.aplicar(eventos);
+                fonte.confirmar(eventos.size());
+                logger.debug("{} eventos do People Service aplicados; {} funcionários alterados",
+                        eventos.size(), alterados);
+            } while (eventos.size() == tamanhoLote);
+        } catch (RuntimeException e) {
+            // Lote não confirmado: volta na próxima execução
+            logger.warn("Falha ao aplicar eventos do People Service; nova tentativa no próximo ciclo", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pessoa.eventos.limpeza.intervalo:PT6H}",
+            initialDelayString = "${pessoa.eventos.limpeza.atraso-inicial:PT10M}")
+    public void limparProcessados() {
+        int removidos = pessoaEventosApplicationService.limparProcessados(retencao);
+        logger.debug("{} marcas de eventos processados removidas", removidos);
+    }
+}
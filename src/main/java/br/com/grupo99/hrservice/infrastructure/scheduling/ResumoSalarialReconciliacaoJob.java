@@ -0,0 +1,33 @@
+package br.com.grupo99.hrservice.infrastructure.scheduling;
+
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconcilia periodicamente o resumo salarial com a tabela de funcionários.
+ */
+@Component
+public class ResumoSalarialReconciliacaoJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumoSalarialReconciliacaoJob.class);
+
+    private final ResumoSalarialApplicationService resumoSalarialApplicationService;
+
+    public ResumoSalarialReconciliacaoJob(ResumoSalarialApplicationService resumoSalarialApplicationService) {
+        this.resumoSalarialApplicationService = resumoSalarialApplicationService;
+    }
+
+    @Scheduled(fixedDelayString = "${resumo-salarial.reconciliacao.intervalo:PT1H}",
+            initialDelayString = "${resumo-salarial.reconciliacao.atraso-inicial:PT5M}")
+    public void reconciliar() {
+        int divergentes = resumoSalarialApplicationService.reconciliar();
+        if (divergentes > 0) {
+            logger.warn("Reconciliação do resumo salarial corrigiu {} setores/cargos", divergentes);
+        } else {
+            logger.debug("Resumo salarial conferido sem divergências");
+        }
+    }
+}
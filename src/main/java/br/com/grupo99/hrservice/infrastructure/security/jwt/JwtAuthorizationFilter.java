@@ -15,28 +15,20 @@ import java.io.IOException;
 @Component
 @ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
-    private final JwtUtil jwtUtil;
-
-    public JwtAuthorizationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
-    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
-        final String authHeader = request.getHeader("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-        String jwt = authHeader.substring(7);
+        // O token já foi verificado pelo JwtRequestFilter; aqui apenas lemos o
+        // principal publicado no contexto de segurança, sem novo parse.
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof JwtUserDetails userDetails)) {
             filterChain.doFilter(request, response);
             return;
         }
-        String perfil = jwtUtil.extractPerfil(jwt);
-        String pessoaId = jwtUtil.extractPessoaId(jwt);
+        String perfil = userDetails.getPerfil();
+        String pessoaId = userDetails.getPessoaId().toString();
         if ("MECANICO".equals(perfil) || "ADMIN".equals(perfil)) {
             filterChain.doFilter(request, response);
             return;
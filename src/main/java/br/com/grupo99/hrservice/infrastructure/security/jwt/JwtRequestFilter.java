@@ -1,5 +1,7 @@
 package br.com.grupo99.hrservice.infrastructure.security.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +16,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
@@ -21,10 +24,14 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
-    private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
+    private final Timer verificacoesValidas;
+    private final Timer verificacoesInvalidas;
 
-    public JwtRequestFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtRequestFilter(JwtTokenCache jwtTokenCache, MeterRegistry meterRegistry) {
+        this.jwtTokenCache = jwtTokenCache;
+        this.verificacoesValidas = timerDeVerificacao(meterRegistry, "valido");
+        this.verificacoesInvalidas = timerDeVerificacao(meterRegistry, "invalido");
     }
 
     @Override
@@ -35,27 +42,40 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
             return;
         }
+        final long inicio = System.nanoTime();
         try {
             final String jwt = authHeader.substring(BEARER_PREFIX.length());
-            final JwtUserDetails userDetails = jwtUtil.extractUserDetails(jwt);
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                logger.debug("Usuário autenticado: {} com perfil: {}", userDetails.getUsername(),
-                        userDetails.getPerfil());
-            } else {
-                logger.warn("Token JWT inválido para usuário: {}", userDetails.getUsername());
-                SecurityContextHolder.clearContext();
-            }
+            // No máximo uma verificação HMAC por token (nenhuma em acerto de cache);
+            // o usuário segue para o JwtAuthorizationFilter dentro do principal.
+            final JwtUserDetails userDetails = jwtTokenCache.resolve(jwt);
+            verificacoesValidas.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            logger.debug("Usuário autenticado: {} com perfil: {}", userDetails.getUsername(),
+                    userDetails.getPerfil());
         } catch (IllegalArgumentException e) {
+            verificacoesInvalidas.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
             logger.error("Erro ao processar token JWT: {}", e.getMessage());
             SecurityContextHolder.clearContext();
         } catch (Exception e) {
+            verificacoesInvalidas.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
             logger.error("Erro ao processar token JWT: {}", e.getMessage(), e);
             SecurityContextHolder.clearContext();
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Tempo de resolução do token (acerto de cache ou parse + HMAC), separado
+     * do restante da requisição em http.server.requests.
+     */
+    private static Timer timerDeVerificacao(MeterRegistry meterRegistry, String resultado) {
+        return Timer.builder("hr.jwt.verificacao")
+                .description("Verificação do token JWT no JwtRequestFilter")
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
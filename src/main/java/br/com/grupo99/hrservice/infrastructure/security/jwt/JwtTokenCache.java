@@ -0,0 +1,138 @@
+package br.com.grupo99.hrservice.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache de tokens JWT já verificados, na frente do {@link JwtUtil}.
+ * <p>
+ * A chave é o SHA-256 do token (o bearer em claro não fica no heap) e cada
+ * entrada expira exatamente no claim {@code exp}; acima disso vale o limite de
+ * tamanho do Caffeine (W-TinyLFU). O Caffeine não usa lock global: leituras são
+ * lock-free e a verificação de um mesmo token concorrente é feita uma só vez.
+ * A verificação roda fora do compute do mapa (que usa monitor): requisições
+ * concorrentes com o mesmo token aguardam um {@link CompletableFuture} e, em
+ * virtual threads, estacionam sem fixar a carrier thread.
+ */
+@Component
+@ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
+public class JwtTokenCache {
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final AsyncCache<String, TokenVerificado> cache;
+
+    public JwtTokenCache(JwtUtil jwtUtil, MeterRegistry meterRegistry,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpiraNoClaimExp())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "jwt.tokens");
+    }
+
+    /**
+     * Devolve o usuário de um token válido, verificando assinatura e expiração
+     * apenas na primeira vez que o token é visto.
+     *
+     * @throws IllegalArgumentException se o token não for válido para o usuário
+     * @throws io.jsonwebtoken.JwtException se a assinatura ou o token forem inválidos
+     */
+    public JwtUserDetails resolve(String token) {
+        if (!enabled) {
+            return verificar(token).userDetails();
+        }
+        String chave = digest(token);
+        TokenVerificado verificado = verificarUmaVez(chave, token);
+        // Nunca estende a vida do token: a expiração do Caffeine é baseada em
+        // nanoTime, então conferimos o exp em tempo de parede a cada acerto.
+        if (verificado.expiraEm() <= System.currentTimeMillis()) {
+            cache.synchronous().invalidate(chave);
+            throw new IllegalArgumentException("Token JWT expirado");
+        }
+        return verificado.userDetails();
+    }
+
+    long estimatedSize() {
+        cache.synchronous().cleanUp();
+        return cache.synchronous().estimatedSize();
+    }
+
+    private TokenVerificado verificarUmaVez(String chave, String token) {
+        CompletableFuture<TokenVerificado> verificacao = new CompletableFuture<>();
+        CompletableFuture<TokenVerificado> resultado = cache.get(chave, (k, executor) -> verificacao);
+        if (resultado == verificacao) {
+            try {
+                verificacao.complete(verificar(token));
+            } catch (RuntimeException e) {
+                // Future com falha sai do cache: um token inválido não fica guardado
+                verificacao.completeExceptionally(e);
+            }
+        }
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private TokenVerificado verificar(String token) {
+        Claims claims = jwtUtil.parseClaims(token);
+        JwtUserDetails userDetails = jwtUtil.extractUserDetails(claims);
+        if (!jwtUtil.isTokenValid(claims, userDetails)) {
+            throw new IllegalArgumentException("Token JWT inválido para usuário: " + userDetails.getUsername());
+        }
+        return new TokenVerificado(userDetails, claims.getExpiration().getTime());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private record TokenVerificado(JwtUserDetails userDetails, long expiraEm) {
+    }
+
+    private static final class ExpiraNoClaimExp implements Expiry<String, TokenVerificado> {
+        @Override
+        public long expireAfterCreate(String chave, TokenVerificado valor, long currentTime) {
+            long restante = valor.expiraEm() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, restante));
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, TokenVerificado valor, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String chave, TokenVerificado valor, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
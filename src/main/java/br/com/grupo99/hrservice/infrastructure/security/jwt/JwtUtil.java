@@ -1,6 +1,7 @@
 package br.com.grupo99.hrservice.infrastructure.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,42 +11,53 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * Emissão e verificação de tokens JWT.
+ * A chave HMAC e o parser são construídos uma única vez na inicialização; o
+ * parser é imutável e thread-safe, podendo ser compartilhado entre requisições.
+ */
 @Component
 @ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
 public class JwtUtil {
-    @Value("${jwt.secret}")
-    private String secretKey;
-    @Value("${jwt.expiration.ms}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
+    private final Key signInKey;
+    private final JwtParser jwtParser;
+
+    public JwtUtil(@Value("${jwt.secret}") String secretKey, @Value("${jwt.expiration.ms}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.signInKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+    }
+
+    /**
+     * Verifica a assinatura e a expiração do token e devolve seus claims.
+     * É a única operação criptográfica do pipeline: os demais métodos que recebem
+     * {@link Claims} trabalham sobre o resultado já verificado.
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public String extractPessoaId(String token) {
-        String pessoaId = extractClaim(token, claims -> claims.get("pessoaId", String.class));
-        if (pessoaId == null || pessoaId.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'pessoaId'");
-        return pessoaId;
+        return extractPessoaId(parseClaims(token));
     }
 
     public String extractNumeroDocumento(String token) {
-        String numeroDocumento = extractClaim(token, claims -> claims.get("numeroDocumento", String.class));
-        if (numeroDocumento == null || numeroDocumento.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'numeroDocumento'");
-        return numeroDocumento;
+        return extractNumeroDocumento(parseClaims(token));
     }
 
     public String extractTipoPessoa(String token) {
-        String tipoPessoa = extractClaim(token, claims -> claims.get("tipoPessoa", String.class));
-        if (tipoPessoa == null || tipoPessoa.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'tipoPessoa'");
-        return tipoPessoa;
+        return extractTipoPessoa(parseClaims(token));
     }
 
     public String extractCargo(String token) {
@@ -53,24 +65,20 @@ public class JwtUtil {
     }
 
     public String extractPerfil(String token) {
-        String perfil = extractClaim(token, claims -> claims.get("perfil", String.class));
-        if (perfil == null || perfil.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'perfil'");
-        return perfil;
+        return extractPerfil(parseClaims(token));
     }
 
     public JwtUserDetails extractUserDetails(String token) {
-        String username = extractUsername(token);
-        String pessoaId = extractPessoaId(token);
-        String numeroDocumento = extractNumeroDocumento(token);
-        String tipoPessoa = extractTipoPessoa(token);
-        String cargo = extractCargo(token);
-        String perfil = extractPerfil(token);
-        return JwtUserDetails.from(username, pessoaId, numeroDocumento, tipoPessoa, cargo, perfil);
+        return extractUserDetails(parseClaims(token));
+    }
+
+    public JwtUserDetails extractUserDetails(Claims claims) {
+        return JwtUserDetails.from(claims.getSubject(), extractPessoaId(claims), extractNumeroDocumento(claims),
+                extractTipoPessoa(claims), claims.get("cargo", String.class), extractPerfil(claims));
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
@@ -82,28 +90,43 @@ public class JwtUtil {
         return Jwts.builder().setClaims(extraClaims).setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256).compact();
+                .signWith(signInKey, SignatureAlgorithm.HS256).compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseClaims(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return username != null && username.equals(userDetails.getUsername()) && !isTokenExpired(claims);
+    }
+
+    private boolean isTokenExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.before(new Date());
+    }
+
+    private String extractPessoaId(Claims claims) {
+        return requiredClaim(claims, "pessoaId");
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private String extractNumeroDocumento(Claims claims) {
+        return requiredClaim(claims, "numeroDocumento");
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private String extractTipoPessoa(Claims claims) {
+        return requiredClaim(claims, "tipoPessoa");
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSignInKey()).build().parseClaimsJws(token).getBody();
+    private String extractPerfil(Claims claims) {
+        return requiredClaim(claims, "perfil");
     }
 
-    private Key getSignInKey() {
-        byte[] decodedKey = java.util.Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(decodedKey);
+    private String requiredClaim(Claims claims, String name) {
+        String value = claims.get(name, String.class);
+        if (value == null || value.trim().isEmpty())
+            throw new IllegalArgumentException("Token JWT não contém claim '" + name + "'");
+        return value;
     }
 }
@@ -0,0 +1,47 @@
+package br.com.grupo99.hrservice.infrastructure.security.limite;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem lock, na forma GCRA: em vez de tokens e instante da
+ * última reposição, guarda um único long (o instante teórico em que o balde
+ * volta a ficar cheio), atualizado com um CAS por requisição. Cabe
+ * {@code capacidade} requisições de uma vez e uma a cada
+ * {@code 1/reposicaoPorSegundo} depois disso.
+ */
+public final class BaldeDeTokens {
+
+    private final long intervalo;
+    private final long tolerancia;
+    private final AtomicLong cheioEm;
+
+    /**
+     * @param agora instante de criação (System.nanoTime); o balde nasce cheio
+     */
+    public BaldeDeTokens(long capacidade, double reposicaoPorSegundo, long agora) {
+        this.intervalo = Math.max(1, (long) (1_000_000_000L / reposicaoPorSegundo));
+        this.tolerancia = capacidade > Long.MAX_VALUE / 4 / intervalo ? Long.MAX_VALUE / 4 : intervalo * capacidade;
+        this.cheioEm = new AtomicLong(agora);
+    }
+
+    /**
+     * Consome um token se houver.
+     *
+     * @param agora instante da requisição (System.nanoTime)
+     * @return 0 se consumiu, senão quantos nanossegundos faltam para o próximo token
+     */
+    public long consumir(long agora) {
+        while (true) {
+            long atual = cheioEm.get();
+            // Comparação por diferença: nanoTime pode ser negativo
+            long novo = (atual - agora > 0 ? atual : agora) + intervalo;
+            long espera = novo - agora - tolerancia;
+            if (espera > 0) {
+                return espera;
+            }
+            if (cheioEm.compareAndSet(atual, novo)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.grupo99.hrservice.infrastructure.security.limite;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de requisições por principal (pessoaId). Toda requisição consome do
+ * balde geral, dimensionado pelo perfil do usuário, e do balde de cada regra
+ * de endpoint que casar com o método e o caminho.
+ * <p>
+ * Os baldes ficam num cache do Caffeine com tamanho máximo e expiração por
+ * ociosidade: um acerto é uma leitura sem lock no mapa mais o CAS do balde, e
+ * a memória não cresce com o número de usuários vistos. Um balde ocioso por
+ * mais tempo do que leva para encher de novo é descartado sem perda.
+ */
+public class LimitadorDeRequisicoes {
+
+    static final String REGRA_GERAL = "geral";
+    private static final int GERAL = -1;
+
+    private final Limite padrao;
+    private final Map<String, Limite> porPerfil;
+    private final List<Regra> regras;
+    private final LongSupplier relogio;
+    private final Cache<Chave, BaldeDeTokens> baldes;
+
+    public LimitadorDeRequisicoes(Limite padrao, Map<String, Limite> porPerfil, List<Regra> regras,
+            Duration ociosidade, long maximoDeBaldes, LongSupplier relogio) {
+        this.padrao = padrao;
+        this.porPerfil = Map.copyOf(porPerfil);
+        this.regras = List.copyOf(regras);
+        this.relogio = relogio;
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(maximoDeBaldes)
+                .expireAfterAccess(ociosidade)
+                .build();
+    }
+
+    /**
+     * Consome um token de cada balde que se aplica à requisição.
+     *
+     * @return null se a requisição pode seguir, senão a regra que a barrou e a espera
+     */
+    public Rejeicao consumir(UUID pessoaId, String perfil, String metodo, String caminho) {
+        long agora = relogio.getAsLong();
+        Limite limite = perfil != null ? porPerfil.getOrDefault(perfil, padrao) : padrao;
+        long espera = balde(pessoaId, GERAL, limite, agora).consumir(agora);
+        if (espera > 0) {
+            return new Rejeicao(REGRA_GERAL, espera);
+        }
+        if (regras.isEmpty()) {
+            return null;
+        }
+        PathContainer caminhoAnalisado = PathContainer.parsePath(caminho);
+        for (int i = 0; i < regras.size(); i++) {
+            Regra regra = regras.get(i);
+            if (!regra.aplica(metodo, caminhoAnalisado)) {
+                continue;
+            }
+            espera = balde(pessoaId, i, regra.limite(), agora).consumir(agora);
+            if (espera > 0) {
+                return new Rejeicao(regra.nome(), espera);
+            }
+        }
+        return null;
+    }
+
+    public long getQuantidadeDeBaldes() {
+        return baldes.estimatedSize();
+    }
+
+    private BaldeDeTokens balde(UUID pessoaId, int regra, Limite limite, long agora) {
+        return baldes.get(new Chave(pessoaId, regra),
+                chave -> new BaldeDeTokens(limite.capacidade(), limite.reposicaoPorSegundo(), agora));
+    }
+
+    /**
+     * Lê "PERFIL=capacidade:reposição,..." (ex.: {@code ADMIN=200:100,CLIENTE=30:10}).
+     */
+    public static Map<String, Limite> perfis(String especificacao) {
+        Map<String, Limite> perfis = new HashMap<>();
+        for (String item : StringUtils.commaDelimitedListToStringArray(especificacao)) {
+            int igual = item.lastIndexOf('=');
+            if (igual < 0) {
+                throw new IllegalArgumentException("Limite de perfil deve ter a forma PERFIL=capacidade:reposição: "
+                        + item);
+            }
+            perfis.put(item.substring(0, igual).trim(), Limite.de(item.substring(igual + 1)));
+        }
+        return perfis;
+    }
+
+    /**
+     * Lê "[MÉTODO ]padrão=capacidade:reposição,..." (ex.:
+     * {@code GET /api/v1/funcionarios/export=2:0.1,/api/v1/funcionarios/massa/**=5:0.5}).
+     */
+    public static List<Regra> regras(String especificacao) {
+        List<Regra> regras = new ArrayList<>();
+        for (String item : StringUtils.commaDelimitedListToStringArray(especificacao)) {
+            int igual = item.lastIndexOf('=');
+            if (igual < 0) {
+                throw new IllegalArgumentException("Regra deve ter a forma [MÉTODO ]padrão=capacidade:reposição: "
+                        + item);
+            }
+            String nome = item.substring(0, igual).trim();
+            int espaco = nome.indexOf(' ');
+            String metodo = espaco > 0 ? nome.substring(0, espaco) : null;
+            String padrao = espaco > 0 ? nome.substring(espaco + 1).trim() : nome;
+            regras.add(new Regra(nome, metodo, PathPatternParser.defaultInstance.parse(padrao),
+                    Limite.de(item.substring(igual + 1))));
+        }
+        return regras;
+    }
+
+    /**
+     * Tamanho da rajada e tokens repostos por segundo.
+     */
+    public record Limite(long capacidade, double reposicaoPorSegundo) {
+
+        public Limite {
+            if (capacidade < 1 || !(reposicaoPorSegundo > 0)) {
+                throw new IllegalArgumentException("Limite deve ter capacidade e reposição positivas");
+            }
+        }
+
+        /**
+         * Lê "capacidade:reposição" (ex.: {@code 60:30}).
+         */
+        public static Limite de(String especificacao) {
+            String[] partes = especificacao.trim().split(":");
+            if (partes.length != 2) {
+                throw new IllegalArgumentException("Limite deve ter a forma capacidade:reposição: " + especificacao);
+            }
+            return new Limite(Long.parseLong(partes[0].trim()), Double.parseDouble(partes[1].trim()));
+        }
+    }
+
+    /**
+     * Limite próprio de um endpoint; {@code metodo} nulo vale para todos.
+     */
+    public record Regra(String nome, String metodo, PathPattern padrao, Limite limite) {
+
+        boolean aplica(String metodoDaRequisicao, PathContainer caminho) {
+            return (metodo == null || metodo.equalsIgnoreCase(metodoDaRequisicao)) && padrao.matches(caminho);
+        }
+    }
+
+    public record Rejeicao(String regra, long esperaNanos) {
+    }
+
+    private record Chave(UUID pessoaId, int regra) {
+    }
+}
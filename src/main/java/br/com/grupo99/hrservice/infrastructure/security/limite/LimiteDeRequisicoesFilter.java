@@ -0,0 +1,102 @@
+package br.com.grupo99.hrservice.infrastructure.security.limite;
+
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite de requisições por usuário em /api/**, logo depois do
+ * JwtRequestFilter: lê o principal já publicado no contexto de segurança e
+ * responde 429 com Retry-After quando o balde do perfil ou de um endpoint
+ * esvazia. Requisições sem principal seguem (a autorização as barra).
+ */
+@Component
+@ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
+public class LimiteDeRequisicoesFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final LimitadorDeRequisicoes limitador;
+    private final MeterRegistry meterRegistry;
+
+    public LimiteDeRequisicoesFilter(MeterRegistry meterRegistry,
+            @Value("${limite.requisicoes.enabled:true}") boolean enabled,
+            @Value("${limite.requisicoes.padrao:60:30}") String padrao,
+            @Value("${limite.requisicoes.perfis:}") String perfis,
+            @Value("${limite.requisicoes.endpoints:}") String endpoints,
+            @Value("${limite.requisicoes.ociosidade:PT10M}") Duration ociosidade,
+            @Value("${limite.requisicoes.maximo-baldes:100000}") long maximoDeBaldes) {
+        this(meterRegistry, enabled, new LimitadorDeRequisicoes(LimitadorDeRequisicoes.Limite.de(padrao),
+                LimitadorDeRequisicoes.perfis(perfis), LimitadorDeRequisicoes.regras(endpoints), ociosidade,
+                maximoDeBaldes, System::nanoTime));
+    }
+
+    LimiteDeRequisicoesFilter(MeterRegistry meterRegistry, boolean enabled, LimitadorDeRequisicoes limitador) {
+        this.enabled = enabled;
+        this.limitador = limitador;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("hr.limite.baldes", limitador, LimitadorDeRequisicoes::getQuantidadeDeBaldes)
+                .description("Baldes de tokens em memória (usuário x regra)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !UrlPathHelper.defaultInstance.getPathWithinApplication(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtUserDetails userDetails)
+                || userDetails.getPessoaId() == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        LimitadorDeRequisicoes.Rejeicao rejeicao = limitador.consumir(userDetails.getPessoaId(),
+                userDetails.getPerfil(), request.getMethod(),
+                UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        if (rejeicao == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejeicoes(userDetails.getPerfil(), rejeicao.regra()).increment();
+        long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(rejeicao.esperaNanos() + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(segundos));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"Limite de requisições excedido. Tente novamente em "
+                + segundos + "s.\"}");
+    }
+
+    /**
+     * Rejeições por perfil e regra; as regras vêm da configuração, então a
+     * cardinalidade é fixa.
+     */
+    private Counter rejeicoes(String perfil, String regra) {
+        return Counter.builder("hr.limite.rejeicoes")
+                .description("Requisições barradas pelo limite de requisições")
+                .tag("perfil", perfil != null ? perfil : "desconhecido")
+                .tag("regra", regra)
+                .register(meterRegistry);
+    }
+}
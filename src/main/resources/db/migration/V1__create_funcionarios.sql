@@ -0,0 +1,14 @@
+-- Esquema existente antes do Flyway. Bancos já criados pelo Hibernate
+-- recebem baseline nesta versão (spring.flyway.baseline-on-migrate).
+CREATE TABLE IF NOT EXISTS funcionarios (
+    pessoa_id     UUID           NOT NULL PRIMARY KEY,
+    data_admissao DATE           NOT NULL,
+    setor         VARCHAR(100)   NOT NULL,
+    cargo         VARCHAR(100)   NOT NULL,
+    salario       NUMERIC(38, 2) NOT NULL,
+    ativo         BOOLEAN        NOT NULL,
+    created_at    TIMESTAMP(6)   NOT NULL,
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_pessoa_id ON funcionarios (pessoa_id);
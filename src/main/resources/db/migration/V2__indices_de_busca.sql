@@ -0,0 +1,17 @@
+-- Primeira migration que roda nos bancos com baseline na V1, com a tabela
+-- já populada: CONCURRENTLY não bloqueia escritas durante a criação. Todas
+-- as instruções são CONCURRENTLY para que o Flyway execute o script fora de
+-- transação (não mistura os dois tipos).
+
+-- idx_pessoa_id duplica a chave primária: só custava escrita.
+DROP INDEX CONCURRENTLY IF EXISTS idx_pessoa_id;
+
+-- Paginação por cursor de GET /funcionarios: (created_at, pessoa_id) > cursor
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_created_at_pessoa_id ON funcionarios (created_at, pessoa_id);
+
+-- A busca filtra ativo = true por padrão; os índices parciais ignoram os
+-- inativos e ficam menores.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_setor_cargo ON funcionarios (setor, cargo) WHERE ativo;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_cargo ON funcionarios (cargo) WHERE ativo;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_data_admissao ON funcionarios (data_admissao);
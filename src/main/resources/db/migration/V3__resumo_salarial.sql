@@ -0,0 +1,15 @@
+-- Resumo dos funcionários ativos por setor/cargo, mantido por deltas.
+CREATE TABLE IF NOT EXISTS resumo_salarial (
+    setor         VARCHAR(100)   NOT NULL,
+    cargo         VARCHAR(100)   NOT NULL,
+    quantidade    BIGINT         NOT NULL,
+    total_salario NUMERIC(38, 2) NOT NULL,
+    PRIMARY KEY (setor, cargo)
+);
+
+INSERT INTO resumo_salarial (setor, cargo, quantidade, total_salario)
+SELECT setor, cargo, COUNT(*), SUM(salario)
+FROM funcionarios
+WHERE ativo
+GROUP BY setor, cargo
+ON CONFLICT (setor, cargo) DO NOTHING;
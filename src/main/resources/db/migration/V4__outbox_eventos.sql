@@ -0,0 +1,12 @@
+-- Outbox transacional: eventos gravados junto com a escrita que os originou
+-- e removidos pelo relay depois de publicados.
+CREATE TABLE IF NOT EXISTS outbox_eventos (
+    id          UUID         NOT NULL PRIMARY KEY,
+    agregado_id UUID         NOT NULL,
+    tipo        VARCHAR(100) NOT NULL,
+    payload     TEXT         NOT NULL,
+    criado_em   TIMESTAMP(6) NOT NULL
+);
+
+-- Ordem de publicação do relay
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_criado_em_id ON outbox_eventos (criado_em, id);
@@ -0,0 +1,8 @@
+-- IDs dos eventos do People Service já aplicados (consumidor idempotente).
+CREATE TABLE IF NOT EXISTS eventos_processados (
+    evento_id     UUID         NOT NULL PRIMARY KEY,
+    processado_em TIMESTAMP(6) NOT NULL
+);
+
+-- Limpeza das marcas além da retenção
+CREATE INDEX IF NOT EXISTS idx_eventos_processados_processado_em ON eventos_processados (processado_em);
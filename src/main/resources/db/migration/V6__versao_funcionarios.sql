@@ -0,0 +1,3 @@
+-- Versão para ETags e controle de concorrência otimista (If-Match).
+-- Com DEFAULT constante o PostgreSQL não reescreve a tabela.
+ALTER TABLE funcionarios ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
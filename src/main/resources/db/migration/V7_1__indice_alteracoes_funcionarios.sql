@@ -0,0 +1,6 @@
+-- Feed de alterações (GET /funcionarios/alteracoes): (updated_at, pessoa_id)
+-- > cursor. A tabela já está populada: CONCURRENTLY não bloqueia escritas, e
+-- o script só tem instruções CONCURRENTLY para o Flyway executá-lo fora de
+-- transação.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_updated_at_pessoa_id
+    ON funcionarios (updated_at, pessoa_id);
@@ -0,0 +1,12 @@
+-- Feed de alterações (GET /funcionarios/alteracoes): linhas anteriores ao
+-- @PreUpdate podem ter updated_at nulo e ficariam fora do feed.
+UPDATE funcionarios SET updated_at = created_at WHERE updated_at IS NULL;
+
+-- Lápides dos funcionários removidos, mantidas pela retenção do feed.
+CREATE TABLE IF NOT EXISTS funcionarios_removidos (
+    pessoa_id   UUID         NOT NULL PRIMARY KEY,
+    removido_em TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_removidos_removido_em_pessoa_id
+    ON funcionarios_removidos (removido_em, pessoa_id);
@@ -0,0 +1,14 @@
+-- Índices do arquivamento sobre funcionarios, tabela já populada:
+-- CONCURRENTLY não bloqueia escritas durante a criação. Só instruções
+-- CONCURRENTLY, para que o Flyway execute o script fora de transação.
+
+-- Caminho só de ativos: listagem e busca por admissão filtram ativo com
+-- literal (não parâmetro), o que permite ao planner usar os índices parciais.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_ativos_created_at_pessoa_id
+    ON funcionarios (created_at, pessoa_id) WHERE ativo;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_ativos_data_admissao
+    ON funcionarios (data_admissao) WHERE ativo;
+
+-- Candidatos ao arquivamento: só os inativos, na ordem da desativação
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_funcionarios_inativos_updated_at
+    ON funcionarios (updated_at) WHERE NOT ativo;
@@ -0,0 +1,13 @@
+-- Funcionários inativos há muito tempo, movidos para fora da tabela quente.
+CREATE TABLE IF NOT EXISTS funcionarios_arquivo (
+    pessoa_id     UUID           NOT NULL PRIMARY KEY,
+    data_admissao DATE           NOT NULL,
+    setor         VARCHAR(100)   NOT NULL,
+    cargo         VARCHAR(100)   NOT NULL,
+    salario       NUMERIC(38, 2) NOT NULL,
+    ativo         BOOLEAN        NOT NULL,
+    created_at    TIMESTAMP(6)   NOT NULL,
+    updated_at    TIMESTAMP(6),
+    versao        BIGINT         NOT NULL,
+    arquivado_em  TIMESTAMP(6)   NOT NULL
+);
@@ -0,0 +1,28 @@
+-- Histórico de funcionários: uma versão por alteração, vigente em
+-- [valid_from, valid_to). A versão atual fica aberta até 9999-12-31.
+CREATE TABLE IF NOT EXISTS funcionarios_historico (
+    pessoa_id  UUID           NOT NULL,
+    valid_from TIMESTAMP(6)   NOT NULL,
+    valid_to   TIMESTAMP(6)   NOT NULL,
+    setor      VARCHAR(100)   NOT NULL,
+    cargo      VARCHAR(100)   NOT NULL,
+    salario    NUMERIC(38, 2) NOT NULL,
+    ativo      BOOLEAN        NOT NULL,
+    PRIMARY KEY (pessoa_id, valid_from)
+);
+
+-- Consultas "na data X" (quadro e folha): a busca por contenção no GiST lê
+-- só as versões vigentes em X, qualquer que seja o tamanho do histórico
+CREATE INDEX IF NOT EXISTS idx_funcionarios_historico_vigencia
+    ON funcionarios_historico USING gist (tsrange(valid_from, valid_to));
+
+-- Versão inicial com o estado atual; o que veio antes não foi guardado
+INSERT INTO funcionarios_historico (pessoa_id, valid_from, valid_to, setor, cargo, salario, ativo)
+SELECT pessoa_id, COALESCE(updated_at, created_at), TIMESTAMP '9999-12-31 00:00:00', setor, cargo, salario, ativo
+FROM funcionarios
+ON CONFLICT DO NOTHING;
+
+INSERT INTO funcionarios_historico (pessoa_id, valid_from, valid_to, setor, cargo, salario, ativo)
+SELECT pessoa_id, COALESCE(updated_at, created_at), TIMESTAMP '9999-12-31 00:00:00', setor, cargo, salario, ativo
+FROM funcionarios_arquivo
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,90 @@
+package br.com.grupo99.hrservice;
+
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede, com o profile startup-rapida, o tempo da chamada a run() até a
+ * primeira requisição autenticada respondida (execução startup do surefire,
+ * em JVM própria para pegar as classes frias). Falha se passar de
+ * {@code -Dstartup.limite}; o número absoluto depende da máquina, o que
+ * interessa é a regressão.
+ */
+@Tag("startup")
+@DisplayName("Tempo de subida no modo startup-rapida")
+class TempoDeSubidaTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TempoDeSubidaTest.class);
+    private static final Duration LIMITE = Duration.parse(System.getProperty("startup.limite", "PT20S"));
+
+    @Test
+    @DisplayName("Deve atender a primeira requisição dentro do limite")
+    void testTempoAtePrimeiraRequisicao() throws Exception {
+        AtomicReference<Duration> pronto = new AtomicReference<>();
+        long inicio = System.nanoTime();
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(HRServiceApplication.class)
+                .profiles("test", "startup-rapida")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:hr_subida_db")
+                .listeners((ApplicationListener<ApplicationEvent>) evento -> {
+                    if (evento instanceof ApplicationReadyEvent ready) {
+                        pronto.set(ready.getTimeTaken());
+                    }
+                })
+                .run()) {
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            String token = gerarToken(contexto.getBean(JwtUtil.class));
+            HttpResponse<Void> resposta;
+            try (HttpClient http = HttpClient.newHttpClient()) {
+                resposta = http.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + porta + "/api/v1/funcionarios?tamanho=1"))
+                        .header("Authorization", "Bearer " + token)
+                        .build(), HttpResponse.BodyHandlers.discarding());
+            }
+            Duration primeiraRequisicao = Duration.ofNanos(System.nanoTime() - inicio);
+
+            logger.info("Contexto pronto em {} ms; primeira requisição em {} ms (limite {} ms)",
+                    pronto.get().toMillis(), primeiraRequisicao.toMillis(), LIMITE.toMillis());
+
+            assertEquals(200, resposta.statusCode());
+            assertTrue(primeiraRequisicao.compareTo(LIMITE) <= 0,
+                    () -> "Primeira requisição em " + primeiraRequisicao.toMillis() + " ms, acima do limite de "
+                            + LIMITE.toMillis() + " ms");
+        }
+    }
+
+    private String gerarToken(JwtUtil jwtUtil) {
+        String pessoaId = UUID.randomUUID().toString();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", pessoaId);
+        claims.put("numeroDocumento", "12345678900");
+        claims.put("tipoPessoa", "FISICA");
+        claims.put("perfil", "ADMIN");
+        return jwtUtil.generateToken(claims,
+                JwtUserDetails.from("subida@oficina.com", pessoaId, "12345678900", "FISICA", null, "ADMIN"));
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioAlteracoesResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.grupo99.hrservice.application.dto.FuncionarioAlteracaoDTO.Tipo.ALTERADO;
+import static br.com.grupo99.hrservice.application.dto.FuncionarioAlteracaoDTO.Tipo.REMOVIDO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Feed de alterações contra o banco: réplica que sincroniza a partir de um
+ * cursor recebe só o que mudou, inclusive remoções, em páginas.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_alteracoes_db",
+        "funcionarios.alteracoes.margem=PT0S"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("Feed de alterações de funcionários")
+class FuncionarioAlteracoesIntegracaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Deve entregar desde o cursor só criações, alterações e remoções, em ordem e sem repetir")
+    void testSincronizarPorCursor() throws Exception {
+        // Arrange: réplica já sincronizada com o funcionário removido
+        UUID removido = UUID.randomUUID();
+        criar(removido);
+        String cursor = drenar(null).proximoCursor();
+
+        UUID alterado = UUID.randomUUID();
+        UUID criado = UUID.randomUUID();
+        criar(alterado);
+        criar(criado);
+        mockMvc.perform(put("/api/v1/funcionarios/{pessoaId}", alterado)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(alterado, "5200.00"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/funcionarios/{pessoaId}", removido))
+                .andExpect(status().isNoContent());
+
+        // Act
+        FuncionarioAlteracoesResponseDTO primeira = consultar(cursor, 2);
+        FuncionarioAlteracoesResponseDTO segunda = consultar(primeira.proximoCursor(), 2);
+        FuncionarioAlteracoesResponseDTO emDia = consultar(segunda.proximoCursor(), 2);
+
+        // Assert
+        assertTrue(primeira.temMais());
+        assertEquals(criado, primeira.alteracoes().get(0).pessoaId());
+        assertEquals(alterado, primeira.alteracoes().get(1).pessoaId());
+        assertEquals(ALTERADO, primeira.alteracoes().get(1).tipo());
+        assertEquals(0, new BigDecimal("5200.00").compareTo(primeira.alteracoes().get(1).funcionario().salario()));
+        assertFalse(segunda.temMais());
+        assertEquals(1, segunda.tamanho());
+        assertEquals(removido, segunda.alteracoes().get(0).pessoaId());
+        assertEquals(REMOVIDO, segunda.alteracoes().get(0).tipo());
+        assertTrue(emDia.alteracoes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve devolver 410 para cursor além da retenção das remoções")
+    void testCursorExpirado() throws Exception {
+        String valor = LocalDateTime.now().minusDays(90) + "|" + UUID.randomUUID();
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/v1/funcionarios/alteracoes").param("cursor", cursor))
+                .andExpect(status().isGone());
+    }
+
+    private FuncionarioAlteracoesResponseDTO drenar(String cursor) throws Exception {
+        List<FuncionarioAlteracoesResponseDTO> paginas = new ArrayList<>();
+        FuncionarioAlteracoesResponseDTO pagina;
+        do {
+            pagina = consultar(cursor, 1000);
+            cursor = pagina.proximoCursor();
+            paginas.add(pagina);
+        } while (pagina.temMais());
+        return paginas.get(paginas.size() - 1);
+    }
+
+    private FuncionarioAlteracoesResponseDTO consultar(String cursor, int tamanho) throws Exception {
+        var requisicao = get("/api/v1/funcionarios/alteracoes").param("tamanho", String.valueOf(tamanho));
+        if (cursor != null) {
+            requisicao.param("cursor", cursor);
+        }
+        String corpo = mockMvc.perform(requisicao)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(corpo, FuncionarioAlteracoesResponseDTO.class);
+    }
+
+    private void criar(UUID pessoaId) throws Exception {
+        mockMvc.perform(post("/api/v1/funcionarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, "4500.00"))))
+                .andExpect(status().isCreated());
+    }
+
+    private FuncionarioRequestDTO requisicao(UUID pessoaId, String salario) {
+        return new FuncionarioRequestDTO(pessoaId, LocalDate.now().minusMonths(6), "Oficina", "Mecânico",
+                new BigDecimal(salario));
+    }
+}
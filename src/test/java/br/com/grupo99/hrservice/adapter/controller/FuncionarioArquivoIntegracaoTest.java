@@ -0,0 +1,126 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.config.TestConfig;
+import br.com.grupo99.hrservice.infrastructure.scheduling.FuncionariosArquivamentoJob;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Arquivamento contra o H2, em lotes de 2: só inativos além da retenção saem
+ * da tabela quente e continuam legíveis pelo arquivo.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_arquivo_db",
+        "funcionarios.arquivamento.tamanho-lote=2",
+        "funcionarios.arquivamento.inativo-ha=P365D"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("Arquivamento de funcionários inativos")
+class FuncionarioArquivoIntegracaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FuncionariosArquivamentoJob funcionariosArquivamentoJob;
+
+    @Test
+    @DisplayName("Deve arquivar em lotes só os inativos antigos e mantê-los legíveis pelo arquivo")
+    void testArquivar() throws Exception {
+        // Arrange
+        LocalDateTime antigo = LocalDateTime.now().minusYears(2);
+        UUID[] inativosAntigos = { UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID() };
+        for (UUID id : inativosAntigos) {
+            inserir(id, false, antigo);
+        }
+        UUID ativoAntigo = UUID.randomUUID();
+        inserir(ativoAntigo, true, antigo);
+        UUID inativoRecente = UUID.randomUUID();
+        inserir(inativoRecente, false, LocalDateTime.now().minusDays(10));
+
+        // Act: 3 elegíveis em lotes de 2, numa única execução
+        funcionariosArquivamentoJob.arquivar();
+
+        // Assert
+        for (UUID id : inativosAntigos) {
+            assertEquals(0, contar("funcionarios", id));
+            assertEquals(1, contar("funcionarios_arquivo", id));
+            mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", id))
+                    .andExpect(status().isNotFound());
+        }
+        assertEquals(1, contar("funcionarios", ativoAntigo));
+        assertEquals(1, contar("funcionarios", inativoRecente));
+        assertEquals(0, contar("funcionarios_arquivo", inativoRecente));
+
+        mockMvc.perform(get("/api/v1/funcionarios/arquivo/{pessoaId}", inativosAntigos[0]))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoaId").value(inativosAntigos[0].toString()))
+                .andExpect(jsonPath("$.ativo").value(false))
+                .andExpect(jsonPath("$.arquivadoEm").exists());
+        mockMvc.perform(get("/api/v1/funcionarios/arquivo/{pessoaId}", ativoAntigo))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve listar o arquivo por cursor")
+    void testListar() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            inserir(UUID.randomUUID(), false, LocalDateTime.now().minusYears(3));
+        }
+        funcionariosArquivamentoJob.arquivar();
+        long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM funcionarios_arquivo", Long.class);
+
+        // Act & Assert
+        String cursor = null;
+        long lidos = 0;
+        do {
+            String corpo = mockMvc.perform(get("/api/v1/funcionarios/arquivo")
+                    .param("tamanho", "2")
+                    .param("cursor", cursor != null ? cursor : ""))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            DocumentContext json = JsonPath.parse(corpo);
+            lidos += json.read("$.tamanho", Integer.class);
+            cursor = json.read("$.proximoCursor");
+        } while (cursor != null);
+        assertEquals(total, lidos);
+        assertTrue(total >= 3);
+    }
+
+    private long contar(String tabela, UUID id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabela + " WHERE pessoa_id = ?", Long.class, id);
+    }
+
+    private void inserir(UUID id, boolean ativo, LocalDateTime atualizadoEm) {
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                VALUES (?, CURRENT_DATE, 'Oficina', 'Mecânico', 4500, ?, ?, ?)
+                """, id, ativo, Timestamp.valueOf(atualizadoEm), Timestamp.valueOf(atualizadoEm));
+    }
+}
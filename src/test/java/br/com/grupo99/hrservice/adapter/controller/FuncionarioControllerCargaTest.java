@@ -0,0 +1,165 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.HRServiceApplication;
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara throughput e p99 do FuncionarioController com o pool de threads do
+ * Tomcat e com virtual threads (execução carga do surefire:
+ * {@code mvn test -Dcarga.skip=false}). Sobe a aplicação duas vezes em porta
+ * aleatória, com H2 e um pool do Hikari pequeno, para que o acesso ao banco
+ * seja o gargalo; os filtros JWT participam de todas as requisições.
+ */
+@Tag("carga")
+@DisplayName("FuncionarioController - carga com e sem virtual threads")
+class FuncionarioControllerCargaTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuncionarioControllerCargaTest.class);
+    private static final int FUNCIONARIOS = 10_000;
+    private static final int CLIENTES = 400;
+    private static final int REQUISICOES_POR_CLIENTE = 50;
+
+    @Test
+    @DisplayName("Deve atender a mesma carga nos dois modos e reportar throughput e p99")
+    void testCompararModos() throws Exception {
+        Resultado plataforma = medir(false);
+        Resultado virtuais = medir(true);
+
+        logger.info("Modo       | req/s    | p50 (ms) | p99 (ms) | erros");
+        logger.info("plataforma | {}", plataforma);
+        logger.info("virtual    | {}", virtuais);
+
+        assertEquals(0, plataforma.erros());
+        assertEquals(0, virtuais.erros());
+    }
+
+    private Resultado medir(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(HRServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:carga_" + virtualThreads,
+                        "spring.datasource.hikari.maximum-pool-size=8",
+                        "datasource.limitador.espera-maxima=30s",
+                        "limite.requisicoes.enabled=false")
+                .run()) {
+            popular(contexto.getBean(JdbcTemplate.class));
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            String token = gerarToken(contexto.getBean(JwtUtil.class));
+            List<URI> alvos = List.of(
+                    URI.create("http://localhost:" + porta + "/api/v1/funcionarios?tamanho=20"),
+                    URI.create("http://localhost:" + porta
+                            + "/api/v1/funcionarios/search?setor=Setor%207&ordenarPor=salario&tamanho=20"));
+            aquecer(alvos, token);
+            return disparar(alvos, token);
+        }
+    }
+
+    private Resultado disparar(List<URI> alvos, String token) throws Exception {
+        long[] latencias = new long[CLIENTES * REQUISICOES_POR_CLIENTE];
+        AtomicInteger proxima = new AtomicInteger();
+        AtomicInteger erros = new AtomicInteger();
+        try (ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient http = HttpClient.newBuilder().executor(clientes).build()) {
+            long inicio = System.nanoTime();
+            Future<?>[] tarefas = new Future<?>[CLIENTES];
+            for (int c = 0; c < CLIENTES; c++) {
+                int cliente = c;
+                tarefas[c] = clientes.submit(() -> {
+                    for (int i = 0; i < REQUISICOES_POR_CLIENTE; i++) {
+                        HttpRequest requisicao = HttpRequest.newBuilder(alvos.get((cliente + i) % alvos.size()))
+                                .header("Authorization", "Bearer " + token)
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        long antes = System.nanoTime();
+                        HttpResponse<Void> resposta = http.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                        latencias[proxima.getAndIncrement()] = System.nanoTime() - antes;
+                        if (resposta.statusCode() != 200) {
+                            erros.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+            long duracao = System.nanoTime() - inicio;
+            Arrays.sort(latencias);
+            return new Resultado(latencias.length * 1e9 / duracao, percentil(latencias, 0.50),
+                    percentil(latencias, 0.99), erros.get());
+        }
+    }
+
+    private void aquecer(List<URI> alvos, String token) throws Exception {
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            for (int i = 0; i < 200; i++) {
+                http.send(HttpRequest.newBuilder(alvos.get(i % alvos.size()))
+                        .header("Authorization", "Bearer " + token).build(),
+                        HttpResponse.BodyHandlers.discarding());
+            }
+        }
+    }
+
+    private void popular(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                SELECT RANDOM_UUID(), DATEADD('DAY', -MOD(X, 3650), CURRENT_DATE),
+                       'Setor ' || MOD(X, 20), 'Cargo ' || MOD(X, 50), 1500 + MOD(X, 9000),
+                       TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, FUNCIONARIOS);
+    }
+
+    private String gerarToken(JwtUtil jwtUtil) {
+        String pessoaId = UUID.randomUUID().toString();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", pessoaId);
+        claims.put("numeroDocumento", "12345678900");
+        claims.put("tipoPessoa", "FISICA");
+        claims.put("perfil", "ADMIN");
+        return jwtUtil.generateToken(claims,
+                JwtUserDetails.from("carga@oficina.com", pessoaId, "12345678900", "FISICA", null, "ADMIN"));
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, indice)] / 1e6;
+    }
+
+    private record Resultado(double throughput, double p50, double p99, int erros) {
+        @Override
+        public String toString() {
+            return String.format("%8.0f | %8.1f | %8.1f | %d", throughput, p50, p99, erros);
+        }
+    }
+}
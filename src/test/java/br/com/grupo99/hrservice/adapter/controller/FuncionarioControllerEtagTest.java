@@ -0,0 +1,92 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ETags, GET condicional e escritas com If-Match contra o banco.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("FuncionarioController - ETags e requisições condicionais")
+class FuncionarioControllerEtagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Deve versionar o ETag a cada escrita e recusar If-Match desatualizado")
+    void testCicloDeVersoes() throws Exception {
+        UUID pessoaId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/funcionarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, "4500.00"))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, "5000.00"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.versao").value(1));
+
+        // Cliente que ainda tem a versão 0 não sobrescreve a alteração
+        mockMvc.perform(put("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, "4800.00"))))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/v1/funcionarios/{pessoaId}/desativar", pessoaId)
+                .header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/v1/funcionarios/{pessoaId}/desativar", pessoaId)
+                .header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.ativo").value(false));
+
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.salario").value(5000.00));
+    }
+
+    private FuncionarioRequestDTO requisicao(UUID pessoaId, String salario) {
+        return new FuncionarioRequestDTO(pessoaId, LocalDate.now().minusMonths(6), "Oficina", "Mecânico",
+                new BigDecimal(salario));
+    }
+}
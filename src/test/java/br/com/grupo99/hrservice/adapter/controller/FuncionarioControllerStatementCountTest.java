@@ -0,0 +1,274 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.adapter.repository.ContadorDeStatements;
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Fixa a quantidade de instruções SQL que cada endpoint emite no H2. Uma
+ * leitura extra antes de uma escrita (ou um N+1) quebra estes testes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.grupo99.hrservice.adapter.repository.ContadorDeStatements"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("FuncionarioController - quantidade de instruções SQL")
+class FuncionarioControllerStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID pessoaId;
+
+    @BeforeEach
+    void setup() {
+        pessoaId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("POST cria com verificação de duplicidade, INSERT, versão, delta do resumo e evento no outbox")
+    void testCriar() throws Exception {
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(post("/api/v1/funcionarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(novaRequisicao(pessoaId))))
+                .andExpect(status().isCreated());
+
+        // Com @Version nulo o save() faz persist, sem o SELECT do merge nem
+        // versão anterior a fechar
+        assertStatements(5);
+    }
+
+    @Test
+    @DisplayName("POST /batch consulta existentes uma vez, insere funcionários, versões e eventos e aplica os deltas")
+    void testCriarEmLote() throws Exception {
+        List<FuncionarioRequestDTO> lote = List.of(
+                novaRequisicao(UUID.randomUUID()),
+                novaRequisicao(UUID.randomUUID()),
+                novaRequisicao(UUID.randomUUID()));
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(post("/api/v1/funcionarios/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados").value(3));
+
+        assertStatements(5);
+    }
+
+    @Test
+    @DisplayName("GET lista uma página com um SELECT")
+    void testListar() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(get("/api/v1/funcionarios").param("tamanho", "10"))
+                .andExpect(status().isOk());
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("GET /search busca com um SELECT")
+    void testBuscar() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(get("/api/v1/funcionarios/search")
+                .param("setor", "Oficina")
+                .param("cargo", "Mecânico")
+                .param("ordenarPor", "salario"))
+                .andExpect(status().isOk());
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("GET /export lê a tabela com um SELECT")
+    void testExportar() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        MvcResult resultado = mockMvc.perform(get("/api/v1/funcionarios/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk());
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("GET /alteracoes lê funcionários e lápides com um SELECT cada")
+    void testListarAlteracoes() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(get("/api/v1/funcionarios/alteracoes").param("tamanho", "10"))
+                .andExpect(status().isOk());
+
+        assertStatements(2);
+    }
+
+    @Test
+    @DisplayName("GET por ID consulta o banco só no primeiro acesso")
+    void testBuscarPorId() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId))
+                .andExpect(status().isOk());
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("GET condicional fora do cache responde 304 lendo só a versão")
+    void testBuscarPorIdNaoModificado() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("PUT lê o registro, emite um UPDATE e troca a versão; sem mudança salarial, sem delta")
+    void testAtualizar() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(put("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(novaRequisicao(pessoaId))))
+                .andExpect(status().isOk());
+
+        assertStatements(4);
+    }
+
+    @Test
+    @DisplayName("DELETE remove a linha, grava a lápide, fecha a versão e aplica o delta do resumo")
+    void testDeletar() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(delete("/api/v1/funcionarios/{pessoaId}", pessoaId))
+                .andExpect(status().isNoContent());
+
+        // DELETE com OLD TABLE (sem leitura prévia), lápide, versão e delta; no
+        // PostgreSQL um único WITH ... DELETE ... RETURNING faz as três primeiras
+        assertStatements(4);
+    }
+
+    @Test
+    @DisplayName("DELETE de inexistente devolve 404 com uma única instrução")
+    void testDeletarInexistente() throws Exception {
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(delete("/api/v1/funcionarios/{pessoaId}", pessoaId))
+                .andExpect(status().isNotFound());
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("PATCH desativar emite UPDATE condicional, troca a versão, lê a linha alterada e aplica o delta")
+    void testDesativar() throws Exception {
+        inserir(pessoaId, true);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(patch("/api/v1/funcionarios/{pessoaId}/desativar", pessoaId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ativo").value(false));
+
+        // No PostgreSQL um único WITH ... UPDATE ... RETURNING faz as quatro primeiras
+        assertStatements(5);
+    }
+
+    @Test
+    @DisplayName("PATCH desativar de já inativo não emite UPDATE efetivo")
+    void testDesativarJaInativo() throws Exception {
+        inserir(pessoaId, false);
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(patch("/api/v1/funcionarios/{pessoaId}/desativar", pessoaId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ativo").value(false));
+
+        assertStatements(2);
+    }
+
+    @Test
+    @DisplayName("PATCH desativar de inexistente devolve 404")
+    void testDesativarInexistente() throws Exception {
+        ContadorDeStatements.zerar();
+
+        mockMvc.perform(patch("/api/v1/funcionarios/{pessoaId}/desativar", pessoaId))
+                .andExpect(status().isNotFound());
+
+        assertStatements(2);
+    }
+
+    private void assertStatements(int esperado) {
+        assertEquals(esperado, ContadorDeStatements.total(),
+                () -> "Instruções emitidas: " + ContadorDeStatements.statements());
+    }
+
+    private FuncionarioRequestDTO novaRequisicao(UUID id) {
+        return new FuncionarioRequestDTO(
+                id,
+                LocalDate.now().minusMonths(6),
+                "Oficina",
+                "Mecânico",
+                new BigDecimal("4500.00"));
+    }
+
+    private void inserir(UUID id, boolean ativo) {
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                VALUES (?, CURRENT_DATE, 'Oficina', 'Mecânico', 4500, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, id, ativo);
+    }
+}
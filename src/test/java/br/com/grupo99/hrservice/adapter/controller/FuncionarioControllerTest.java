@@ -1,30 +1,44 @@
 package br.com.grupo99.hrservice.adapter.controller;
 
+import br.com.grupo99.hrservice.application.dto.FuncionarioBuscaResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioPageResponseDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
 import br.com.grupo99.hrservice.application.service.FuncionarioApplicationService;
 import br.com.grupo99.hrservice.config.TestConfig;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioFiltro;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,6 +59,9 @@ class FuncionarioControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Value("${spring.mvc.async.request-timeout}")
+    private Duration timeoutAssincrono;
+
     private UUID pessoaId = UUID.randomUUID();
 
     @Test
@@ -67,7 +84,8 @@ class FuncionarioControllerTest {
                 new BigDecimal("5000.00"),
                 true,
                 LocalDateTime.now(),
-                LocalDateTime.now());
+                LocalDateTime.now(),
+                0L);
 
         when(funcionarioApplicationService.criarFuncionario(any())).thenReturn(response);
 
@@ -85,13 +103,141 @@ class FuncionarioControllerTest {
     @WithMockUser(username = "test", roles = "ADMIN")
     void testListarTodos() throws Exception {
         // Arrange
-        when(funcionarioApplicationService.listarTodos()).thenReturn(new ArrayList<>());
+        when(funcionarioApplicationService.listarTodos(any(), any(), any()))
+                .thenReturn(new FuncionarioPageResponseDTO(new ArrayList<>(), 0, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/funcionarios"))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/funcionarios - Deve repassar filtros e cursor")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testListarComFiltrosECursor() throws Exception {
+        // Arrange
+        when(funcionarioApplicationService.listarTodos(
+                eq(new FuncionarioFiltro("Oficina", "Mecânico", true)), eq("abc"), eq(20)))
+                .thenReturn(new FuncionarioPageResponseDTO(new ArrayList<>(), 0, "def"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/funcionarios")
+                .param("setor", "Oficina")
+                .param("cargo", "Mecânico")
+                .param("ativo", "true")
+                .param("cursor", "abc")
+                .param("tamanho", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.proximoCursor").value("def"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/funcionarios/search - Deve repassar critérios e ordenação")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testBuscarComCriterios() throws Exception {
+        // Arrange
+        FuncionarioBusca busca = new FuncionarioBusca("Oficina", "Mecânico", true,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31),
+                FuncionarioBusca.Ordenacao.SALARIO, true);
+        when(funcionarioApplicationService.buscar(eq(busca), eq(1), eq(20)))
+                .thenReturn(new FuncionarioBuscaResponseDTO(new ArrayList<>(), 1, 0, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/funcionarios/search")
+                .param("setor", "Oficina")
+                .param("cargo", "Mecânico")
+                .param("admitidoDe", "2024-01-01")
+                .param("admitidoAte", "2024-12-31")
+                .param("ordenarPor", "salario")
+                .param("direcao", "desc")
+                .param("pagina", "1")
+                .param("tamanho", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pagina").value(1))
+                .andExpect(jsonPath("$.temProxima").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/funcionarios/search - Deve rejeitar campo de ordenação desconhecido")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testBuscarOrdenacaoInvalida() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/funcionarios/search").param("ordenarPor", "senha"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/funcionarios/export - Deve exportar em NDJSON")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testExportarNdjson() throws Exception {
+        // Arrange
+        FuncionarioResponseDTO response = new FuncionarioResponseDTO(
+                pessoaId,
+                LocalDate.now().minusMonths(12),
+                "TI",
+                "Desenvolvedor",
+                new BigDecimal("5000.00"),
+                true,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                0L);
+
+        doAnswer(invocation -> {
+            Consumer<FuncionarioResponseDTO> consumidor = invocation.getArgument(0);
+            consumidor.accept(response);
+            consumidor.accept(response);
+            return 2L;
+        }).when(funcionarioApplicationService).exportar(any());
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/funcionarios/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        assertEquals(timeoutAssincrono.toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+        String[] linhas = body.split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals(pessoaId.toString(), objectMapper.readTree(linhas[1]).get("pessoaId").asText());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/funcionarios/export - Deve comprimir só quando gzip tem q > 0")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testExportarNegociaGzip() throws Exception {
+        // Arrange
+        when(funcionarioApplicationService.exportar(any())).thenReturn(0L);
+
+        // Act & Assert
+        for (String aceita : new String[] {"gzip", "deflate, gzip;q=0.5", "br;q=1.0, *;q=0.1", "X-GZIP"}) {
+            MvcResult result = mockMvc.perform(get("/api/v1/funcionarios/export")
+                    .header(HttpHeaders.ACCEPT_ENCODING, aceita))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+        }
+        for (String recusa : new String[] {"gzip;q=0", "deflate, gzip; q=0.000", "*;q=1, gzip;q=0", "br",
+                "*;q=0", "gzip;q=abc"}) {
+            MvcResult result = mockMvc.perform(get("/api/v1/funcionarios/export")
+                    .header(HttpHeaders.ACCEPT_ENCODING, recusa))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+        }
+    }
+
     @Test
     @DisplayName("GET /api/v1/funcionarios/{pessoaId} - Deve buscar funcionário")
     @WithMockUser(username = "test", roles = "ADMIN")
@@ -105,7 +251,8 @@ class FuncionarioControllerTest {
                 new BigDecimal("5000.00"),
                 true,
                 LocalDateTime.now(),
-                LocalDateTime.now());
+                LocalDateTime.now(),
+                0L);
 
         when(funcionarioApplicationService.buscarPorId(pessoaId)).thenReturn(response);
 
@@ -115,6 +262,43 @@ class FuncionarioControllerTest {
                 .andExpect(jsonPath("$.setor").value("TI"));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/funcionarios/{pessoaId} - Deve responder 304 sem montar o funcionário")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testBuscarFuncionarioNaoModificado() throws Exception {
+        // Arrange
+        when(funcionarioApplicationService.buscarVersao(pessoaId)).thenReturn(Optional.of(3L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\", W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+        verify(funcionarioApplicationService, never()).buscarPorId(any());
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/funcionarios/{pessoaId} - Deve recusar If-Match fraco com 412")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testAtualizarComIfMatchFraco() throws Exception {
+        // Arrange
+        FuncionarioRequestDTO request = new FuncionarioRequestDTO(
+                pessoaId,
+                LocalDate.now().minusMonths(12),
+                "TI",
+                "Desenvolvedor",
+                new BigDecimal("5000.00"));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        verify(funcionarioApplicationService, never()).atualizarFuncionario(any(), any(), any());
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/funcionarios/{pessoaId} - Deve deletar funcionário")
     @WithMockUser(username = "test", roles = "ADMIN")
@@ -137,9 +321,10 @@ class FuncionarioControllerTest {
                 new BigDecimal("5000.00"),
                 false,
                 LocalDateTime.now(),
-                LocalDateTime.now());
+                LocalDateTime.now(),
+                0L);
 
-        when(funcionarioApplicationService.desativarFuncionario(pessoaId)).thenReturn(response);
+        when(funcionarioApplicationService.desativarFuncionario(pessoaId, null)).thenReturn(response);
 
         // Act & Assert
         mockMvc.perform(patch("/api/v1/funcionarios/{pessoaId}/desativar", pessoaId))
@@ -0,0 +1,119 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exporta 1M de funcionários com heap de 160 MB (execução export-memory do
+ * surefire). Materializar o roster inteiro não caberia nesse heap. A
+ * requisição passa pelo despacho assíncrono do MockMvc; um filtro troca a
+ * saída da resposta por um contador, já que a MockHttpServletResponse
+ * guardaria o corpo inteiro em memória.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/h2/export-memory;LAZY_QUERY_EXECUTION=TRUE",
+        "security.disabled=true"
+})
+@ActiveProfiles("test")
+@Tag("export-memory")
+@DisplayName("Exportação NDJSON com memória constante")
+class FuncionarioExportMemoryTest {
+
+    private static final int TOTAL = 1_000_000;
+    private static final int LOTE = 100_000;
+
+    @Autowired
+    private WebApplicationContext contexto;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve exportar 1M de linhas sem estourar o heap")
+    void testExportaUmMilhaoDeLinhas() throws Exception {
+        // Arrange
+        for (int inicio = 1; inicio <= TOTAL; inicio += LOTE) {
+            jdbcTemplate.update("""
+                    INSERT INTO funcionarios
+                        (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                    SELECT RANDOM_UUID(), DATEADD('DAY', -MOD(X, 3650), CURRENT_DATE),
+                           'Setor ' || MOD(X, 20), 'Cargo ' || MOD(X, 50), 1500 + MOD(X, 9000),
+                           TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                    FROM SYSTEM_RANGE(?, ?)
+                    """, inicio, inicio + LOTE - 1);
+        }
+        ContadorDeLinhas saida = new ContadorDeLinhas();
+        Filter contarSaida = (request, response, chain) -> chain.doFilter(request,
+                new HttpServletResponseWrapper((HttpServletResponse) response) {
+                    @Override
+                    public ServletOutputStream getOutputStream() {
+                        return saida;
+                    }
+                });
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(contexto).addFilters(contarSaida).build();
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/api/v1/funcionarios/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertEquals(TOTAL, saida.linhas);
+        assertTrue(saida.bytes > TOTAL * 100L);
+    }
+
+    private static final class ContadorDeLinhas extends ServletOutputStream {
+        private long linhas;
+        private long bytes;
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                linhas++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    linhas++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Histórico de funcionários contra o H2: cada escrita fecha a versão vigente
+ * e abre outra, e as consultas "na data" enxergam o estado da época.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_historico_db"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("Histórico de funcionários")
+class FuncionarioHistoricoIntegracaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Deve manter a linha do tempo e responder quadro e resumo em uma data passada")
+    void testHistorico() throws Exception {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        String setor = "Historico " + pessoaId;
+        mockMvc.perform(post("/api/v1/funcionarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, setor, "4500.00"))))
+                .andExpect(status().isCreated());
+        Thread.sleep(5);
+        LocalDateTime antesDoAumento = LocalDateTime.now();
+        Thread.sleep(5);
+
+        // Act
+        mockMvc.perform(put("/api/v1/funcionarios/{pessoaId}", pessoaId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, setor, "5200.00"))))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}/historico", pessoaId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].salario").value(4500.00))
+                .andExpect(jsonPath("$[0].validoAte").exists())
+                .andExpect(jsonPath("$[1].salario").value(5200.00))
+                .andExpect(jsonPath("$[1].validoAte").value(nullValue()));
+
+        mockMvc.perform(get("/api/v1/funcionarios/historico")
+                .param("em", antesDoAumento.toString())
+                .param("ativo", "true")
+                .param("tamanho", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + pessoaId + "')].salario").value(4500.00));
+
+        mockMvc.perform(get("/api/v1/resumo-salarial")
+                .param("agruparPor", "setor")
+                .param("em", antesDoAumento.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.setor == '" + setor + "')].totalSalario").value(4500.00));
+        mockMvc.perform(get("/api/v1/resumo-salarial")
+                .param("agruparPor", "setor")
+                .param("em", LocalDateTime.now().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.setor == '" + setor + "')].totalSalario").value(5200.00));
+    }
+
+    @Test
+    @DisplayName("Deve versionar o funcionário atualizado por upsert em lote")
+    void testUpsertEmLote() throws Exception {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        String setor = "Lote " + pessoaId;
+        mockMvc.perform(post("/api/v1/funcionarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, setor, "4500.00"))))
+                .andExpect(status().isCreated());
+        Thread.sleep(5);
+        LocalDateTime antesDoUpsert = LocalDateTime.now();
+        Thread.sleep(5);
+
+        // Act
+        mockMvc.perform(post("/api/v1/funcionarios/batch")
+                .param("upsert", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(requisicao(pessoaId, setor, "5200.00")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.atualizados").value(1));
+
+        // Assert
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}/historico", pessoaId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].salario").value(4500.00))
+                .andExpect(jsonPath("$[0].validoAte").exists())
+                .andExpect(jsonPath("$[1].salario").value(5200.00))
+                .andExpect(jsonPath("$[1].validoAte").value(nullValue()));
+        mockMvc.perform(get("/api/v1/funcionarios/historico")
+                .param("em", antesDoUpsert.toString())
+                .param("tamanho", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + pessoaId + "')].salario").value(4500.00));
+        mockMvc.perform(get("/api/v1/funcionarios/historico")
+                .param("em", LocalDateTime.now().toString())
+                .param("tamanho", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + pessoaId + "')].salario").value(5200.00));
+    }
+
+    @Test
+    @DisplayName("Deve fechar a versão vigente ao remover e manter o histórico")
+    void testRemover() throws Exception {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/funcionarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requisicao(pessoaId, "Oficina", "4500.00"))))
+                .andExpect(status().isCreated());
+        Thread.sleep(5);
+
+        // Act
+        mockMvc.perform(delete("/api/v1/funcionarios/{pessoaId}", pessoaId))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}/historico", pessoaId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].validoAte").exists());
+        mockMvc.perform(get("/api/v1/funcionarios/historico")
+                .param("em", LocalDateTime.now().toString())
+                .param("tamanho", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + pessoaId + "')]").isEmpty());
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}/historico", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private FuncionarioRequestDTO requisicao(UUID id, String setor, String salario) {
+        return new FuncionarioRequestDTO(id, LocalDate.now().minusMonths(6), setor, "Mecânico",
+                new BigDecimal(salario));
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.adapter.repository.ContadorDeStatements;
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * POST /funcionarios/batch de ponta a ponta contra o H2: o lote no limite de
+ * 10 mil itens sai em batches JDBC de 100 (um statement preparado por batch,
+ * não por linha) e um item a mais é recusado antes de tocar no banco.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_lote_db",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.grupo99.hrservice.adapter.repository.ContadorDeStatements"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("Criação de funcionários em lote")
+class FuncionarioLoteIntegracaoTest {
+
+    private static final int LIMITE = 10_000;
+    private static final int BATCH_JDBC = 100;
+
+    private static final Pattern INSERT_FUNCIONARIOS = insertEm("funcionarios\\s*\\(");
+    private static final Pattern INSERT_HISTORICO = insertEm("funcionarios_historico\\b");
+    private static final Pattern INSERT_OUTBOX = insertEm("outbox_eventos\\b");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve criar 10 mil funcionários com um INSERT preparado por batch JDBC")
+    void testLoteNoLimiteUsaBatchJdbc() throws Exception {
+        // Arrange
+        String setor = "Setor " + UUID.randomUUID();
+        String corpo = objectMapper.writeValueAsString(lote(LIMITE, setor));
+        ContadorDeStatements.zerar();
+
+        // Act
+        mockMvc.perform(post("/api/v1/funcionarios/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados").value(LIMITE));
+
+        // Assert: sem batch seriam 10 mil INSERTs de funcionários e 10 mil do outbox
+        List<String> statements = ContadorDeStatements.statements();
+        assertEquals(LIMITE / BATCH_JDBC, contar(statements, INSERT_FUNCIONARIOS), statements::toString);
+        assertTrue(contar(statements, INSERT_HISTORICO) <= LIMITE / BATCH_JDBC, statements::toString);
+        assertTrue(contar(statements, INSERT_OUTBOX) <= LIMITE / BATCH_JDBC, statements::toString);
+        assertEquals(LIMITE, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios WHERE setor = ?", Integer.class, setor));
+        assertEquals(LIMITE, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM funcionarios_historico h
+                WHERE h.pessoa_id IN (SELECT pessoa_id FROM funcionarios WHERE setor = ?)
+                """, Integer.class, setor));
+        assertEquals(LIMITE, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM outbox_eventos e
+                WHERE e.agregado_id IN (SELECT pessoa_id FROM funcionarios WHERE setor = ?)
+                """, Integer.class, setor));
+    }
+
+    @Test
+    @DisplayName("Deve recusar lote acima de 10 mil itens com 400 sem acessar o banco")
+    void testLoteAcimaDoLimiteRecusado() throws Exception {
+        // Arrange
+        String setor = "Setor " + UUID.randomUUID();
+        String corpo = objectMapper.writeValueAsString(lote(LIMITE + 1, setor));
+        ContadorDeStatements.zerar();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/funcionarios/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(corpo))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Lote excede o limite de " + LIMITE + " funcionários"));
+
+        assertEquals(0, ContadorDeStatements.total(), () -> ContadorDeStatements.statements().toString());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios WHERE setor = ?", Integer.class, setor));
+    }
+
+    private List<FuncionarioRequestDTO> lote(int tamanho, String setor) {
+        List<FuncionarioRequestDTO> lote = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            lote.add(new FuncionarioRequestDTO(
+                    UUID.randomUUID(),
+                    LocalDate.now().minusMonths(6),
+                    setor,
+                    "Mecânico",
+                    new BigDecimal("4500.00")));
+        }
+        return lote;
+    }
+
+    private static Pattern insertEm(String tabela) {
+        return Pattern.compile("(?is)^\\s*insert\\s+into\\s+" + tabela);
+    }
+
+    private long contar(List<String> statements, Pattern padrao) {
+        return statements.stream().filter(sql -> padrao.matcher(sql).find()).count();
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService;
+import br.com.grupo99.hrservice.config.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Operações em massa contra o H2, em lotes de 2: valores gravados, resumo
+ * salarial sem divergência e um evento no outbox por funcionário alterado.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_massa_db",
+        "funcionarios.massa.tamanho-lote=2"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("Operações em massa sobre funcionários")
+class FuncionarioMassaIntegracaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResumoSalarialApplicationService resumoSalarialApplicationService;
+
+    @Test
+    @DisplayName("Deve reajustar, transferir e desativar um setor em lotes mantendo o resumo")
+    void testReajustarTransferirDesativar() throws Exception {
+        // Arrange
+        String origem = "Setor " + UUID.randomUUID();
+        String destino = "Setor " + UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            inserir(origem, "1234.57", true);
+        }
+        inserir(origem, "2000.00", false);
+        resumoSalarialApplicationService.reconciliar();
+        long eventosAntes = contarEventos();
+
+        // Act & Assert: 5 ativos em lotes de 2
+        mockMvc.perform(post("/api/v1/funcionarios/massa/reajuste")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"setor\":\"" + origem + "\",\"percentual\":5}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.afetados").value(5))
+                .andExpect(jsonPath("$.lotes").value(3));
+        BigDecimal total = jdbcTemplate.queryForObject(
+                "SELECT SUM(salario) FROM funcionarios WHERE setor = ? AND ativo", BigDecimal.class, origem);
+        assertEquals(0, new BigDecimal("6481.50").compareTo(total));
+
+        // Inativos também mudam de setor
+        mockMvc.perform(post("/api/v1/funcionarios/massa/transferencia")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"setorOrigem\":\"" + origem + "\",\"setorDestino\":\"" + destino + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.afetados").value(6));
+
+        mockMvc.perform(post("/api/v1/funcionarios/massa/desativacao")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"setor\":\"" + destino + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.afetados").value(5));
+
+        assertEquals(0, resumoSalarialApplicationService.reconciliar());
+        assertEquals(eventosAntes + 16, contarEventos());
+        // Os ativos passaram pelas três operações
+        assertEquals(5, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios WHERE setor = ? AND NOT ativo AND versao = 3", Long.class,
+                destino));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar reajuste sem percentual")
+    void testReajusteInvalido() throws Exception {
+        mockMvc.perform(post("/api/v1/funcionarios/massa/reajuste")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"setor\":\"Oficina\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long contarEventos() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_eventos", Long.class);
+    }
+
+    private void inserir(String setor, String salario, boolean ativo) {
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                VALUES (?, CURRENT_DATE, ?, 'Mecânico', ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, UUID.randomUUID(), setor, new BigDecimal(salario), ativo);
+    }
+}
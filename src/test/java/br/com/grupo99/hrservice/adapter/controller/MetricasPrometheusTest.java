@@ -0,0 +1,58 @@
+package br.com.grupo99.hrservice.adapter.controller;
+
+import br.com.grupo99.hrservice.config.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Confere que o scrape do Prometheus expõe as métricas de caso de uso,
+ * repositório, Hibernate e Hikari depois de uma requisição real.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureObservability
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@WithMockUser(username = "test", roles = "ADMIN")
+@DisplayName("Métricas expostas para o Prometheus")
+class MetricasPrometheusTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve expor timers de caso de uso e repositório com tags de baixa cardinalidade")
+    void testScrape() throws Exception {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId))
+                .andExpect(status().isNotFound());
+
+        // Act
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertTrue(scrape.contains("hr_servico_seconds_bucket{"), "histograma do caso de uso");
+        assertTrue(scrape.contains("method=\"buscarPorId\""));
+        assertTrue(scrape.contains("hr_repositorio_seconds_count{"));
+        assertTrue(scrape.contains("hibernate_"));
+        assertTrue(scrape.contains("hikaricp_connections"));
+        assertFalse(scrape.contains(pessoaId.toString()), "nenhuma tag com identificador");
+    }
+}
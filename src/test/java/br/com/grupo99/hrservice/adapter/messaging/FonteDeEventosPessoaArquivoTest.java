@@ -0,0 +1,93 @@
+package br.com.grupo99.hrservice.adapter.messaging;
+
+import br.com.grupo99.hrservice.domain.events.PessoaEvent;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent.Tipo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FonteDeEventosPessoaArquivo Tests")
+class FonteDeEventosPessoaArquivoTest {
+
+    @TempDir
+    private Path diretorio;
+
+    private ObjectMapper objectMapper;
+    private Path arquivo;
+    private FonteDeEventosPessoaArquivo fonte;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        arquivo = diretorio.resolve("eventos.jsonl");
+        fonte = new FonteDeEventosPessoaArquivo(objectMapper, arquivo);
+    }
+
+    @Test
+    @DisplayName("Deve entregar em lotes e reentregar o que não foi confirmado")
+    void testReceberEConfirmar() throws Exception {
+        // Arrange
+        PessoaEvent primeiro = evento();
+        PessoaEvent segundo = evento();
+        PessoaEvent terceiro = evento();
+        acrescentar(linha(primeiro) + linha(segundo) + "não é json\n" + linha(terceiro));
+
+        // Act & Assert
+        assertEquals(4, fonte.pendentes(), "linhas completas, inclusive a inválida");
+        assertEquals(List.of(primeiro, segundo), fonte.receber(2));
+        fonte.confirmar(1);
+        assertEquals(List.of(segundo, terceiro), fonte.receber(10));
+        fonte.confirmar(2);
+        assertEquals(List.of(), fonte.receber(10));
+        assertEquals(0, fonte.pendentes());
+    }
+
+    @Test
+    @DisplayName("Deve esperar a linha terminar antes de entregá-la")
+    void testLinhaIncompleta() throws Exception {
+        // Arrange
+        PessoaEvent evento = evento();
+        String json = linha(evento);
+        acrescentar(json.substring(0, 10));
+
+        // Act & Assert
+        assertEquals(List.of(), fonte.receber(10));
+        acrescentar(json.substring(10));
+        assertEquals(List.of(evento), fonte.receber(10));
+    }
+
+    @Test
+    @DisplayName("Não deve falhar enquanto o arquivo não existir")
+    void testArquivoInexistente() {
+        assertEquals(List.of(), fonte.receber(10));
+        assertEquals(0, fonte.pendentes());
+    }
+
+    private PessoaEvent evento() {
+        return new PessoaEvent(UUID.randomUUID(), UUID.randomUUID(), Tipo.PESSOA_INATIVADA,
+                LocalDateTime.of(2025, 1, 15, 10, 30));
+    }
+
+    private String linha(PessoaEvent evento) throws Exception {
+        return objectMapper.writeValueAsString(evento) + "\n";
+    }
+
+    private void acrescentar(String conteudo) throws Exception {
+        Files.writeString(arquivo, conteudo, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * StatementInspector de teste que registra todo SQL preparado pelo Hibernate.
+ * Ativado por
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector.
+ */
+public class ContadorDeStatements implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void zerar() {
+        STATEMENTS.clear();
+    }
+
+    public static int total() {
+        return STATEMENTS.size();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.application.service.FuncionarioApplicationService;
+import br.com.grupo99.hrservice.config.TestConfig;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Buscas concorrentes do mesmo pessoaId fora do cache: a primeira consulta é
+ * segurada até que todas as outras estejam aguardando, e só ela chega ao
+ * banco.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_busca_concorrente_db",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.grupo99.hrservice.adapter.repository.ContadorDeStatements"
+})
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Busca por ID com single-flight")
+class FuncionarioBuscaConcorrenteIntegracaoTest {
+
+    private static final int BUSCAS = 16;
+
+    @Autowired
+    private FuncionarioApplicationService funcionarioApplicationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private FuncionarioRepository funcionarioRepository;
+
+    @Test
+    @DisplayName("Deve emitir uma única consulta para buscas concorrentes do mesmo pessoaId")
+    void testUmaConsultaParaBuscasConcorrentes() throws Exception {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                VALUES (?, CURRENT_DATE, 'Oficina', 'Mecânico', 4500, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, pessoaId);
+        CountDownLatch liberar = new CountDownLatch(1);
+        doAnswer(invocacao -> {
+            liberar.await();
+            return invocacao.callRealMethod();
+        }).when(funcionarioRepository).findById(eq(pessoaId), eq(FuncionarioResponseDTO.class));
+        double coalescidasAntes = coalescidas();
+        ContadorDeStatements.zerar();
+        List<Future<FuncionarioResponseDTO>> resultados = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < BUSCAS; i++) {
+                resultados.add(executor.submit(() -> funcionarioApplicationService.buscarPorId(pessoaId)));
+            }
+            long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (coalescidas() - coalescidasAntes < BUSCAS - 1) {
+                assertTrue(System.nanoTime() < limite, "buscas não chegaram à carga em andamento");
+                Thread.sleep(1);
+            }
+            liberar.countDown();
+        }
+
+        // Assert
+        for (Future<FuncionarioResponseDTO> resultado : resultados) {
+            assertEquals(pessoaId, resultado.get().pessoaId());
+        }
+        verify(funcionarioRepository, times(1)).findById(eq(pessoaId), eq(FuncionarioResponseDTO.class));
+        assertEquals(1, ContadorDeStatements.total(),
+                () -> "Instruções emitidas: " + ContadorDeStatements.statements());
+    }
+
+    private double coalescidas() {
+        return meterRegistry.get("funcionarios.cache.coalescidas").counter().count();
+    }
+}
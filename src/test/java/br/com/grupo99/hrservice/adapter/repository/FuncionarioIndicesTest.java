@@ -0,0 +1,148 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca.Ordenacao;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Confere com EXPLAIN (H2) que o SQL gerado pelo Hibernate para a busca usa
+ * os índices declarados na entidade. No PostgreSQL os índices de setor/cargo
+ * são parciais (WHERE ativo), conforme db/migration: por isso o filtro de
+ * ativo precisa sair como literal, o que também é conferido aqui (o plano
+ * genérico no PostgreSQL fica em FuncionarioPostgresIntegracaoTest).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_indices_db",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.grupo99.hrservice.adapter.repository.ContadorDeStatements"
+})
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Índices de funcionarios")
+class FuncionarioIndicesTest {
+
+    private static final int TOTAL = 5_000;
+    private static final Pattern ATIVO_COMO_PARAMETRO = Pattern.compile("ativo\\s*=\\s*\\?",
+            Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @BeforeAll
+    void popularTabela() {
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                SELECT RANDOM_UUID(), DATEADD('DAY', -X, CURRENT_DATE),
+                       'Setor ' || MOD(X, 20), 'Cargo ' || MOD(X, 50), 1500 + MOD(X, 9000),
+                       MOD(X, 10) > 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, TOTAL);
+        jdbcTemplate.execute("ANALYZE TABLE funcionarios");
+    }
+
+    @Test
+    @DisplayName("Busca por setor e cargo de ativos usa idx_funcionarios_setor_cargo, com ativo literal")
+    void testSetorECargo() {
+        String sql = sqlDaBusca(new FuncionarioBusca("Setor 7", "Cargo 7", true, null, null,
+                Ordenacao.SETOR, false));
+
+        assertFalse(ATIVO_COMO_PARAMETRO.matcher(sql).find(), sql);
+        String plano = explain(sql, "Setor 7", "Cargo 7");
+        assertTrue(plano.contains("IDX_FUNCIONARIOS_SETOR_CARGO"), plano);
+    }
+
+    @Test
+    @DisplayName("Busca por cargo de ativos usa idx_funcionarios_cargo, com ativo literal")
+    void testCargo() {
+        String sql = sqlDaBusca(new FuncionarioBusca(null, "Cargo 7", true, null, null,
+                Ordenacao.CARGO, false));
+
+        assertFalse(ATIVO_COMO_PARAMETRO.matcher(sql).find(), sql);
+        String plano = explain(sql, "Cargo 7");
+        assertTrue(plano.contains("IDX_FUNCIONARIOS_CARGO"), plano);
+    }
+
+    @Test
+    @DisplayName("Busca de inativos também filtra com literal")
+    void testInativos() {
+        String sql = sqlDaBusca(new FuncionarioBusca("Setor 7", null, false, null, null,
+                Ordenacao.SETOR, false));
+
+        assertFalse(ATIVO_COMO_PARAMETRO.matcher(sql).find(), sql);
+    }
+
+    @Test
+    @DisplayName("Busca por intervalo de admissão usa idx_funcionarios_data_admissao")
+    void testIntervaloDeAdmissao() {
+        LocalDate ate = LocalDate.now();
+        LocalDate de = ate.minusDays(30);
+        String sql = sqlDaBusca(new FuncionarioBusca(null, null, null, de, ate,
+                Ordenacao.DATA_ADMISSAO, false));
+
+        String plano = explain(sql, Date.valueOf(de), Date.valueOf(ate));
+        assertTrue(plano.contains("IDX_FUNCIONARIOS_DATA_ADMISSAO"), plano);
+    }
+
+    @Test
+    @DisplayName("Não deve existir índice redundante sobre a chave primária")
+    void testSemIndiceRedundante() {
+        List<String> indices = jdbcTemplate.queryForList("""
+                SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES
+                WHERE TABLE_NAME = 'FUNCIONARIOS'
+                """, String.class);
+
+        assertFalse(indices.contains("IDX_PESSOA_ID"), indices::toString);
+    }
+
+    /**
+     * SQL que o Hibernate emitiu para a busca (uma única instrução).
+     */
+    private String sqlDaBusca(FuncionarioBusca busca) {
+        ContadorDeStatements.zerar();
+        funcionarioRepository.search(busca, 0, 20, FuncionarioResponseDTO.class);
+        assertEquals(1, ContadorDeStatements.total(), () -> ContadorDeStatements.statements().toString());
+        return ContadorDeStatements.statements().get(0);
+    }
+
+    /**
+     * EXPLAIN do SQL gerado com os filtros ligados na ordem em que aparecem;
+     * os parâmetros restantes são os de paginação.
+     */
+    private String explain(String sql, Object... filtros) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement ps) -> {
+            int parametros = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parametros; i++) {
+                ps.setObject(i, i <= filtros.length ? filtros[i - 1] : 20);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        });
+    }
+}
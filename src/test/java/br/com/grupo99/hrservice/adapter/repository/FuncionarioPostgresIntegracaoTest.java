@@ -0,0 +1,171 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.FuncionarioVersao;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca.Ordenacao;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL específico do PostgreSQL contra um PostgreSQL de verdade, com o esquema
+ * criado pelas migrations do Flyway (índices parciais inclusive). Pulado
+ * quando não há Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.grupo99.hrservice.adapter.repository.ContadorDeStatements"
+})
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Funcionários no PostgreSQL")
+class FuncionarioPostgresIntegracaoTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void popularTabela() {
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                SELECT gen_random_uuid(), CURRENT_DATE - x, 'Setor ' || x % 20, 'Cargo ' || x % 50,
+                       1500 + x % 9000, x % 10 > 0, now(), now()
+                FROM generate_series(1, 5000) AS x
+                """);
+        jdbcTemplate.execute("ANALYZE funcionarios");
+    }
+
+    @Test
+    @DisplayName("Plano genérico da busca de ativos usa o índice parcial de setor e cargo")
+    void testBuscaDeAtivosUsaIndiceParcial() {
+        // Arrange
+        ContadorDeStatements.zerar();
+
+        // Act
+        funcionarioRepository.search(new FuncionarioBusca("Setor 7", "Cargo 7", true, null, null,
+                Ordenacao.SETOR, false), 0, 20, FuncionarioResponseDTO.class);
+
+        // Assert
+        assertEquals(1, ContadorDeStatements.total(), () -> ContadorDeStatements.statements().toString());
+        String plano = planoGenerico(ContadorDeStatements.statements().get(0));
+        assertTrue(plano.contains("idx_funcionarios_setor_cargo"), plano);
+    }
+
+    @Test
+    @DisplayName("DELETE devolve a linha removida, grava a lápide e fecha a versão numa única instrução")
+    void testDeleteComReturning() {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> funcionarioRepository.save(new Funcionario(pessoaId,
+                LocalDate.of(2020, 1, 15), "Setor Removido", "Cargo Removido", new BigDecimal("4321.00"))));
+        ContadorDeStatements.zerar();
+
+        // Act
+        Optional<Funcionario> removido = transactionTemplate.execute(status -> funcionarioRepository.delete(pessoaId));
+
+        // Assert
+        assertEquals(1, ContadorDeStatements.total(), () -> ContadorDeStatements.statements().toString());
+        assertTrue(removido.isPresent());
+        assertEquals(pessoaId, removido.get().getPessoaId());
+        assertEquals("Setor Removido", removido.get().getSetor());
+        assertEquals(0, new BigDecimal("4321.00").compareTo(removido.get().getSalario()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios WHERE pessoa_id = ?", Integer.class, pessoaId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios_removidos WHERE pessoa_id = ?", Integer.class, pessoaId));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios_historico WHERE pessoa_id = ? AND valid_to = ?",
+                Integer.class, pessoaId, Timestamp.valueOf(FuncionarioVersao.SEM_FIM)));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios_historico WHERE pessoa_id = ?", Integer.class, pessoaId));
+    }
+
+    @Test
+    @DisplayName("DELETE de inexistente não devolve linha nem grava lápide")
+    void testDeleteInexistente() {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+
+        // Act
+        Optional<Funcionario> removido = transactionTemplate.execute(status -> funcionarioRepository.delete(pessoaId));
+
+        // Assert
+        assertTrue(removido.isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM funcionarios_removidos WHERE pessoa_id = ?", Integer.class, pessoaId));
+    }
+
+    /**
+     * EXPLAIN (GENERIC_PLAN) do SQL gerado: o plano que o PostgreSQL usa para
+     * um prepared statement reaproveitado, sem olhar os valores dos
+     * parâmetros. Um "ativo = $n" nunca casaria com o índice WHERE ativo.
+     */
+    private String planoGenerico(String sql) {
+        StringBuilder numerado = new StringBuilder();
+        int parametro = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numerado.append('$').append(++parametro);
+            } else {
+                numerado.append(c);
+            }
+        }
+        return jdbcTemplate.execute((ConnectionCallback<String>) conexao -> {
+            try (Statement statement = conexao.createStatement()) {
+                // Sem varredura sequencial, que numa tabela pequena sempre venceria
+                statement.execute("SET enable_seqscan = off");
+                StringBuilder plano = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numerado)) {
+                    while (rs.next()) {
+                        plano.append(rs.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+                return plano.toString();
+            }
+        });
+    }
+}
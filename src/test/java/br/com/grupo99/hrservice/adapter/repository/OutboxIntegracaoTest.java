@@ -0,0 +1,101 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.adapter.messaging.PublicadorDeEventosEmMemoria;
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.service.FuncionarioApplicationService;
+import br.com.grupo99.hrservice.application.service.OutboxApplicationService;
+import br.com.grupo99.hrservice.config.TestConfig;
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Outbox gravado na transação do caso de uso e esvaziado pelo relay.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Outbox transacional de eventos")
+class OutboxIntegracaoTest {
+
+    @Autowired
+    private FuncionarioApplicationService funcionarioApplicationService;
+
+    @Autowired
+    private OutboxApplicationService outboxApplicationService;
+
+    @Autowired
+    private PublicadorDeEventosEmMemoria publicador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        // Outros testes do mesmo contexto também gravam eventos
+        while (outboxApplicationService.publicarLote(100) > 0) {
+            // esvazia o outbox
+        }
+        publicador.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve publicar os eventos dos funcionários criados, em ordem, uma única vez")
+    void testRelayPublicaEventosCriados() {
+        // Arrange
+        UUID primeiro = UUID.randomUUID();
+        UUID segundo = UUID.randomUUID();
+        funcionarioApplicationService.criarFuncionario(requisicao(primeiro));
+        funcionarioApplicationService.criarFuncionario(requisicao(segundo));
+        assertEquals(2, pendentes());
+
+        // Act
+        int publicados = outboxApplicationService.publicarLote(100);
+
+        // Assert
+        assertEquals(2, publicados);
+        assertEquals(List.of(primeiro, segundo),
+                publicador.getPublicados().stream().map(EventoOutbox::getAgregadoId).toList());
+        assertTrue(publicador.getPublicados().get(0).getPayload().contains(primeiro.toString()));
+        assertEquals(0, pendentes());
+        assertEquals(0, outboxApplicationService.publicarLote(100));
+    }
+
+    @Test
+    @DisplayName("Não deve gravar evento quando a criação do funcionário falhar")
+    void testSemEventoQuandoCriacaoFalha() {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        funcionarioApplicationService.criarFuncionario(requisicao(pessoaId));
+
+        // Act
+        assertThrows(BusinessException.class,
+                () -> funcionarioApplicationService.criarFuncionario(requisicao(pessoaId)));
+
+        // Assert
+        assertEquals(1, pendentes());
+    }
+
+    private int pendentes() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_eventos", Integer.class);
+    }
+
+    private FuncionarioRequestDTO requisicao(UUID pessoaId) {
+        return new FuncionarioRequestDTO(pessoaId, LocalDate.now().minusMonths(3), "Oficina", "Mecânico",
+                new BigDecimal("4500.00"));
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.adapter.messaging.FonteDeEventosPessoaEmMemoria;
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService;
+import br.com.grupo99.hrservice.config.TestConfig;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent.Tipo;
+import br.com.grupo99.hrservice.infrastructure.scheduling.PessoaEventosConsumerJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consumo dos eventos do People Service pela fonte em memória, em lotes
+ * menores que a fila.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "pessoa.eventos.tamanho-lote=2")
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Consumidor de eventos do People Service")
+class PessoaEventosIntegracaoTest {
+
+    @Autowired
+    private FonteDeEventosPessoaEmMemoria fonte;
+
+    @Autowired
+    private PessoaEventosConsumerJob consumerJob;
+
+    @Autowired
+    private ResumoSalarialApplicationService resumoSalarialApplicationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve desativar e reativar funcionários, ignorar reentregas e manter o resumo conciliado")
+    void testConsumirEventos() {
+        // Arrange: funcionários inseridos direto na tabela entram no resumo
+        // pela reconciliação
+        UUID removida = UUID.randomUUID();
+        UUID reativada = UUID.randomUUID();
+        UUID semFuncionario = UUID.randomUUID();
+        inserir(removida, true);
+        inserir(reativada, false);
+        resumoSalarialApplicationService.reconciliar();
+        PessoaEvent remocao = evento(removida, Tipo.PESSOA_REMOVIDA);
+        fonte.publicar(remocao, evento(reativada, Tipo.PESSOA_REATIVADA),
+                evento(semFuncionario, Tipo.PESSOA_INATIVADA));
+
+        // Act
+        consumerJob.consumir();
+        fonte.publicar(remocao);
+        consumerJob.consumir();
+
+        // Assert
+        assertFalse(ativo(removida));
+        assertTrue(ativo(reativada));
+        assertEquals(0, fonte.pendentes());
+        assertEquals(1.0, meterRegistry.get("pessoa.eventos.duplicados").counter().count());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM eventos_processados WHERE evento_id = ?", Integer.class, remocao.eventoId()));
+        assertEquals(0, resumoSalarialApplicationService.reconciliar());
+    }
+
+    private boolean ativo(UUID pessoaId) {
+        return jdbcTemplate.queryForObject("SELECT ativo FROM funcionarios WHERE pessoa_id = ?", Boolean.class,
+                pessoaId);
+    }
+
+    private PessoaEvent evento(UUID pessoaId, Tipo tipo) {
+        return new PessoaEvent(UUID.randomUUID(), pessoaId, tipo, LocalDateTime.now());
+    }
+
+    private void inserir(UUID id, boolean ativo) {
+        jdbcTemplate.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at)
+                VALUES (?, CURRENT_DATE, 'Oficina', 'Mecânico', 4500, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, id, ativo);
+    }
+}
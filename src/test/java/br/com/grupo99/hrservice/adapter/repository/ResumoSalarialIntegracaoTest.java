@@ -0,0 +1,71 @@
+package br.com.grupo99.hrservice.adapter.repository;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.application.dto.ResumoSalarialDTO;
+import br.com.grupo99.hrservice.application.service.FuncionarioApplicationService;
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService;
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService.Agrupamento;
+import br.com.grupo99.hrservice.config.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deltas do resumo salarial no H2 (MERGE) conferidos pela reconciliação.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Resumo salarial mantido por deltas")
+class ResumoSalarialIntegracaoTest {
+
+    @Autowired
+    private FuncionarioApplicationService funcionarioApplicationService;
+
+    @Autowired
+    private ResumoSalarialApplicationService resumoSalarialApplicationService;
+
+    @Test
+    @DisplayName("Deve acompanhar criação, atualização, desativação e remoção sem divergir do GROUP BY")
+    void testDeltasBatemComReconciliacao() {
+        // Arrange: outros testes podem ter inserido funcionários direto na tabela
+        resumoSalarialApplicationService.reconciliar();
+        String setor = "Setor " + UUID.randomUUID();
+        UUID primeiro = UUID.randomUUID();
+        UUID segundo = UUID.randomUUID();
+        UUID terceiro = UUID.randomUUID();
+
+        // Act
+        funcionarioApplicationService.criarFuncionario(requisicao(primeiro, setor, "Mecânico", "4000.00"));
+        funcionarioApplicationService.criarFuncionario(requisicao(segundo, setor, "Mecânico", "5000.00"));
+        funcionarioApplicationService.criarFuncionario(requisicao(terceiro, setor, "Pintor", "3000.00"));
+        funcionarioApplicationService.atualizarFuncionario(primeiro, requisicao(primeiro, setor, "Pintor", "4200.00"),
+                null);
+        funcionarioApplicationService.desativarFuncionario(segundo, null);
+        funcionarioApplicationService.deletarFuncionario(terceiro);
+
+        // Assert
+        ResumoSalarialDTO resumo = resumoSalarialApplicationService.listar(Agrupamento.SETOR_CARGO).stream()
+                .filter(linha -> setor.equals(linha.setor()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Pintor", resumo.cargo());
+        assertEquals(1, resumo.quantidade());
+        assertEquals(0, new BigDecimal("4200.00").compareTo(resumo.totalSalario()));
+        assertEquals(0, resumoSalarialApplicationService.reconciliar());
+    }
+
+    private FuncionarioRequestDTO requisicao(UUID pessoaId, String setor, String cargo, String salario) {
+        return new FuncionarioRequestDTO(pessoaId, LocalDate.now().minusYears(1), setor, cargo,
+                new BigDecimal(salario));
+    }
+}
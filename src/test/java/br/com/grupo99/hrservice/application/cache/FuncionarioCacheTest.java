@@ -0,0 +1,225 @@
+package br.com.grupo99.hrservice.application.cache;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FuncionarioCache Tests")
+class FuncionarioCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UUID pessoaId;
+    private AtomicInteger cargas;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        pessoaId = UUID.randomUUID();
+        cargas = new AtomicInteger();
+    }
+
+    @AfterEach
+    void limparSincronizacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve invalidar somente após o commit da transação")
+    void testInvalidaAposCommit() {
+        // Arrange
+        FuncionarioCache cache = new FuncionarioCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofSeconds(5));
+        cache.get(pessoaId, loader(true));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.invalidarAposCommit(pessoaId);
+        cache.get(pessoaId, loader(true));
+        int cargasAntesDoCommit = cargas.get();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        cache.get(pessoaId, loader(true));
+
+        // Assert
+        assertEquals(1, cargasAntesDoCommit);
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    @DisplayName("Deve expirar consultas negativas antes das positivas")
+    void testTtlNegativo() throws InterruptedException {
+        // Arrange
+        FuncionarioCache cache = new FuncionarioCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofMillis(50));
+        UUID inexistente = UUID.randomUUID();
+
+        // Act
+        cache.get(pessoaId, loader(true));
+        cache.get(inexistente, loader(false));
+        Thread.sleep(100);
+        cache.get(pessoaId, loader(true));
+        Optional<FuncionarioResponseDTO> resultado = cache.get(inexistente, loader(false));
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        assertEquals(3, cargas.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "funcionarios").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Cargas concorrentes em virtual threads devem esperar a mesma carga sem fixar a carrier")
+    void testCargaConcorrenteSemPinning() {
+        // Arrange
+        FuncionarioCache cache = new FuncionarioCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofSeconds(5));
+        Function<UUID, Optional<FuncionarioResponseDTO>> loaderLento = id -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader(true).apply(id);
+        };
+        List<RecordedEvent> fixacoes = new CopyOnWriteArrayList<>();
+
+        // Act
+        try (RecordingStream jfr = new RecordingStream()) {
+            jfr.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            jfr.onEvent("jdk.VirtualThreadPinned", fixacoes::add);
+            jfr.startAsync();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 20; i++) {
+                    executor.submit(() -> cache.get(pessoaId, loaderLento));
+                }
+            }
+            jfr.stop();
+        }
+
+        // Assert
+        assertEquals(1, cargas.get());
+        assertTrue(fixacoes.isEmpty(), fixacoes::toString);
+    }
+
+    @Test
+    @DisplayName("Buscas concorrentes fora do cache devem compartilhar uma carga e o mesmo resultado")
+    void testSingleFlight() throws Exception {
+        // Arrange
+        FuncionarioCache cache = new FuncionarioCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofSeconds(5));
+        CountDownLatch liberar = new CountDownLatch(1);
+        Function<UUID, Optional<FuncionarioResponseDTO>> loaderBloqueado = id -> {
+            aguardar(liberar);
+            return loader(true).apply(id);
+        };
+        int buscas = 16;
+        List<Future<Optional<FuncionarioResponseDTO>>> resultados = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < buscas; i++) {
+                resultados.add(executor.submit(() -> cache.get(pessoaId, loaderBloqueado)));
+            }
+            aguardarCoalescidas(buscas - 1);
+            liberar.countDown();
+        }
+
+        // Assert
+        assertEquals(1, cargas.get());
+        FuncionarioResponseDTO primeiro = resultados.get(0).get().orElseThrow();
+        for (Future<Optional<FuncionarioResponseDTO>> resultado : resultados) {
+            assertSame(primeiro, resultado.get().orElseThrow());
+        }
+        assertEquals(buscas - 1, meterRegistry.get("funcionarios.cache.coalescidas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Falha da carga compartilhada deve chegar a todos e não ficar em cache")
+    void testSingleFlightComFalha() throws Exception {
+        // Arrange
+        FuncionarioCache cache = new FuncionarioCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofSeconds(5));
+        CountDownLatch liberar = new CountDownLatch(1);
+        IllegalStateException falha = new IllegalStateException("banco indisponível");
+        Function<UUID, Optional<FuncionarioResponseDTO>> loaderComFalha = id -> {
+            cargas.incrementAndGet();
+            aguardar(liberar);
+            throw falha;
+        };
+        int buscas = 8;
+        List<Future<Optional<FuncionarioResponseDTO>>> resultados = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < buscas; i++) {
+                resultados.add(executor.submit(() -> cache.get(pessoaId, loaderComFalha)));
+            }
+            aguardarCoalescidas(buscas - 1);
+            liberar.countDown();
+        }
+
+        // Assert
+        for (Future<Optional<FuncionarioResponseDTO>> resultado : resultados) {
+            ExecutionException erro = assertThrows(ExecutionException.class, resultado::get);
+            assertSame(falha, erro.getCause());
+        }
+        assertEquals(1, cargas.get());
+        assertTrue(cache.get(pessoaId, loader(true)).isPresent());
+        assertEquals(2, cargas.get());
+    }
+
+    private void aguardarCoalescidas(int esperadas) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("funcionarios.cache.coalescidas").counter().count() < esperadas) {
+            assertTrue(System.nanoTime() < limite, "buscas não chegaram à carga em andamento");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Function<UUID, Optional<FuncionarioResponseDTO>> loader(boolean existe) {
+        return id -> {
+            cargas.incrementAndGet();
+            if (!existe) {
+                return Optional.empty();
+            }
+            return Optional.of(new FuncionarioResponseDTO(id, LocalDate.now().minusYears(1), "Oficina",
+                    "Mecânico", new BigDecimal("5000.00"), true, LocalDateTime.now(), LocalDateTime.now(), 0L));
+        };
+    }
+}
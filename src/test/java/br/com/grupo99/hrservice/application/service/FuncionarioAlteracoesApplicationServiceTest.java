@@ -0,0 +1,161 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioAlteracaoDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioAlteracoesResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.exception.CursorExpiradoException;
+import br.com.grupo99.hrservice.domain.model.FuncionarioRemovido;
+import br.com.grupo99.hrservice.domain.repository.AlteracaoCursor;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRemovidoRepository;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FuncionarioAlteracoesApplicationService Tests")
+class FuncionarioAlteracoesApplicationServiceTest {
+
+    @Mock
+    private FuncionarioRepository funcionarioRepository;
+
+    @Mock
+    private FuncionarioRemovidoRepository funcionarioRemovidoRepository;
+
+    private FuncionarioAlteracoesApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        service = new FuncionarioAlteracoesApplicationService(funcionarioRepository, funcionarioRemovidoRepository,
+                Duration.ofSeconds(5), Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("Deve intercalar alterações e remoções por instante e cortar a página no tamanho pedido")
+    void testIntercalarPagina() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        FuncionarioResponseDTO primeiro = funcionario(base);
+        FuncionarioResponseDTO terceiro = funcionario(base.plusSeconds(2));
+        UUID removido = UUID.randomUUID();
+        when(funcionarioRepository.findAlteradosApos(isNull(), any(), eq(3), eq(FuncionarioResponseDTO.class)))
+                .thenReturn(List.of(primeiro, terceiro));
+        when(funcionarioRemovidoRepository.findApos(isNull(), any(), eq(3)))
+                .thenReturn(List.of(new FuncionarioRemovido(removido, base.plusSeconds(1))));
+
+        // Act
+        FuncionarioAlteracoesResponseDTO resposta = service.listarAlteracoes(null, 2);
+
+        // Assert
+        assertTrue(resposta.temMais());
+        assertEquals(2, resposta.tamanho());
+        assertEquals(primeiro.pessoaId(), resposta.alteracoes().get(0).pessoaId());
+        assertEquals(FuncionarioAlteracaoDTO.Tipo.REMOVIDO, resposta.alteracoes().get(1).tipo());
+        assertNull(resposta.alteracoes().get(1).funcionario());
+        assertEquals(base.plusSeconds(1) + "|" + removido, decodificar(resposta.proximoCursor()));
+    }
+
+    @Test
+    @DisplayName("Deve avançar o cursor até agora menos a margem quando o feed está em dia")
+    void testCursorAvancaSemAlteracoes() {
+        // Arrange
+        LocalDateTime antes = LocalDateTime.now().minusSeconds(5);
+
+        // Act
+        FuncionarioAlteracoesResponseDTO resposta = service.listarAlteracoes(null, null);
+
+        // Assert
+        assertFalse(resposta.temMais());
+        assertTrue(resposta.alteracoes().isEmpty());
+        ArgumentCaptor<LocalDateTime> ate = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(funcionarioRepository).findAlteradosApos(isNull(), ate.capture(), eq(501),
+                eq(FuncionarioResponseDTO.class));
+        assertFalse(ate.getValue().isBefore(antes));
+        assertEquals(ate.getValue() + "|ffffffff-ffff-ffff-ffff-ffffffffffff",
+                decodificar(resposta.proximoCursor()));
+    }
+
+    @Test
+    @DisplayName("Deve repassar o cursor recebido às duas consultas")
+    void testRepassarCursor() {
+        // Arrange
+        LocalDateTime alteradoEm = LocalDateTime.now().minusDays(1).withNano(0);
+        UUID pessoaId = UUID.randomUUID();
+        String cursor = codificar(alteradoEm + "|" + pessoaId);
+
+        // Act
+        service.listarAlteracoes(cursor, 10);
+
+        // Assert
+        AlteracaoCursor esperado = new AlteracaoCursor(alteradoEm, pessoaId);
+        verify(funcionarioRepository).findAlteradosApos(eq(esperado), any(), eq(11), eq(FuncionarioResponseDTO.class));
+        verify(funcionarioRemovidoRepository).findApos(eq(esperado), any(), eq(11));
+    }
+
+    @Test
+    @DisplayName("Deve recusar cursor anterior à retenção das remoções")
+    void testCursorExpirado() {
+        // Arrange
+        String cursor = codificar(LocalDateTime.now().minusDays(31) + "|" + UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(CursorExpiradoException.class, () -> service.listarAlteracoes(cursor, null));
+        verifyNoInteractions(funcionarioRepository, funcionarioRemovidoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar cursor malformado")
+    void testCursorInvalido() {
+        assertThrows(BusinessException.class, () -> service.listarAlteracoes("nao-e-um-cursor", null));
+        verify(funcionarioRepository, never()).findAlteradosApos(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar lápides além da retenção")
+    void testLimparRemocoes() {
+        // Arrange
+        when(funcionarioRemovidoRepository.deleteAntesDe(any())).thenReturn(4);
+
+        // Act
+        int removidas = service.limparRemocoes();
+
+        // Assert
+        assertEquals(4, removidas);
+        ArgumentCaptor<LocalDateTime> limite = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(funcionarioRemovidoRepository).deleteAntesDe(limite.capture());
+        assertTrue(limite.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+    }
+
+    private FuncionarioResponseDTO funcionario(LocalDateTime updatedAt) {
+        return new FuncionarioResponseDTO(UUID.randomUUID(), LocalDate.of(2024, 1, 10), "Oficina", "Mecânico",
+                new BigDecimal("4500.00"), true, updatedAt, updatedAt, 0L);
+    }
+
+    private static String codificar(String valor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodificar(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
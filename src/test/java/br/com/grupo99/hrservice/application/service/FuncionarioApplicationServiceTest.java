@@ -1,27 +1,43 @@
 package br.com.grupo99.hrservice.application.service;
 
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.application.dto.FuncionarioBuscaResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioPageResponseDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
 import br.com.grupo99.hrservice.application.dto.FuncionarioResponseDTO;
 import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.application.exception.PreconditionFailedException;
 import br.com.grupo99.hrservice.application.exception.ResourceNotFoundException;
 import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioBusca;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioCursor;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioFiltro;
 import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +47,16 @@ class FuncionarioApplicationServiceTest {
     @Mock
     private FuncionarioRepository funcionarioRepository;
 
+    @Mock
+    private ResumoSalarialApplicationService resumoSalarial;
+
+    @Mock
+    private OutboxApplicationService outbox;
+
+    @Spy
+    private FuncionarioCache funcionarioCache = new FuncionarioCache(new SimpleMeterRegistry(), 100,
+            Duration.ofMinutes(10), Duration.ofSeconds(5));
+
     @InjectMocks
     private FuncionarioApplicationService service;
 
@@ -69,6 +95,9 @@ class FuncionarioApplicationServiceTest {
         assertEquals("TI", response.setor());
         assertEquals("Desenvolvedor", response.cargo());
         verify(funcionarioRepository, times(1)).save(any(Funcionario.class));
+        verify(outbox).registrar(argThat(eventos -> eventos.size() == 1
+                && pessoaId.equals(eventos.get(0).getPessoaId())
+                && "FUNCIONARIO_CRIADO".equals(eventos.get(0).getEventType())));
     }
 
     @Test
@@ -86,15 +115,8 @@ class FuncionarioApplicationServiceTest {
     @DisplayName("Deve buscar funcionário por pessoaId com sucesso")
     void testBuscarPorIdComSucesso() {
         // Arrange
-        Funcionario funcionario = new Funcionario(
-                pessoaId,
-                LocalDate.now().minusMonths(12),
-                "TI",
-                "Desenvolvedor",
-                new BigDecimal("5000.00"));
-        setTimestamps(funcionario);
-
-        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.of(funcionario));
+        when(funcionarioRepository.findById(pessoaId, FuncionarioResponseDTO.class))
+                .thenReturn(Optional.of(novoDto(pessoaId)));
 
         // Act
         FuncionarioResponseDTO response = service.buscarPorId(pessoaId);
@@ -102,60 +124,332 @@ class FuncionarioApplicationServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals(pessoaId, response.pessoaId());
+        verify(funcionarioRepository, never()).findById(pessoaId);
     }
 
     @Test
     @DisplayName("Deve falhar ao buscar funcionário inexistente")
     void testBuscarPorIdNaoEncontrado() {
         // Arrange
-        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.empty());
+        when(funcionarioRepository.findById(pessoaId, FuncionarioResponseDTO.class)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> service.buscarPorId(pessoaId));
     }
 
     @Test
-    @DisplayName("Deve deletar funcionário com sucesso")
-    void testDeletarFuncionarioComSucesso() {
+    @DisplayName("Deve servir buscas repetidas do cache")
+    void testBuscarPorIdUsaCache() {
         // Arrange
-        Funcionario funcionario = new Funcionario(
+        when(funcionarioRepository.findById(pessoaId, FuncionarioResponseDTO.class))
+                .thenReturn(Optional.of(novoDto(pessoaId)));
+
+        // Act
+        service.buscarPorId(pessoaId);
+        FuncionarioResponseDTO response = service.buscarPorId(pessoaId);
+
+        // Assert
+        assertEquals(pessoaId, response.pessoaId());
+        verify(funcionarioRepository, times(1)).findById(pessoaId, FuncionarioResponseDTO.class);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar do banco após atualização")
+    void testAtualizarInvalidaCache() {
+        // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.of(funcionario));
+        when(funcionarioRepository.saveAndFlush(any(Funcionario.class))).thenReturn(funcionario);
+        when(funcionarioRepository.findById(pessoaId, FuncionarioResponseDTO.class))
+                .thenAnswer(invocation -> Optional.of(FuncionarioResponseDTO.fromDomain(funcionario)));
+        service.buscarPorId(pessoaId);
+
+        // Act
+        service.atualizarFuncionario(pessoaId, new FuncionarioRequestDTO(
                 pessoaId,
                 LocalDate.now().minusMonths(12),
-                "TI",
-                "Desenvolvedor",
-                new BigDecimal("5000.00"));
-        setTimestamps(funcionario);
+                "Oficina",
+                "Mecânico",
+                new BigDecimal("6000.00")), null);
+        FuncionarioResponseDTO response = service.buscarPorId(pessoaId);
+
+        // Assert
+        assertEquals("Oficina", response.setor());
+        verify(funcionarioRepository, times(2)).findById(pessoaId, FuncionarioResponseDTO.class);
+    }
+
+    @Test
+    @DisplayName("Deve mover o salário entre setores no resumo ao atualizar")
+    void testAtualizarRegistraMovimentoSalarial() {
+        // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.of(funcionario));
+        when(funcionarioRepository.saveAndFlush(any(Funcionario.class))).thenReturn(funcionario);
+
+        // Act
+        service.atualizarFuncionario(pessoaId, new FuncionarioRequestDTO(
+                pessoaId,
+                LocalDate.now().minusMonths(12),
+                "Oficina",
+                "Mecânico",
+                new BigDecimal("6000.00")), null);
 
+        // Assert
+        verify(resumoSalarial).registrar(
+                MovimentoSalarial.saida("TI", "Desenvolvedor", new BigDecimal("5000.00")),
+                new MovimentoSalarial("Oficina", "Mecânico", 1, new BigDecimal("6000.00")));
+    }
+
+    @Test
+    @DisplayName("Deve recusar atualização com versão desatualizada (If-Match)")
+    void testAtualizarComVersaoDesatualizada() {
+        // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        setVersao(funcionario, 2L);
         when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.of(funcionario));
 
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> service.atualizarFuncionario(pessoaId,
+                validRequestDTO, 1L));
+        verify(funcionarioRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(resumoSalarial);
+    }
+
+    @Test
+    @DisplayName("Deve responder a versão pelo cache sem consultar o banco")
+    void testBuscarVersaoEmCache() {
+        // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        setVersao(funcionario, 4L);
+        when(funcionarioRepository.findById(pessoaId, FuncionarioResponseDTO.class))
+                .thenReturn(Optional.of(FuncionarioResponseDTO.fromDomain(funcionario)));
+        service.buscarPorId(pessoaId);
+
+        // Act
+        Optional<Long> versao = service.buscarVersao(pessoaId);
+
+        // Assert
+        assertEquals(Optional.of(4L), versao);
+        verify(funcionarioRepository, never()).findVersao(any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar só a versão quando o funcionário não está em cache")
+    void testBuscarVersaoForaDoCache() {
+        // Arrange
+        when(funcionarioRepository.findVersao(pessoaId)).thenReturn(Optional.of(7L));
+
+        // Act
+        Optional<Long> versao = service.buscarVersao(pessoaId);
+
+        // Assert
+        assertEquals(Optional.of(7L), versao);
+        verify(funcionarioRepository, never()).findById(pessoaId, FuncionarioResponseDTO.class);
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor e indicar a próxima página")
+    void testListarTodosComProximaPagina() {
+        // Arrange
+        FuncionarioResponseDTO primeiro = novoDto(UUID.randomUUID());
+        FuncionarioResponseDTO segundo = novoDto(UUID.randomUUID());
+        FuncionarioResponseDTO excedente = novoDto(UUID.randomUUID());
+        FuncionarioFiltro filtro = new FuncionarioFiltro("TI", null, true);
+
+        when(funcionarioRepository.findPage(filtro, null, 3, FuncionarioResponseDTO.class))
+                .thenReturn(List.of(primeiro, segundo, excedente));
+        when(funcionarioRepository.findPage(eq(filtro), any(FuncionarioCursor.class), eq(3),
+                eq(FuncionarioResponseDTO.class)))
+                .thenReturn(List.of(excedente));
+
+        // Act
+        FuncionarioPageResponseDTO pagina = service.listarTodos(filtro, null, 2);
+        FuncionarioPageResponseDTO proxima = service.listarTodos(filtro, pagina.proximoCursor(), 2);
+
+        // Assert
+        assertEquals(2, pagina.conteudo().size());
+        assertNotNull(pagina.proximoCursor());
+        assertEquals(1, proxima.conteudo().size());
+        assertNull(proxima.proximoCursor());
+        verify(funcionarioRepository).findPage(filtro,
+                new FuncionarioCursor(segundo.createdAt(), segundo.pessoaId()), 3, FuncionarioResponseDTO.class);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página")
+    void testListarTodosLimitaTamanhoPagina() {
+        // Arrange
+        when(funcionarioRepository.findPage(any(), any(), anyInt(), eq(FuncionarioResponseDTO.class)))
+                .thenReturn(List.of());
+
+        // Act
+        service.listarTodos(FuncionarioFiltro.vazio(), null, 10_000);
+
+        // Assert
+        verify(funcionarioRepository).findPage(FuncionarioFiltro.vazio(), null,
+                FuncionarioApplicationService.TAMANHO_PAGINA_MAXIMO + 1, FuncionarioResponseDTO.class);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por página e indicar se há próxima")
+    void testBuscarComProximaPagina() {
+        // Arrange
+        FuncionarioBusca busca = novaBusca(LocalDate.now().minusYears(2), LocalDate.now());
+        when(funcionarioRepository.search(busca, 20, 11, FuncionarioResponseDTO.class))
+                .thenReturn(Stream.generate(() -> novoDto(UUID.randomUUID())).limit(11).toList());
+
+        // Act
+        FuncionarioBuscaResponseDTO resultado = service.buscar(busca, 2, 10);
+
+        // Assert
+        assertEquals(10, resultado.conteudo().size());
+        assertEquals(2, resultado.pagina());
+        assertTrue(resultado.temProxima());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar intervalo de admissão invertido")
+    void testBuscarIntervaloInvertido() {
+        // Arrange
+        FuncionarioBusca busca = novaBusca(LocalDate.now(), LocalDate.now().minusDays(1));
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> service.buscar(busca, null, null));
+        verify(funcionarioRepository, never()).search(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar página além do deslocamento máximo")
+    void testBuscarAlemDoDeslocamentoMaximo() {
+        // Arrange
+        FuncionarioBusca busca = novaBusca(null, null);
+        int pagina = FuncionarioApplicationService.DESLOCAMENTO_MAXIMO / 50 + 1;
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> service.buscar(busca, pagina, 50));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void testListarTodosCursorInvalido() {
+        // Act & Assert
+        assertThrows(BusinessException.class,
+                () -> service.listarTodos(FuncionarioFiltro.vazio(), "nao-e-um-cursor", null));
+    }
+
+    @Test
+    @DisplayName("Deve deletar funcionário com sucesso")
+    void testDeletarFuncionarioComSucesso() {
+        // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        when(funcionarioRepository.delete(pessoaId)).thenReturn(Optional.of(funcionario));
+
         // Act
         service.deletarFuncionario(pessoaId);
 
         // Assert
-        verify(funcionarioRepository, times(1)).deleteById(pessoaId);
+        verify(funcionarioRepository, times(1)).delete(pessoaId);
+        verify(funcionarioRepository, never()).findById(any());
+        verify(resumoSalarial).registrar(MovimentoSalarial.saida(funcionario));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao deletar funcionário inexistente")
+    void testDeletarFuncionarioInexistente() {
+        // Arrange
+        when(funcionarioRepository.delete(pessoaId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> service.deletarFuncionario(pessoaId));
     }
 
     @Test
     @DisplayName("Deve desativar funcionário com sucesso")
     void testDesativarFuncionarioComSucesso() {
         // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        funcionario.setAtivo(false);
+        when(funcionarioRepository.deactivate(pessoaId, null)).thenReturn(Optional.of(funcionario));
+
+        // Act
+        FuncionarioResponseDTO response = service.desativarFuncionario(pessoaId, null);
+
+        // Assert
+        assertNotNull(response);
+        assertFalse(response.ativo());
+        verify(funcionarioRepository, never()).findById(any());
+        verify(funcionarioRepository, never()).save(any(Funcionario.class));
+    }
+
+    @Test
+    @DisplayName("Deve devolver funcionário já inativo sem alterá-lo")
+    void testDesativarFuncionarioJaInativo() {
+        // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        funcionario.setAtivo(false);
+        when(funcionarioRepository.deactivate(pessoaId, null)).thenReturn(Optional.empty());
+        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.of(funcionario));
+
+        // Act
+        FuncionarioResponseDTO response = service.desativarFuncionario(pessoaId, null);
+
+        // Assert
+        assertFalse(response.ativo());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao desativar funcionário inexistente")
+    void testDesativarFuncionarioInexistente() {
+        // Arrange
+        when(funcionarioRepository.deactivate(pessoaId, null)).thenReturn(Optional.empty());
+        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> service.desativarFuncionario(pessoaId, null));
+    }
+
+    @Test
+    @DisplayName("Deve recusar desativação quando a versão mudou (If-Match)")
+    void testDesativarComVersaoDesatualizada() {
+        // Arrange
+        Funcionario funcionario = novoFuncionario(pessoaId);
+        setVersao(funcionario, 2L);
+        when(funcionarioRepository.deactivate(pessoaId, 1L)).thenReturn(Optional.empty());
+        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.of(funcionario));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> service.desativarFuncionario(pessoaId, 1L));
+        verifyNoInteractions(resumoSalarial);
+    }
+
+    private Funcionario novoFuncionario(UUID id) {
         Funcionario funcionario = new Funcionario(
-                pessoaId,
+                id,
                 LocalDate.now().minusMonths(12),
                 "TI",
                 "Desenvolvedor",
                 new BigDecimal("5000.00"));
         setTimestamps(funcionario);
+        return funcionario;
+    }
 
-        when(funcionarioRepository.findById(pessoaId)).thenReturn(Optional.of(funcionario));
-        when(funcionarioRepository.save(any(Funcionario.class))).thenReturn(funcionario);
+    private FuncionarioBusca novaBusca(LocalDate admitidoDe, LocalDate admitidoAte) {
+        return new FuncionarioBusca("Oficina", "Mecânico", true, admitidoDe, admitidoAte,
+                FuncionarioBusca.Ordenacao.DATA_ADMISSAO, false);
+    }
 
-        // Act
-        FuncionarioResponseDTO response = service.desativarFuncionario(pessoaId);
+    private FuncionarioResponseDTO novoDto(UUID id) {
+        return FuncionarioResponseDTO.fromDomain(novoFuncionario(id));
+    }
 
-        // Assert
-        assertNotNull(response);
-        assertFalse(response.ativo());
+    private void setVersao(Funcionario funcionario, long versao) {
+        try {
+            var versaoField = Funcionario.class.getDeclaredField("versao");
+            versaoField.setAccessible(true);
+            versaoField.set(funcionario, versao);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     private void setTimestamps(Funcionario funcionario) {
@@ -0,0 +1,143 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.application.dto.FuncionarioLoteItemDTO.Status;
+import br.com.grupo99.hrservice.application.dto.FuncionarioLoteResponseDTO;
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.domain.events.FuncionarioCriadoEvent;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FuncionarioLoteApplicationService Tests")
+class FuncionarioLoteApplicationServiceTest {
+
+    @Mock
+    private FuncionarioRepository funcionarioRepository;
+
+    @Mock
+    private ResumoSalarialApplicationService resumoSalarial;
+
+    @Mock
+    private OutboxApplicationService outbox;
+
+    private FuncionarioLoteApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        service = new FuncionarioLoteApplicationService(funcionarioRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new FuncionarioCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofSeconds(5)),
+                resumoSalarial, outbox);
+    }
+
+    @Test
+    @DisplayName("Deve classificar cada item e consultar duplicidade uma única vez")
+    void testCriarEmLoteComResultadoPorItem() {
+        // Arrange
+        UUID novo = UUID.randomUUID();
+        UUID existente = UUID.randomUUID();
+        List<FuncionarioRequestDTO> lote = List.of(
+                request(novo),
+                request(existente),
+                new FuncionarioRequestDTO(UUID.randomUUID(), LocalDate.now(), "", "Mecânico",
+                        new BigDecimal("3000.00")),
+                request(novo));
+
+        when(funcionarioRepository.findExistingPessoaIds(anyCollection())).thenReturn(Set.of(existente));
+
+        // Act
+        FuncionarioLoteResponseDTO response = service.criarEmLote(lote, false);
+
+        // Assert
+        assertEquals(1, response.criados());
+        assertEquals(2, response.duplicados());
+        assertEquals(1, response.invalidos());
+        assertEquals(List.of(Status.CRIADO, Status.DUPLICADO, Status.INVALIDO, Status.DUPLICADO),
+                response.itens().stream().map(item -> item.status()).toList());
+        verify(funcionarioRepository, times(1)).findExistingPessoaIds(anyCollection());
+        verify(funcionarioRepository, never()).existsByPessoaId(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Funcionario>> inseridos = ArgumentCaptor.forClass(List.class);
+        verify(funcionarioRepository).insertAll(inseridos.capture());
+        assertEquals(List.of(novo), inseridos.getValue().stream().map(Funcionario::getPessoaId).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FuncionarioCriadoEvent>> eventos = ArgumentCaptor.forClass(List.class);
+        verify(outbox).registrar(eventos.capture());
+        assertEquals(List.of(novo), eventos.getValue().stream().map(FuncionarioCriadoEvent::getPessoaId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar existentes quando upsert")
+    void testCriarEmLoteComUpsert() {
+        // Arrange
+        UUID existenteId = UUID.randomUUID();
+        Funcionario existente = new Funcionario(existenteId, LocalDate.now().minusYears(2), "TI", "Analista",
+                new BigDecimal("4000.00"));
+        FuncionarioRequestDTO atualizacao = new FuncionarioRequestDTO(existenteId, LocalDate.now().minusYears(2),
+                "Oficina", "Mecânico", new BigDecimal("4500.00"));
+
+        when(funcionarioRepository.findExistingPessoaIds(anyCollection())).thenReturn(Set.of(existenteId));
+        when(funcionarioRepository.findAllById(Set.of(existenteId))).thenReturn(List.of(existente));
+
+        // Act
+        FuncionarioLoteResponseDTO response = service.criarEmLote(List.of(atualizacao), true);
+
+        // Assert
+        assertEquals(1, response.atualizados());
+        assertEquals("Oficina", existente.getSetor());
+        assertEquals(new BigDecimal("4500.00"), existente.getSalario());
+        InOrder ordem = inOrder(funcionarioRepository);
+        ordem.verify(funcionarioRepository).updateAll(List.of(existente));
+        ordem.verify(funcionarioRepository).insertAll(Collections.emptyList());
+        verify(resumoSalarial).registrar(List.of(
+                MovimentoSalarial.saida("TI", "Analista", new BigDecimal("4000.00")),
+                new MovimentoSalarial("Oficina", "Mecânico", 1, new BigDecimal("4500.00"))));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do limite")
+    void testCriarEmLoteAcimaDoLimite() {
+        // Arrange
+        List<FuncionarioRequestDTO> lote = new ArrayList<>(
+                Collections.nCopies(FuncionarioLoteApplicationService.TAMANHO_MAXIMO_LOTE + 1,
+                        request(UUID.randomUUID())));
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> service.criarEmLote(lote, false));
+        verifyNoInteractions(funcionarioRepository);
+    }
+
+    private FuncionarioRequestDTO request(UUID pessoaId) {
+        return new FuncionarioRequestDTO(pessoaId, LocalDate.now().minusMonths(6), "Oficina", "Mecânico",
+                new BigDecimal("3000.00"));
+    }
+}
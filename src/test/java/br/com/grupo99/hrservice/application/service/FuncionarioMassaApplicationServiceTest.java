@@ -0,0 +1,183 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.application.dto.DesativacaoEmMassaRequestDTO;
+import br.com.grupo99.hrservice.application.dto.OperacaoEmMassaResponseDTO;
+import br.com.grupo99.hrservice.application.dto.ReajusteSalarialRequestDTO;
+import br.com.grupo99.hrservice.application.dto.TransferenciaSetorRequestDTO;
+import br.com.grupo99.hrservice.application.exception.BusinessException;
+import br.com.grupo99.hrservice.domain.events.FuncionarioAlteradoEvent;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioFiltro;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FuncionarioMassaApplicationService Tests")
+class FuncionarioMassaApplicationServiceTest {
+
+    @Mock
+    private FuncionarioRepository funcionarioRepository;
+
+    @Mock
+    private ResumoSalarialApplicationService resumoSalarial;
+
+    @Mock
+    private OutboxApplicationService outbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FuncionarioMassaApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        service = new FuncionarioMassaApplicationService(funcionarioRepository,
+                new FuncionarioCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofSeconds(5)),
+                resumoSalarial, outbox, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("Deve reajustar em lotes, com um UPDATE e uma transação por lote")
+    void testReajustarEmLotes() {
+        // Arrange
+        Funcionario primeiro = funcionario("Oficina", "1234.57");
+        Funcionario segundo = funcionario("Oficina", "2000.00");
+        Funcionario terceiro = funcionario("Oficina", "3000.00");
+        FuncionarioFiltro filtro = new FuncionarioFiltro("Oficina", null, true);
+        when(funcionarioRepository.findLoteParaAtualizacao(filtro, null, 2)).thenReturn(List.of(primeiro, segundo));
+        when(funcionarioRepository.findLoteParaAtualizacao(filtro, segundo.getPessoaId(), 2))
+                .thenReturn(List.of(terceiro));
+        when(funcionarioRepository.updateSalarioAll(anyCollection(), any())).thenReturn(2, 1);
+
+        // Act
+        OperacaoEmMassaResponseDTO response = service.reajustar(
+                new ReajusteSalarialRequestDTO("Oficina", " ", new BigDecimal("5")));
+
+        // Assert
+        assertEquals(3, response.afetados());
+        assertEquals(2, response.lotes());
+        verify(funcionarioRepository).updateSalarioAll(List.of(primeiro.getPessoaId(), segundo.getPessoaId()),
+                new BigDecimal("1.05"));
+        verify(transactionManager, times(2)).commit(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MovimentoSalarial>> movimentos = ArgumentCaptor.forClass(List.class);
+        verify(resumoSalarial, times(2)).registrar(movimentos.capture());
+        // 1234.57 * 1.05 = 1296.2985, arredondado como o ROUND do banco
+        assertEquals(new BigDecimal("1296.30"), movimentos.getAllValues().get(0).get(1).salario());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FuncionarioAlteradoEvent>> eventos = ArgumentCaptor.forClass(List.class);
+        verify(outbox, times(2)).registrar(eventos.capture());
+        FuncionarioAlteradoEvent evento = eventos.getAllValues().get(1).get(0);
+        assertEquals(FuncionarioAlteradoEvent.SALARIO_REAJUSTADO, evento.getEventType());
+        assertEquals(new BigDecimal("3000.00"), evento.getSalarioAnterior());
+        assertEquals(new BigDecimal("3150.00"), evento.getSalario());
+    }
+
+    @Test
+    @DisplayName("Deve transferir movendo o resumo só dos ativos e emitir evento para todos")
+    void testTransferir() {
+        // Arrange
+        Funcionario ativo = funcionario("Oficina", "4000.00");
+        Funcionario inativo = funcionario("Oficina", "3000.00");
+        inativo.setAtivo(false);
+        when(funcionarioRepository.findLoteParaAtualizacao(any(), any(), anyInt()))
+                .thenReturn(List.of(ativo, inativo), List.of());
+        when(funcionarioRepository.updateSetorAll(anyCollection(), eq("Funilaria"))).thenReturn(2);
+
+        // Act
+        OperacaoEmMassaResponseDTO response = service.transferir(
+                new TransferenciaSetorRequestDTO("Oficina", "Funilaria", null));
+
+        // Assert
+        assertEquals(2, response.afetados());
+        assertEquals(1, response.lotes());
+        verify(resumoSalarial).registrar(List.of(
+                MovimentoSalarial.saida(ativo),
+                new MovimentoSalarial("Funilaria", "Mecânico", 1, new BigDecimal("4000.00"))));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FuncionarioAlteradoEvent>> eventos = ArgumentCaptor.forClass(List.class);
+        verify(outbox).registrar(eventos.capture());
+        assertEquals(2, eventos.getValue().size());
+        assertEquals("Oficina", eventos.getValue().get(1).getSetorAnterior());
+        assertEquals("Funilaria", eventos.getValue().get(1).getSetor());
+    }
+
+    @Test
+    @DisplayName("Deve desativar os ativos do setor e parar no primeiro lote vazio")
+    void testDesativar() {
+        // Arrange
+        Funcionario primeiro = funcionario("Oficina", "4000.00");
+        Funcionario segundo = funcionario("Oficina", "5000.00");
+        FuncionarioFiltro filtro = new FuncionarioFiltro("Oficina", "Mecânico", true);
+        when(funcionarioRepository.findLoteParaAtualizacao(filtro, null, 2)).thenReturn(List.of(primeiro, segundo));
+        when(funcionarioRepository.findLoteParaAtualizacao(filtro, segundo.getPessoaId(), 2)).thenReturn(List.of());
+        when(funcionarioRepository.updateAtivoAll(anyCollection(), eq(false))).thenReturn(List.of(primeiro, segundo));
+
+        // Act
+        OperacaoEmMassaResponseDTO response = service.desativar(new DesativacaoEmMassaRequestDTO("Oficina",
+                "Mecânico"));
+
+        // Assert
+        assertEquals(2, response.afetados());
+        assertEquals(1, response.lotes());
+        verify(resumoSalarial).registrar(List.of(MovimentoSalarial.saida(primeiro), MovimentoSalarial.saida(segundo)));
+    }
+
+    @Test
+    @DisplayName("Deve manter os lotes confirmados e propagar a falha de um lote")
+    void testFalhaNoSegundoLote() {
+        // Arrange
+        Funcionario primeiro = funcionario("Oficina", "4000.00");
+        Funcionario segundo = funcionario("Oficina", "5000.00");
+        when(funcionarioRepository.findLoteParaAtualizacao(any(), any(), anyInt()))
+                .thenReturn(List.of(primeiro, segundo))
+                .thenThrow(new IllegalStateException("timeout de lock"));
+        when(funcionarioRepository.updateSetorAll(anyCollection(), any())).thenReturn(2);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> service.transferir(new TransferenciaSetorRequestDTO("Oficina", "Funilaria", null)));
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar transferência para o mesmo setor e reajuste nulo")
+    void testValidacoes() {
+        assertThrows(BusinessException.class,
+                () -> service.transferir(new TransferenciaSetorRequestDTO("Oficina", "Oficina", null)));
+        assertThrows(BusinessException.class,
+                () -> service.reajustar(new ReajusteSalarialRequestDTO(null, null, BigDecimal.ZERO)));
+        assertThrows(BusinessException.class,
+                () -> service.reajustar(new ReajusteSalarialRequestDTO(null, null, new BigDecimal("-100"))));
+        verifyNoInteractions(funcionarioRepository, transactionManager);
+    }
+
+    private Funcionario funcionario(String setor, String salario) {
+        return new Funcionario(UUID.randomUUID(), LocalDate.of(2022, 5, 2), setor, "Mecânico",
+                new BigDecimal(salario));
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.domain.events.FuncionarioCriadoEvent;
+import br.com.grupo99.hrservice.domain.events.PublicadorDeEventos;
+import br.com.grupo99.hrservice.domain.model.EventoOutbox;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxApplicationService Tests")
+class OutboxApplicationServiceTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private PublicadorDeEventos publicador;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new OutboxApplicationService(outboxRepository, publicador, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o evento serializado com o tipo e o agregado")
+    void testRegistrar() {
+        // Arrange
+        UUID pessoaId = UUID.randomUUID();
+        Funcionario funcionario = new Funcionario(pessoaId, LocalDate.of(2024, 3, 1), "Oficina", "Mecânico",
+                new BigDecimal("4500.00"));
+
+        // Act
+        service.registrar(List.of(FuncionarioCriadoEvent.de(funcionario)));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EventoOutbox>> gravados = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).appendAll(gravados.capture());
+        EventoOutbox evento = gravados.getValue().get(0);
+        assertEquals(pessoaId, evento.getAgregadoId());
+        assertEquals("FUNCIONARIO_CRIADO", evento.getTipo());
+        assertTrue(evento.getPayload().contains("\"pessoaId\":\"" + pessoaId + "\""));
+        assertTrue(evento.getPayload().contains("\"dataAdmissao\":\"2024-03-01T00:00:00\""));
+    }
+
+    @Test
+    @DisplayName("Deve publicar o lote, remover os eventos e registrar as métricas")
+    void testPublicarLote() {
+        // Arrange
+        List<EventoOutbox> eventos = List.of(evento(), evento());
+        when(outboxRepository.claimBatch(100)).thenReturn(eventos);
+
+        // Act
+        int publicados = service.publicarLote(100);
+
+        // Assert
+        assertEquals(2, publicados);
+        verify(publicador).publicar(eventos);
+        verify(outboxRepository).deleteAllById(List.of(eventos.get(0).getId(), eventos.get(1).getId()));
+        assertEquals(2.0, meterRegistry.get("outbox.publicados").counter().count());
+        assertEquals(1, meterRegistry.get("outbox.lote").summary().count());
+        assertEquals(2, meterRegistry.get("outbox.atraso").timer().count());
+    }
+
+    @Test
+    @DisplayName("Não deve chamar o publicador sem eventos pendentes")
+    void testPublicarLoteVazio() {
+        // Arrange
+        when(outboxRepository.claimBatch(100)).thenReturn(List.of());
+
+        // Act
+        int publicados = service.publicarLote(100);
+
+        // Assert
+        assertEquals(0, publicados);
+        verifyNoInteractions(publicador);
+        verify(outboxRepository, never()).deleteAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve manter os eventos no outbox quando a publicação falhar")
+    void testPublicarLoteComFalha() {
+        // Arrange
+        when(outboxRepository.claimBatch(100)).thenReturn(List.of(evento()));
+        doThrow(new IllegalStateException("broker indisponível")).when(publicador).publicar(any());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service.publicarLote(100));
+        verify(outboxRepository, never()).deleteAllById(anyCollection());
+        assertEquals(1.0, meterRegistry.get("outbox.falhas").counter().count());
+        assertEquals(0.0, meterRegistry.get("outbox.publicados").counter().count());
+    }
+
+    private EventoOutbox evento() {
+        return new EventoOutbox(UUID.randomUUID(), "FUNCIONARIO_CRIADO", "{}");
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.cache.FuncionarioCache;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent;
+import br.com.grupo99.hrservice.domain.events.PessoaEvent.Tipo;
+import br.com.grupo99.hrservice.domain.model.Funcionario;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.repository.EventoProcessadoRepository;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PessoaEventosApplicationService Tests")
+class PessoaEventosApplicationServiceTest {
+
+    @Mock
+    private FuncionarioRepository funcionarioRepository;
+
+    @Mock
+    private EventoProcessadoRepository eventoProcessadoRepository;
+
+    @Mock
+    private ResumoSalarialApplicationService resumoSalarial;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PessoaEventosApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new PessoaEventosApplicationService(funcionarioRepository, eventoProcessadoRepository,
+                resumoSalarial,
+                new FuncionarioCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(5)),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve descartar repetidos e aplicar o último evento de cada pessoa com um UPDATE por situação")
+    void testAplicarLote() {
+        // Arrange
+        UUID removida = UUID.randomUUID();
+        UUID reativada = UUID.randomUUID();
+        PessoaEvent jaProcessado = evento(UUID.randomUUID(), Tipo.PESSOA_INATIVADA);
+        PessoaEvent remocao = evento(removida, Tipo.PESSOA_REMOVIDA);
+        PessoaEvent inativacao = evento(reativada, Tipo.PESSOA_INATIVADA);
+        PessoaEvent reativacao = evento(reativada, Tipo.PESSOA_REATIVADA);
+        when(eventoProcessadoRepository.findProcessados(anyCollection()))
+                .thenReturn(Set.of(jaProcessado.eventoId()));
+        Funcionario desativado = funcionario(removida, "4000.00");
+        Funcionario ativado = funcionario(reativada, "3000.00");
+        when(funcionarioRepository.updateAtivoAll(List.of(removida), false)).thenReturn(List.of(desativado));
+        when(funcionarioRepository.updateAtivoAll(List.of(reativada), true)).thenReturn(List.of(ativado));
+
+        // Act
+        int alterados = service.aplicar(List.of(jaProcessado, remocao, inativacao, remocao, reativacao));
+
+        // Assert
+        assertEquals(2, alterados);
+        verify(eventoProcessadoRepository, times(1)).findProcessados(anyCollection());
+        verify(resumoSalarial).registrar(List.of(MovimentoSalarial.saida(desativado),
+                MovimentoSalarial.entrada(ativado)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> registrados = ArgumentCaptor.forClass(Collection.class);
+        verify(eventoProcessadoRepository).registrarAll(registrados.capture());
+        assertEquals(Set.of(remocao.eventoId(), inativacao.eventoId(), reativacao.eventoId()),
+                Set.copyOf(registrados.getValue()));
+        assertEquals(2.0, meterRegistry.get("pessoa.eventos.duplicados").counter().count());
+        assertEquals(5.0, meterRegistry.get("pessoa.eventos.lote").summary().totalAmount());
+        assertEquals(3, meterRegistry.get("pessoa.eventos.atraso").timer().count());
+    }
+
+    @Test
+    @DisplayName("Não deve alterar funcionários quando todo o lote já foi processado")
+    void testAplicarLoteReentregue() {
+        // Arrange
+        PessoaEvent evento = evento(UUID.randomUUID(), Tipo.PESSOA_REMOVIDA);
+        when(eventoProcessadoRepository.findProcessados(anyCollection())).thenReturn(Set.of(evento.eventoId()));
+
+        // Act
+        int alterados = service.aplicar(List.of(evento));
+
+        // Assert
+        assertEquals(0, alterados);
+        verify(funcionarioRepository, never()).updateAtivoAll(anyCollection(), eq(false));
+        verify(eventoProcessadoRepository, never()).registrarAll(any());
+        verifyNoInteractions(resumoSalarial);
+    }
+
+    private PessoaEvent evento(UUID pessoaId, Tipo tipo) {
+        return new PessoaEvent(UUID.randomUUID(), pessoaId, tipo, LocalDateTime.now().minusSeconds(5));
+    }
+
+    private Funcionario funcionario(UUID pessoaId, String salario) {
+        return new Funcionario(pessoaId, LocalDate.now().minusYears(1), "Oficina", "Mecânico",
+                new BigDecimal(salario));
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.grupo99.hrservice.application.service;
+
+import br.com.grupo99.hrservice.application.dto.ResumoSalarialDTO;
+import br.com.grupo99.hrservice.application.service.ResumoSalarialApplicationService.Agrupamento;
+import br.com.grupo99.hrservice.domain.model.MovimentoSalarial;
+import br.com.grupo99.hrservice.domain.model.ResumoSalarial;
+import br.com.grupo99.hrservice.domain.repository.FuncionarioHistoricoRepository;
+import br.com.grupo99.hrservice.domain.repository.ResumoSalarialRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumoSalarialApplicationService Tests")
+class ResumoSalarialApplicationServiceTest {
+
+    @Mock
+    private ResumoSalarialRepository resumoSalarialRepository;
+
+    @Mock
+    private FuncionarioHistoricoRepository funcionarioHistoricoRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResumoSalarialApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ResumoSalarialApplicationService(resumoSalarialRepository, funcionarioHistoricoRepository,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve somar movimentos do mesmo setor/cargo e ignorar os que se anulam")
+    void testRegistrarAgrupaMovimentos() {
+        // Act
+        service.registrar(List.of(
+                MovimentoSalarial.saida("Oficina", "Mecânico", new BigDecimal("4000.00")),
+                new MovimentoSalarial("Oficina", "Mecânico", 1, new BigDecimal("4500.00")),
+                MovimentoSalarial.saida("TI", "Analista", new BigDecimal("3000.00")),
+                new MovimentoSalarial("TI", "Analista", 1, new BigDecimal("3000.00")),
+                new MovimentoSalarial("TI", "Desenvolvedor", 1, new BigDecimal("7000.00"))));
+
+        // Assert
+        verify(resumoSalarialRepository).applyDelta(
+                new MovimentoSalarial("Oficina", "Mecânico", 0, new BigDecimal("500.00")));
+        verify(resumoSalarialRepository).applyDelta(
+                new MovimentoSalarial("TI", "Desenvolvedor", 1, new BigDecimal("7000.00")));
+        verifyNoMoreInteractions(resumoSalarialRepository);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por setor com média calculada")
+    void testListarPorSetor() {
+        // Arrange
+        when(resumoSalarialRepository.findAll()).thenReturn(List.of(
+                new ResumoSalarial("Oficina", "Mecânico", 3, new BigDecimal("12000.00")),
+                new ResumoSalarial("Oficina", "Pintor", 1, new BigDecimal("3500.00")),
+                new ResumoSalarial("TI", "Analista", 0, BigDecimal.ZERO)));
+
+        // Act
+        List<ResumoSalarialDTO> resumo = service.listar(Agrupamento.SETOR);
+
+        // Assert
+        assertEquals(List.of(new ResumoSalarialDTO("Oficina", null, 4, new BigDecimal("15500.00"),
+                new BigDecimal("3875.00"))), resumo);
+    }
+
+    @Test
+    @DisplayName("Deve corrigir o resumo quando diverge do GROUP BY")
+    void testReconciliarCorrigeDivergencias() {
+        // Arrange
+        List<ResumoSalarial> calculado = List.of(
+                new ResumoSalarial("Oficina", "Mecânico", 2, new BigDecimal("9000.00")),
+                new ResumoSalarial("TI", "Analista", 1, new BigDecimal("4000.00")));
+        when(resumoSalarialRepository.computeFromFuncionarios()).thenReturn(calculado);
+        when(resumoSalarialRepository.findAll()).thenReturn(List.of(
+                new ResumoSalarial("Oficina", "Mecânico", 2, new BigDecimal("9000")),
+                new ResumoSalarial("TI", "Analista", 2, new BigDecimal("8000.00")),
+                new ResumoSalarial("RH", "Analista", 1, new BigDecimal("3000.00"))));
+
+        // Act
+        int divergentes = service.reconciliar();
+
+        // Assert
+        assertEquals(2, divergentes);
+        verify(resumoSalarialRepository).lockForReconciliation();
+        verify(resumoSalarialRepository).replaceAll(calculado);
+        assertEquals(2.0, meterRegistry.get("resumo.salarial.divergencias").counter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve reescrever o resumo consistente")
+    void testReconciliarSemDivergencias() {
+        // Arrange
+        List<ResumoSalarial> resumo = List.of(
+                new ResumoSalarial("Oficina", "Mecânico", 2, new BigDecimal("9000.00")));
+        when(resumoSalarialRepository.computeFromFuncionarios()).thenReturn(resumo);
+        when(resumoSalarialRepository.findAll()).thenReturn(List.of(
+                new ResumoSalarial("Oficina", "Mecânico", 2, new BigDecimal("9000.00")),
+                new ResumoSalarial("TI", "Analista", 0, BigDecimal.ZERO)));
+
+        // Act
+        int divergentes = service.reconciliar();
+
+        // Assert
+        assertEquals(0, divergentes);
+        verify(resumoSalarialRepository, never()).replaceAll(any());
+    }
+}
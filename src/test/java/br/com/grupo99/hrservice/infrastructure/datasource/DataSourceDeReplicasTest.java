@@ -0,0 +1,165 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DataSourceDeReplicas Tests")
+class DataSourceDeReplicasTest {
+
+    private DataSource primario;
+    private DataSource replica1;
+    private DataSource replica2;
+    private Connection conexaoPrimario;
+    private Connection conexaoReplica1;
+    private Connection conexaoReplica2;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        primario = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        conexaoPrimario = mock(Connection.class);
+        conexaoReplica1 = mock(Connection.class);
+        conexaoReplica2 = mock(Connection.class);
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        when(replica1.getConnection()).thenReturn(conexaoReplica1);
+        when(replica2.getConnection()).thenReturn(conexaoReplica2);
+    }
+
+    @Test
+    @DisplayName("Deve distribuir as conexões entre as réplicas em rodízio")
+    void testRodizio() throws SQLException {
+        // Arrange
+        DataSourceDeReplicas dataSource = new DataSourceDeReplicas(primario, List.of(replica1, replica2),
+                Duration.ofSeconds(30));
+
+        // Act & Assert
+        assertSame(conexaoReplica1, dataSource.getConnection());
+        assertSame(conexaoReplica2, dataSource.getConnection());
+        assertSame(conexaoReplica1, dataSource.getConnection());
+        verifyNoInteractions(primario);
+    }
+
+    @Test
+    @DisplayName("Deve tirar do rodízio a réplica que falha durante a quarentena")
+    void testQuarentena() throws SQLException {
+        // Arrange
+        when(replica1.getConnection()).thenThrow(new SQLTransientConnectionException("fora do ar"));
+        DataSourceDeReplicas dataSource = new DataSourceDeReplicas(primario, List.of(replica1, replica2),
+                Duration.ofSeconds(30));
+
+        // Act
+        Connection primeira = dataSource.getConnection();
+        Connection segunda = dataSource.getConnection();
+        Connection terceira = dataSource.getConnection();
+
+        // Assert
+        assertSame(conexaoReplica2, primeira);
+        assertSame(conexaoReplica2, segunda);
+        assertSame(conexaoReplica2, terceira);
+        verify(replica1, times(1)).getConnection();
+        assertEquals(1, dataSource.getReplicasDisponiveis());
+    }
+
+    @Test
+    @DisplayName("Deve recorrer ao primário quando nenhuma réplica está disponível")
+    void testFalhaParaOPrimario() throws SQLException {
+        // Arrange
+        when(replica1.getConnection()).thenThrow(new SQLTransientConnectionException("fora do ar"));
+        DataSourceDeReplicas dataSource = new DataSourceDeReplicas(primario, List.of(replica1),
+                Duration.ofSeconds(30));
+
+        // Act & Assert
+        assertSame(conexaoPrimario, dataSource.getConnection());
+        assertSame(conexaoPrimario, dataSource.getConnection());
+        verify(replica1, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a réplica ao rodízio após a quarentena")
+    void testFimDaQuarentena() throws SQLException {
+        // Arrange
+        when(replica1.getConnection())
+                .thenThrow(new SQLTransientConnectionException("fora do ar"))
+                .thenReturn(conexaoReplica1);
+        DataSourceDeReplicas dataSource = new DataSourceDeReplicas(primario, List.of(replica1), Duration.ZERO);
+
+        // Act & Assert
+        assertSame(conexaoPrimario, dataSource.getConnection());
+        assertSame(conexaoReplica1, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Deve repassar credenciais explícitas à réplica do rodízio")
+    void testCredenciaisExplicitas() throws SQLException {
+        // Arrange
+        Connection conexaoComCredenciais = mock(Connection.class);
+        when(replica1.getConnection("leitor", "segredo")).thenReturn(conexaoComCredenciais);
+        when(primario.getConnection("leitor", "segredo")).thenReturn(conexaoPrimario);
+        DataSourceDeReplicas dataSource = new DataSourceDeReplicas(primario, List.of(replica1),
+                Duration.ofSeconds(30));
+
+        // Act
+        Connection daReplica = dataSource.getConnection("leitor", "segredo");
+        Connection doPrimario = LeituraNoPrimario.executar(() -> {
+            try {
+                return dataSource.getConnection("leitor", "segredo");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        assertSame(conexaoComCredenciais, daReplica);
+        assertSame(conexaoPrimario, doPrimario);
+        verify(replica1, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Não deve pôr em quarentena a réplica cujo pool não aceita credenciais explícitas")
+    void testCredenciaisNaoSuportadas() throws SQLException {
+        // Arrange
+        when(replica1.getConnection("leitor", "segredo")).thenThrow(new SQLFeatureNotSupportedException());
+        DataSourceDeReplicas dataSource = new DataSourceDeReplicas(primario, List.of(replica1),
+                Duration.ofSeconds(30));
+
+        // Act & Assert
+        assertThrows(SQLFeatureNotSupportedException.class, () -> dataSource.getConnection("leitor", "segredo"));
+        assertEquals(1, dataSource.getReplicasDisponiveis());
+        assertSame(conexaoReplica1, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário nas leituras marcadas com LeituraNoPrimario")
+    void testLeituraNoPrimario() throws SQLException {
+        // Arrange
+        DataSourceDeReplicas dataSource = new DataSourceDeReplicas(primario, List.of(replica1),
+                Duration.ofSeconds(30));
+
+        // Act
+        Connection conexao = LeituraNoPrimario.executar(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        assertSame(conexaoPrimario, conexao);
+        assertFalse(LeituraNoPrimario.ativa());
+        verifyNoInteractions(replica1);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DataSourceLimitado Tests")
+class DataSourceLimitadoTest {
+
+    private DataSource alvo;
+    private Connection conexao;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        alvo = mock(DataSource.class);
+        conexao = mock(Connection.class);
+        when(alvo.getConnection()).thenReturn(conexao);
+    }
+
+    @Test
+    @DisplayName("Deve falhar rápido quando todas as permissões estão em uso")
+    void testFalhaAposEsperaMaxima() throws SQLException {
+        // Arrange
+        DataSourceLimitado dataSource = new DataSourceLimitado(alvo, 1, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(alvo, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão uma única vez ao fechar a conexão")
+    void testCloseLiberaPermissao() throws SQLException {
+        // Arrange
+        DataSourceLimitado dataSource = new DataSourceLimitado(alvo, 2, Duration.ofMillis(50));
+        Connection primeira = dataSource.getConnection();
+
+        // Act
+        primeira.close();
+        primeira.close();
+
+        // Assert
+        assertEquals(2, dataSource.getPermissoesDisponiveis());
+        verify(conexao, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o pool falha")
+    void testFalhaDoPoolLiberaPermissao() throws SQLException {
+        // Arrange
+        when(alvo.getConnection()).thenThrow(new SQLTransientConnectionException("timeout do Hikari"));
+        DataSourceLimitado dataSource = new DataSourceLimitado(alvo, 1, Duration.ofMillis(50));
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.getPermissoesDisponiveis());
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import br.com.grupo99.hrservice.application.dto.FuncionarioRequestDTO;
+import br.com.grupo99.hrservice.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Roteamento de leitura com dois H2: o primário do contexto e uma "réplica"
+ * atrasada, em que o mesmo funcionário ainda está em outro setor.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_primario_db",
+        "datasource.replicas.urls=" + LeituraEmReplicaIntegracaoTest.URL_REPLICA,
+        "datasource.replicas.leitura-apos-escrita=PT1M"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Leituras em réplica")
+class LeituraEmReplicaIntegracaoTest {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:hr_replica_db;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""));
+
+    private UUID pessoaId;
+
+    @BeforeEach
+    void setup() {
+        replica.execute("""
+                CREATE TABLE IF NOT EXISTS funcionarios (
+                    pessoa_id UUID PRIMARY KEY, data_admissao DATE NOT NULL, setor VARCHAR(100) NOT NULL,
+                    cargo VARCHAR(100) NOT NULL, salario NUMERIC(38, 2) NOT NULL, ativo BOOLEAN NOT NULL,
+                    created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), versao BIGINT)
+                """);
+        pessoaId = UUID.randomUUID();
+        inserir(jdbcTemplate, pessoaId, "Primário");
+        inserir(replica, pessoaId, "Réplica");
+    }
+
+    @Test
+    @WithMockUser(username = "leitor", roles = "ADMIN")
+    @DisplayName("Deve listar a partir da réplica em transação somente leitura")
+    void testListarDaReplica() throws Exception {
+        assertInstanceOf(DataSourceRoteado.class, dataSource);
+
+        mockMvc.perform(get("/api/v1/funcionarios").param("tamanho", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + pessoaId + "')].setor").value("Réplica"));
+    }
+
+    @Test
+    @WithMockUser(username = "leitor-por-id", roles = "ADMIN")
+    @DisplayName("Deve carregar o cache por ID sempre do primário")
+    void testBuscarPorIdNoPrimario() throws Exception {
+        mockMvc.perform(get("/api/v1/funcionarios/{pessoaId}", pessoaId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.setor").value("Primário"));
+    }
+
+    @Test
+    @WithMockUser(username = "escritor", roles = "ADMIN")
+    @DisplayName("Deve ler do primário logo após uma escrita do mesmo usuário")
+    void testLeituraAposEscrita() throws Exception {
+        // Arrange
+        FuncionarioRequestDTO novo = new FuncionarioRequestDTO(UUID.randomUUID(), LocalDate.now().minusMonths(1),
+                "Oficina", "Mecânico", new BigDecimal("3000.00"));
+        mockMvc.perform(post("/api/v1/funcionarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(novo)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/funcionarios").param("tamanho", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + pessoaId + "')].setor").value("Primário"))
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + novo.pessoaId() + "')]").exists());
+    }
+
+    private static void inserir(JdbcTemplate destino, UUID id, String setor) {
+        destino.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at, versao)
+                VALUES (?, CURRENT_DATE, ?, 'Mecânico', 4500, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)
+                """, id, setor);
+    }
+}
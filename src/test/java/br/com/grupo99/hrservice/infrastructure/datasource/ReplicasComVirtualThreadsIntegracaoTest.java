@@ -0,0 +1,103 @@
+package br.com.grupo99.hrservice.infrastructure.datasource;
+
+import br.com.grupo99.hrservice.config.TestConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Réplicas e virtual threads ligadas juntas: o roteamento envolve o primário
+ * já limitado, e cada pool do Hikari (primário e réplica) tem o próprio
+ * semáforo, em vez de um só semáforo na frente do roteamento.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "spring.datasource.url=jdbc:h2:mem:hr_primario_virtual_db",
+        "spring.threads.virtual.enabled=true",
+        "datasource.replicas.urls=" + ReplicasComVirtualThreadsIntegracaoTest.URL_REPLICA,
+        "datasource.replicas.maximum-pool-size=3"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Réplicas com virtual threads")
+class ReplicasComVirtualThreadsIntegracaoTest {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:hr_replica_virtual_db;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""));
+
+    @Test
+    @DisplayName("Deve limitar cada pool do Hikari por trás do roteamento")
+    void testLimitadorPorPool() {
+        // Assert: Roteado -> Limitado -> Hikari no primário e em cada réplica
+        DataSourceRoteado roteado = assertInstanceOf(DataSourceRoteado.class, dataSource);
+        DataSourceLimitado primario = assertInstanceOf(DataSourceLimitado.class, roteado.getTargetDataSource());
+        assertInstanceOf(HikariDataSource.class, primario.getTargetDataSource());
+        assertEquals(10, primario.getPermissoesDisponiveis());
+
+        List<DataSource> replicas = roteado.getReplicas().getDataSources();
+        assertEquals(1, replicas.size());
+        DataSourceLimitado limitadoDaReplica = assertInstanceOf(DataSourceLimitado.class, replicas.get(0));
+        assertInstanceOf(HikariDataSource.class, limitadoDaReplica.getTargetDataSource());
+        assertEquals(3, limitadoDaReplica.getPermissoesDisponiveis());
+
+        assertNotNull(meterRegistry.find("datasource.limitador.disponiveis").tag("pool", "primario").gauge());
+        assertNotNull(meterRegistry.find("datasource.limitador.disponiveis").tag("pool", "replica-0").gauge());
+    }
+
+    @Test
+    @WithMockUser(username = "leitor-virtual", roles = "ADMIN")
+    @DisplayName("Deve ler da réplica pelo limitador dela e devolver a permissão ao fim")
+    void testLeituraPassaPeloLimitadorDaReplica() throws Exception {
+        // Arrange
+        replica.execute("""
+                CREATE TABLE IF NOT EXISTS funcionarios (
+                    pessoa_id UUID PRIMARY KEY, data_admissao DATE NOT NULL, setor VARCHAR(100) NOT NULL,
+                    cargo VARCHAR(100) NOT NULL, salario NUMERIC(38, 2) NOT NULL, ativo BOOLEAN NOT NULL,
+                    created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6), versao BIGINT)
+                """);
+        UUID pessoaId = UUID.randomUUID();
+        replica.update("""
+                INSERT INTO funcionarios
+                    (pessoa_id, data_admissao, setor, cargo, salario, ativo, created_at, updated_at, versao)
+                VALUES (?, CURRENT_DATE, 'Réplica', 'Mecânico', 4500, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)
+                """, pessoaId);
+        DataSourceRoteado roteado = (DataSourceRoteado) dataSource;
+        DataSourceLimitado limitadoDaReplica = (DataSourceLimitado) roteado.getReplicas().getDataSources().get(0);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/funcionarios").param("tamanho", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[?(@.pessoaId == '" + pessoaId + "')].setor").value("Réplica"));
+        // O pool da réplica só é acessível pelo limitador e só inicia na primeira leitura
+        assertNotNull(((HikariDataSource) limitadoDaReplica.getTargetDataSource()).getHikariPoolMXBean());
+        assertEquals(3, limitadoDaReplica.getPermissoesDisponiveis());
+    }
+}
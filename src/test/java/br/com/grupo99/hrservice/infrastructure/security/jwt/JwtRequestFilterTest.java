@@ -0,0 +1,135 @@
+package br.com.grupo99.hrservice.infrastructure.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtRequestFilter Tests")
+class JwtRequestFilterTest {
+
+    private static final String SECRET = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY3ODkwYWJjZGVmZw==";
+    private static final String OUTRO_SECRET = "MDk4NzY1NDMyMXp5eHd2dXRzcnFwb25tbGtqaWhnZmVkY2JhMDk4NzY1NA==";
+
+    private JwtUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtRequestFilter requestFilter;
+    private JwtAuthorizationFilter authorizationFilter;
+    private UUID pessoaId;
+
+    @BeforeEach
+    void setup() {
+        jwtUtil = spy(new JwtUtil(SECRET, 3600000));
+        meterRegistry = new SimpleMeterRegistry();
+        requestFilter = new JwtRequestFilter(new JwtTokenCache(jwtUtil, meterRegistry, true, 1000), meterRegistry);
+        authorizationFilter = new JwtAuthorizationFilter();
+        pessoaId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token uma única vez nos dois filtros")
+    void testTokenVerificadoUmaUnicaVez() throws Exception {
+        // Arrange
+        String token = gerarToken("CLIENTE");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/funcionarios/" + pessoaId);
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        clearInvocations(jwtUtil);
+
+        // Act
+        new MockFilterChain(new HttpServlet() {
+        }, requestFilter, authorizationFilter).doFilter(request, response);
+
+        // Assert
+        verify(jwtUtil, times(1)).parseClaims(anyString());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        JwtUserDetails userDetails = (JwtUserDetails) authentication.getPrincipal();
+        assertEquals(pessoaId, userDetails.getPessoaId());
+        assertEquals(pessoaId.toString(), request.getAttribute("pessoaId"));
+        assertEquals("CLIENTE", request.getAttribute("perfil"));
+        assertEquals(1, meterRegistry.get("hr.jwt.verificacao").tag("resultado", "valido").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve bloquear escrita de CLIENTE usando o principal do contexto")
+    void testClienteNaoPodeEscrever() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/v1/funcionarios/" + pessoaId);
+        request.addHeader("Authorization", "Bearer " + gerarToken("CLIENTE"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new MockFilterChain(new HttpServlet() {
+        }, requestFilter, authorizationFilter).doFilter(request, response);
+
+        // Assert
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve autenticar token assinado com outra chave")
+    void testTokenAssinadoComOutraChave() throws Exception {
+        // Arrange
+        JwtUtil outroEmissor = new JwtUtil(OUTRO_SECRET, 3600000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/funcionarios");
+        request.addHeader("Authorization", "Bearer " + gerarToken(outroEmissor, "ADMIN"));
+
+        // Act
+        requestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, meterRegistry.get("hr.jwt.verificacao").tag("resultado", "invalido").timer().count());
+    }
+
+    @Test
+    @DisplayName("Não deve autenticar token expirado")
+    void testTokenExpirado() throws Exception {
+        // Arrange
+        JwtUtil emissorExpirado = new JwtUtil(SECRET, -1000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/funcionarios");
+        request.addHeader("Authorization", "Bearer " + gerarToken(emissorExpirado, "ADMIN"));
+
+        // Act
+        requestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private String gerarToken(String perfil) {
+        return gerarToken(jwtUtil, perfil);
+    }
+
+    private String gerarToken(JwtUtil emissor, String perfil) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", pessoaId.toString());
+        claims.put("numeroDocumento", "12345678900");
+        claims.put("tipoPessoa", "FISICA");
+        claims.put("perfil", perfil);
+        return emissor.generateToken(claims,
+                JwtUserDetails.from("usuario@oficina.com", pessoaId.toString(), "12345678900", "FISICA", null,
+                        perfil));
+    }
+}
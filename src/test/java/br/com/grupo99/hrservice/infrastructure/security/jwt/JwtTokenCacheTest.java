@@ -0,0 +1,92 @@
+package br.com.grupo99.hrservice.infrastructure.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtTokenCache Tests")
+class JwtTokenCacheTest {
+
+    private static final String SECRET = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY3ODkwYWJjZGVmZw==";
+
+    private SimpleMeterRegistry meterRegistry;
+    private UUID pessoaId;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        pessoaId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token apenas no primeiro uso")
+    void testAcertoNaoVerificaNovamente() {
+        // Arrange
+        JwtUtil jwtUtil = spy(new JwtUtil(SECRET, 3600000));
+        JwtTokenCache cache = new JwtTokenCache(jwtUtil, meterRegistry, true, 1000);
+        String token = gerarToken(jwtUtil);
+        clearInvocations(jwtUtil);
+
+        // Act
+        JwtUserDetails primeiro = cache.resolve(token);
+        JwtUserDetails segundo = cache.resolve(token);
+
+        // Assert
+        assertSame(primeiro, segundo);
+        assertEquals(pessoaId, segundo.getPessoaId());
+        verify(jwtUtil, times(1)).parseClaims(anyString());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve devolver token após o claim exp")
+    void testNaoEstendeVidaDoToken() throws InterruptedException {
+        // Arrange
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 2000);
+        JwtTokenCache cache = new JwtTokenCache(jwtUtil, meterRegistry, true, 1000);
+        String token = gerarToken(jwtUtil);
+        long expiraEm = jwtUtil.parseClaims(token).getExpiration().getTime();
+        cache.resolve(token);
+
+        // Act
+        Thread.sleep(Math.max(0, expiraEm - System.currentTimeMillis()) + 50);
+
+        // Assert
+        assertThrows(RuntimeException.class, () -> cache.resolve(token));
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar token inválido")
+    void testTokenInvalidoNaoEhArmazenado() {
+        // Arrange
+        JwtTokenCache cache = new JwtTokenCache(new JwtUtil(SECRET, 3600000), meterRegistry, true, 1000);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> cache.resolve("nao.e.jwt"));
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    private String gerarToken(JwtUtil jwtUtil) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", pessoaId.toString());
+        claims.put("numeroDocumento", "12345678900");
+        claims.put("tipoPessoa", "FISICA");
+        claims.put("perfil", "ADMIN");
+        return jwtUtil.generateToken(claims,
+                JwtUserDetails.from("usuario@oficina.com", pessoaId.toString(), "12345678900", "FISICA", null,
+                        "ADMIN"));
+    }
+}
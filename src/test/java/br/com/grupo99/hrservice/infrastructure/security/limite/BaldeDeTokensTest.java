@@ -0,0 +1,84 @@
+package br.com.grupo99.hrservice.infrastructure.security.limite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BaldeDeTokens Tests")
+class BaldeDeTokensTest {
+
+    private static final long SEGUNDO = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Deve permitir a rajada inteira e depois um token por intervalo")
+    void testRajadaEReposicao() {
+        // Arrange
+        long agora = 1_000 * SEGUNDO;
+        BaldeDeTokens balde = new BaldeDeTokens(3, 2, agora);
+
+        // Act & Assert
+        assertEquals(0, balde.consumir(agora));
+        assertEquals(0, balde.consumir(agora));
+        assertEquals(0, balde.consumir(agora));
+        assertEquals(SEGUNDO / 2, balde.consumir(agora));
+        assertEquals(SEGUNDO / 4, balde.consumir(agora + SEGUNDO / 4));
+        assertEquals(0, balde.consumir(agora + SEGUNDO / 2));
+        assertTrue(balde.consumir(agora + SEGUNDO / 2) > 0);
+    }
+
+    @Test
+    @DisplayName("Deve voltar a ficar cheio após ocioso, sem acumular além da capacidade")
+    void testNaoAcumulaAlemDaCapacidade() {
+        // Arrange
+        long agora = -5 * SEGUNDO;
+        BaldeDeTokens balde = new BaldeDeTokens(2, 1, agora);
+        balde.consumir(agora);
+        balde.consumir(agora);
+
+        // Act
+        long depois = agora + 60 * SEGUNDO;
+        int permitidas = 0;
+        while (balde.consumir(depois) == 0) {
+            permitidas++;
+        }
+
+        // Assert
+        assertEquals(2, permitidas);
+    }
+
+    @Test
+    @DisplayName("Deve conceder exatamente a capacidade sob concorrência")
+    void testConcorrencia() throws Exception {
+        // Arrange
+        long agora = System.nanoTime();
+        BaldeDeTokens balde = new BaldeDeTokens(1_000, 0.001, agora);
+        AtomicInteger permitidas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        int threads = 8;
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    largada.await();
+                    for (int i = 0; i < 500; i++) {
+                        if (balde.consumir(agora) == 0) {
+                            permitidas.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            largada.countDown();
+        }
+
+        // Assert
+        assertEquals(1_000, permitidas.get());
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.grupo99.hrservice.infrastructure.security.limite;
+
+import br.com.grupo99.hrservice.infrastructure.security.jwt.JwtUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LimiteDeRequisicoesFilter Tests")
+class LimiteDeRequisicoesFilterTest {
+
+    private AtomicLong relogio;
+    private SimpleMeterRegistry meterRegistry;
+    private LimiteDeRequisicoesFilter filter;
+
+    @BeforeEach
+    void setup() {
+        relogio = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        LimitadorDeRequisicoes limitador = new LimitadorDeRequisicoes(
+                LimitadorDeRequisicoes.Limite.de("2:1"),
+                LimitadorDeRequisicoes.perfis("ADMIN=5:1"),
+                LimitadorDeRequisicoes.regras("GET /api/v1/funcionarios/export=1:0.1"),
+                Duration.ofMinutes(10), 1_000, relogio::get);
+        filter = new LimiteDeRequisicoesFilter(meterRegistry, true, limitador);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After quando o balde do perfil esvazia")
+    void testLimitePorPerfil() throws Exception {
+        // Arrange
+        autenticar(UUID.randomUUID(), "CLIENTE");
+
+        // Act
+        int primeira = executar("GET", "/api/v1/funcionarios").getStatus();
+        int segunda = executar("GET", "/api/v1/funcionarios").getStatus();
+        MockHttpServletResponse terceira = executar("GET", "/api/v1/funcionarios");
+
+        // Assert
+        assertEquals(200, primeira);
+        assertEquals(200, segunda);
+        assertEquals(429, terceira.getStatus());
+        assertEquals("1", terceira.getHeader("Retry-After"));
+        assertEquals(1, meterRegistry.get("hr.limite.rejeicoes")
+                .tag("perfil", "CLIENTE").tag("regra", "geral").counter().count());
+
+        relogio.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(200, executar("GET", "/api/v1/funcionarios").getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a regra do endpoint além do balde do perfil")
+    void testLimitePorEndpoint() throws Exception {
+        // Arrange
+        autenticar(UUID.randomUUID(), "ADMIN");
+
+        // Act
+        int primeira = executar("GET", "/api/v1/funcionarios/export").getStatus();
+        MockHttpServletResponse segunda = executar("GET", "/api/v1/funcionarios/export");
+
+        // Assert
+        assertEquals(200, primeira);
+        assertEquals(429, segunda.getStatus());
+        assertEquals("10", segunda.getHeader("Retry-After"));
+        assertEquals(200, executar("GET", "/api/v1/funcionarios").getStatus());
+        assertEquals(200, executar("POST", "/api/v1/funcionarios/export").getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve manter baldes independentes por usuário e ignorar requisições sem principal")
+    void testBaldesPorUsuario() throws Exception {
+        // Arrange
+        autenticar(UUID.randomUUID(), "CLIENTE");
+        executar("GET", "/api/v1/funcionarios");
+        executar("GET", "/api/v1/funcionarios");
+
+        // Act
+        autenticar(UUID.randomUUID(), "CLIENTE");
+        int outroUsuario = executar("GET", "/api/v1/funcionarios").getStatus();
+        SecurityContextHolder.clearContext();
+        int anonimo = executar("GET", "/api/v1/funcionarios").getStatus();
+
+        // Assert
+        assertEquals(200, outroUsuario);
+        assertEquals(200, anonimo);
+        assertEquals(2, meterRegistry.get("hr.limite.baldes").gauge().value());
+    }
+
+    private void autenticar(UUID pessoaId, String perfil) {
+        JwtUserDetails userDetails = JwtUserDetails.from("usuario@oficina.com", pessoaId.toString(),
+                "12345678900", "FISICA", null, perfil);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private MockHttpServletResponse executar(String metodo, String caminho) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, caminho);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                // Requisição atendida: 200
+            }
+        }, filter).doFilter(request, response);
+        return response;
+    }
+}